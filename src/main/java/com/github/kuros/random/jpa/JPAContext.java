@@ -1,6 +1,7 @@
 package com.github.kuros.random.jpa;
 
 import com.github.kuros.random.jpa.persistor.model.ResultMap;
+import com.github.kuros.random.jpa.types.CompiledPlan;
 import com.github.kuros.random.jpa.types.CreationPlan;
 import com.github.kuros.random.jpa.types.DeletionOrder;
 import com.github.kuros.random.jpa.types.Entity;
@@ -26,10 +27,27 @@ public interface JPAContext {
 
     CreationPlan create(Entity... entities);
 
+    CompiledPlan compile(Plan plan);
+
+    CreationPlan create(CompiledPlan compiledPlan);
+
     ResultMap persist(CreationPlan creationPlan);
 
     ResultMap createAndPersist(Entity... entities);
 
+    ResultMap createAndPersist(CompiledPlan compiledPlan);
+
+    /**
+     * Persists the entities without building a creation plan or keeping the persisted objects. The persistence
+     * context is flushed and cleared periodically, so memory stays bounded for very large counts.
+     * <p>
+     * The clear runs on the context's own EntityManager and detaches every entity it manages, including entities
+     * loaded by the caller before this call. Parents and pre-loaded entities reused by the plan are re-attached.
+     *
+     * @return number of persisted entities
+     */
+    long createAndPersistStreaming(Entity... entities);
+
     <T, V> DeletionOrder getDeletionOrder(Class<T> type, V... ids);
 
     void remove(DeletionOrder deletionOrder);
@@ -39,4 +57,16 @@ public interface JPAContext {
     void removeAll();
 
     <T, V> void remove(Class<T> type, V... ids);
+
+    /**
+     * Reloads the foreign keys from the database, and the column metadata of the tables whose foreign keys changed.
+     * Not supported for contexts created with a schema snapshot or a shared schema.
+     */
+    void refreshSchema();
+
+    /**
+     * Same as {@link #refreshSchema()}, also reloading the column metadata of the given types, for tables whose
+     * columns changed without a change to their foreign keys.
+     */
+    void refreshSchema(Class<?>... types);
 }
@@ -1,6 +1,11 @@
 package com.github.kuros.random.jpa;
 
 import com.github.kuros.random.jpa.cache.Cache;
+import com.github.kuros.random.jpa.cache.CompiledSchema;
+import com.github.kuros.random.jpa.cache.CompiledSchemaRegistry;
+import com.github.kuros.random.jpa.cache.SchemaRefresher;
+import com.github.kuros.random.jpa.cache.SchemaSnapshot;
+import com.github.kuros.random.jpa.cache.SchemaSnapshotStore;
 import com.github.kuros.random.jpa.cache.TriggerCache;
 import com.github.kuros.random.jpa.definition.CyclicValidator;
 import com.github.kuros.random.jpa.definition.HierarchyGenerator;
@@ -13,10 +18,15 @@ import com.github.kuros.random.jpa.mapper.Relation;
 import com.github.kuros.random.jpa.mapper.RelationCreator;
 import com.github.kuros.random.jpa.metamodel.MetaModelProvider;
 import com.github.kuros.random.jpa.metamodel.MetaModelProviderImpl;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
 import com.github.kuros.random.jpa.random.generator.Generator;
+import com.github.kuros.random.jpa.resolver.CreationOrderStrategy;
 import com.github.kuros.random.jpa.types.Trigger;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -49,6 +59,13 @@ public final class JPAContextFactory {
     private List<Before> preconditions;
     private List<Trigger<?>> triggers;
     private Set<Class<?>> skipTruncation;
+    private SchemaSnapshotStore schemaSnapshotStore;
+    private String schemaVersion;
+    private EntityManagerFactory parallelEntityManagerFactory;
+    private boolean sharedSchema;
+    private boolean lazyMetadata;
+    private CreationOrderStrategy creationOrderStrategy;
+    private boolean sharedParents;
 
     public static JPAContextFactory newInstance(final Database database, final EntityManager entityManager) {
         return new JPAContextFactory(database, entityManager);
@@ -62,6 +79,7 @@ public final class JPAContextFactory {
         this.dependencies = Dependencies.newInstance();
         this.triggers = new ArrayList<>();
         this.skipTruncation = new HashSet<>();
+        this.creationOrderStrategy = CreationOrderStrategy.DEPTH_PROPAGATION;
     }
 
     public JPAContextFactory with(final Dependencies customDependencies) {
@@ -102,22 +120,74 @@ public final class JPAContextFactory {
         return this;
     }
 
+    /**
+     * Reuses the database metadata stored in the file while the entities and the schema version are unchanged.
+     * The database itself is not inspected, so the version must change with every migration of the schema.
+     */
+    public JPAContextFactory withSchemaSnapshot(final File snapshotFile, final String schemaVersionValue) {
+        if (schemaVersionValue == null || schemaVersionValue.trim().isEmpty()) {
+            throw new RandomJPAException("Illegal Argument: schema version is required for schema snapshot");
+        }
+
+        this.schemaSnapshotStore = SchemaSnapshotStore.newInstance(snapshotFile);
+        this.schemaVersion = schemaVersionValue;
+        return this;
+    }
+
+    public JPAContextFactory withParallelInitialization(final EntityManagerFactory entityManagerFactory) {
+        this.parallelEntityManagerFactory = entityManagerFactory;
+        return this;
+    }
+
+    public JPAContextFactory withLazyMetadataLoading() {
+        this.lazyMetadata = true;
+        return this;
+    }
+
+    public JPAContextFactory withCreationOrderStrategy(final CreationOrderStrategy strategy) {
+        this.creationOrderStrategy = strategy;
+        return this;
+    }
+
+    public JPAContextFactory withSharedParents() {
+        this.sharedParents = true;
+        return this;
+    }
+
+    public JPAContextFactory withSharedSchema() {
+        this.sharedSchema = true;
+        return this;
+    }
+
     public JPAContext generate() {
         final Cache cache = getCache();
-        return JPAContextImpl.newInstance(cache, generator);
+        return JPAContextImpl.newInstance(cache, generator, creationOrderStrategy, sharedParents);
     }
 
     private Cache getCache() {
-        final Cache cache = Cache
-                .create(database, entityManager)
+        final Cache cache = sharedSchema ? getSharedCache() : compileCache();
+        return cache
                 .with(TriggerCache.getInstance(triggers))
                 .withSkipTruncations(skipTruncation);
+    }
 
+    private Cache getSharedCache() {
+        final CompiledSchemaRegistry.Key key = CompiledSchemaRegistry.key(database, dependencies.getLinks(),
+                dependencies.getIgnoreLinks(), triggers, preconditions);
+        final CompiledSchema schema = CompiledSchemaRegistry.get(entityManager.getEntityManagerFactory(), key,
+                () -> CompiledSchema.newInstance(compileCache()));
+        return Cache.create(schema, entityManager);
+    }
+
+    private Cache compileCache() {
+        final Cache cache = createCache();
+
+        final List<ForeignKeyRelation> foreignKeyRelations = cache.getRelationshipProvider().getForeignKeyRelations();
         final MetaModelProvider metaModelProvider = new MetaModelProviderImpl(cache);
         final List<Relation> relations = RelationCreator
                 .from(metaModelProvider)
                 .with(dependencies)
-                .with(cache.getRelationshipProvider())
+                .with(SnapshotRelationshipProvider.newInstance(foreignKeyRelations))
                 .generate();
 
         final HierarchyGraph hierarchyGraph = createHierarchyGraph(relations);
@@ -125,9 +195,34 @@ public final class JPAContextFactory {
         detectCyclicDependency(hierarchyGraph);
 
         cache.with(hierarchyGraph);
+        if (schemaSnapshotStore == null && !sharedSchema) {
+            cache.with(SchemaRefresher.newInstance(foreignKeyRelations, dependencies.getIgnoreLinks()));
+        }
         return cache;
     }
 
+    private Cache createCache() {
+        if (schemaSnapshotStore == null) {
+            return loadCache();
+        }
+
+        final String fingerprint = SchemaSnapshot.fingerprint(database, entityManager, schemaVersion);
+        SchemaSnapshot snapshot = schemaSnapshotStore.load(fingerprint);
+        if (snapshot == null) {
+            snapshot = SchemaSnapshot.capture(fingerprint, loadCache());
+            schemaSnapshotStore.save(snapshot);
+        }
+
+        return Cache.create(database, entityManager, snapshot);
+    }
+
+    private Cache loadCache() {
+        if (parallelEntityManagerFactory == null) {
+            return Cache.create(database, entityManager, lazyMetadata);
+        }
+        return Cache.createInParallel(database, entityManager, parallelEntityManagerFactory, lazyMetadata);
+    }
+
     private void addPreconditions(final HierarchyGraph hierarchyGraph) {
         for (Before precondition : preconditions) {
             for (Class<?> aClass : precondition.getToClasses()) {
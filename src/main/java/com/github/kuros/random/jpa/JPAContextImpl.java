@@ -3,35 +3,47 @@ package com.github.kuros.random.jpa;
 import com.github.kuros.random.jpa.cache.Cache;
 import com.github.kuros.random.jpa.cleanup.Cleaner;
 import com.github.kuros.random.jpa.cleanup.CleanerImpl;
+import com.github.kuros.random.jpa.definition.CompactGraph;
 import com.github.kuros.random.jpa.definition.HierarchyGraph;
 import com.github.kuros.random.jpa.definition.MinimumHierarchyGenerator;
+import com.github.kuros.random.jpa.definition.TableNode;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.mapper.Relation;
 import com.github.kuros.random.jpa.persistor.EntityPersistorImpl;
 import com.github.kuros.random.jpa.persistor.Persistor;
 import com.github.kuros.random.jpa.persistor.model.ResultMap;
 import com.github.kuros.random.jpa.persistor.model.ResultMapImpl;
+import com.github.kuros.random.jpa.random.CompiledPopulators;
 import com.github.kuros.random.jpa.random.Randomize;
 import com.github.kuros.random.jpa.random.RandomizeImpl;
 import com.github.kuros.random.jpa.random.generator.Generator;
 import com.github.kuros.random.jpa.random.generator.RandomGenerator;
+import com.github.kuros.random.jpa.resolver.CreationOrderCache;
 import com.github.kuros.random.jpa.resolver.CreationOrderResolver;
-import com.github.kuros.random.jpa.resolver.CreationOrderResolverImpl;
+import com.github.kuros.random.jpa.resolver.CreationOrderStrategy;
 import com.github.kuros.random.jpa.resolver.PersistedEntityResolver;
-import com.github.kuros.random.jpa.types.AttributeIndexValue;
-import com.github.kuros.random.jpa.types.AttributeValue;
-import com.github.kuros.random.jpa.types.ClassIndex;
+import com.github.kuros.random.jpa.types.CompiledPlan;
 import com.github.kuros.random.jpa.types.CreationOrder;
 import com.github.kuros.random.jpa.types.CreationPlan;
 import com.github.kuros.random.jpa.types.CreationPlanImpl;
 import com.github.kuros.random.jpa.types.DeletionOrder;
 import com.github.kuros.random.jpa.types.Entity;
 import com.github.kuros.random.jpa.types.EntityHelper;
+import com.github.kuros.random.jpa.types.Node;
+import com.github.kuros.random.jpa.types.ParentDistribution;
 import com.github.kuros.random.jpa.types.Plan;
 import com.github.kuros.random.jpa.util.MergeUtil;
 import com.github.kuros.random.jpa.v1.resolver.CreationPlanResolver;
+import com.github.kuros.random.jpa.v1.resolver.NodeLayout;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -52,16 +64,36 @@ import java.util.List;
 public final class JPAContextImpl implements JPAContext {
 
     private RandomGenerator generator;
+    private CompiledPopulators populators;
     private Cache cache;
+    private CreationOrderStrategy creationOrderStrategy;
+    private boolean sharedParents;
 
-    private JPAContextImpl(final Cache cache, final Generator generator) {
+    private JPAContextImpl(final Cache cache, final Generator generator, final CreationOrderStrategy creationOrderStrategy,
+                           final boolean sharedParents) {
         this.generator = RandomGenerator.newInstance(cache, generator);
+        this.populators = CompiledPopulators.newInstance(cache, this.generator);
         this.cache = cache;
+        this.creationOrderStrategy = creationOrderStrategy;
+        this.sharedParents = sharedParents;
     }
 
     public static JPAContext newInstance(final Cache cache,
                                          final Generator generator) {
-        return new JPAContextImpl(cache, generator);
+        return newInstance(cache, generator, CreationOrderStrategy.DEPTH_PROPAGATION);
+    }
+
+    public static JPAContext newInstance(final Cache cache,
+                                         final Generator generator,
+                                         final CreationOrderStrategy creationOrderStrategy) {
+        return newInstance(cache, generator, creationOrderStrategy, false);
+    }
+
+    public static JPAContext newInstance(final Cache cache,
+                                         final Generator generator,
+                                         final CreationOrderStrategy creationOrderStrategy,
+                                         final boolean sharedParents) {
+        return new JPAContextImpl(cache, generator, creationOrderStrategy, sharedParents);
     }
 
     @Override
@@ -77,7 +109,7 @@ public final class JPAContextImpl implements JPAContext {
     }
 
     private Randomize getRandomizer() {
-        return RandomizeImpl.newInstance(cache, generator);
+        return RandomizeImpl.newInstance(populators);
     }
 
     @Override
@@ -115,6 +147,21 @@ public final class JPAContextImpl implements JPAContext {
         cleaner.delete(type, ids);
     }
 
+    @Override
+    public void refreshSchema() {
+        refreshSchema(new Class<?>[0]);
+    }
+
+    @Override
+    public void refreshSchema(final Class<?>... types) {
+        if (cache.getSchemaRefresher() == null) {
+            throw new RandomJPAException("Schema refresh is not supported for this context");
+        }
+        cache.getSchemaRefresher().refresh(cache, types);
+        generator.clearLengthConstraints();
+        populators.clear();
+    }
+
     private ResultMap createAndPersist(final Plan plan) {
         return persist(create(plan));
     }
@@ -127,42 +174,159 @@ public final class JPAContextImpl implements JPAContext {
         return cache;
     }
 
-    private CreationPlan create(final Plan plan) {
+    private void loadMetadata(final HierarchyGraph hierarchyGraph, final List<Entity> entities) {
+        final Set<Class<?>> types = new HashSet<>(hierarchyGraph.getKeySet());
+        for (Entity entity : entities) {
+            types.add(EntityHelper.getType(entity));
+        }
+        cache.loadMetadata(types);
+    }
 
+    @Override
+    public CompiledPlan compile(final Plan plan) {
         final List<Entity> entities = plan.getEntities();
         final HierarchyGraph hierarchyGraph = MinimumHierarchyGenerator.generate(getCache().getHierarchyGraph(), entities);
+        loadMetadata(hierarchyGraph, entities);
 
-        final CreationOrderResolver creationOrderResolver = CreationOrderResolverImpl.newInstance(hierarchyGraph);
+        final NodeLayout layout = newCreationPlanResolver(hierarchyGraph, entities).layout();
+        return CompiledPlan.newInstance(hierarchyGraph, layout, entities);
+    }
 
-        final List<CreationOrder> creationOrders = new ArrayList<>();
-        for (Entity entity : entities) {
-                final CreationOrder creationOrder = creationOrderResolver.getCreationOrder(entity);
-                creationOrders.add(creationOrder);
+    @Override
+    public CreationPlan create(final CompiledPlan compiledPlan) {
+        final CreationPlan creationPlan = CreationPlanResolver.create(getRandomizer(),
+                compiledPlan.getHierarchyGraph(), compiledPlan.getLayout());
+        addAttributeValues(creationPlan, compiledPlan);
+        compiledPlan.getClassIndices()
+                .forEach(e -> creationPlan.deleteItem(e.getType(), e.getIndex()));
+        addParentAssignments((CreationPlanImpl) creationPlan, compiledPlan, getNodeCounts((CreationPlanImpl) creationPlan));
+        return creationPlan;
+    }
 
+    @Override
+    public ResultMap createAndPersist(final CompiledPlan compiledPlan) {
+        return persist(create(compiledPlan));
+    }
+
+    @Override
+    public long createAndPersistStreaming(final Entity... entities) {
+        final List<Entity> entityList = Plan.of(entities).getEntities();
+        final HierarchyGraph hierarchyGraph = MinimumHierarchyGenerator.generate(getCache().getHierarchyGraph(), entityList);
+        loadMetadata(hierarchyGraph, entityList);
+
+        final CreationPlanResolver creationPlanResolver = newCreationPlanResolver(hierarchyGraph, entityList);
+        final CompiledPlan compiledPlan = CompiledPlan.newInstance(hierarchyGraph, null, entityList);
+        final Randomize randomize = getRandomizer();
+        final CreationPlanImpl creationPlan = new CreationPlanImpl(hierarchyGraph, randomize);
+        addAttributeValues(creationPlan, compiledPlan);
+        if (!compiledPlan.getParentDistributions().isEmpty()) {
+            addParentAssignments(creationPlan, compiledPlan, creationPlanResolver.countRecords());
         }
 
+        final Persistor persistor = EntityPersistorImpl.newInstance(cache, hierarchyGraph, randomize);
+        return persistor.persist(creationPlan, creationPlanResolver.records(), new HashSet<>(compiledPlan.getClassIndices()));
+    }
+
+    private CreationPlan create(final Plan plan) {
+        return create(compile(plan));
+    }
+
+    private CreationPlanResolver newCreationPlanResolver(final HierarchyGraph hierarchyGraph, final List<Entity> entities) {
+        final List<CreationOrder> creationOrders = getCreationOrders(hierarchyGraph, entities);
+        final Set<Class<?>> distributedTypes = addParentDistributionCounts(hierarchyGraph, creationOrders, entities);
+
         final Collection<CreationOrder> values = MergeUtil.merge(creationOrders);
         sort(values);
-        final CreationPlanResolver creationPlanResolver = CreationPlanResolver.newInstance(
-                getRandomizer(), toArray(values));
-        final CreationPlan creationPlan = creationPlanResolver.with(hierarchyGraph).create();
-        addAttributeValues(creationPlan, entities);
-        return creationPlan;
+        return CreationPlanResolver.newInstance(getRandomizer(), toArray(values))
+                .with(hierarchyGraph)
+                .withSharedParents(sharedParents)
+                .withDistributedTypes(distributedTypes);
     }
 
-    @SuppressWarnings("unchecked")
-    void addAttributeValues(final CreationPlan creationPlan, final List<Entity> entities) {
+    private List<CreationOrder> getCreationOrders(final HierarchyGraph hierarchyGraph, final List<Entity> entities) {
+        final CreationOrderCache creationOrderCache = cache.getCreationOrderCache();
+        final CompactGraph baseGraph = cache.getHierarchyGraph().compact();
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(entities);
+
+        CreationOrderResolver creationOrderResolver = null;
+        final List<CreationOrder> creationOrders = new ArrayList<>();
         for (Entity entity : entities) {
-            ((List<AttributeValue>) EntityHelper.getAttributeValues(entity))
-                    .forEach(attributeValue -> creationPlan.set(PersistedEntityResolver.DEFAULT_INDEX, attributeValue.getAttribute(), attributeValue.getValue()));
+            CreationOrder creationOrder = creationOrderCache.get(baseGraph, entity, planKey);
+            if (creationOrder == null) {
+                if (creationOrderResolver == null) {
+                    creationOrderResolver = creationOrderStrategy.newResolver(hierarchyGraph);
+                }
+                creationOrder = creationOrderResolver.getCreationOrder(entity);
+                creationOrderCache.put(baseGraph, entity, planKey, creationOrder);
+            }
+            creationOrders.add(creationOrder);
+        }
+        return creationOrders;
+    }
 
-            ((List<AttributeIndexValue>) EntityHelper.getAttributeIndexValues(entity))
-                    .forEach(e -> creationPlan.set(e.getIndex(), e.getAttribute(), e.getValue()));
+    private Set<Class<?>> addParentDistributionCounts(final HierarchyGraph hierarchyGraph, final List<CreationOrder> creationOrders,
+                                                      final List<Entity> entities) {
+        final Set<Class<?>> distributedTypes = new HashSet<>();
+        for (int i = 0; i < entities.size(); i++) {
+            final Entity<?> entity = entities.get(i);
+            final CreationOrder creationOrder = creationOrders.get(i);
+            for (ParentDistribution parentDistribution : EntityHelper.getParentDistributions(entity)) {
+                final Class<?> parentType = parentDistribution.getParentType();
+                if (!isDirectParent(hierarchyGraph, EntityHelper.getType(entity), parentType)) {
+                    throw new RandomJPAException(parentType.getName() + " is not a parent of "
+                            + EntityHelper.getType(entity).getName());
+                }
 
-            ((List<ClassIndex>)EntityHelper.getClassIndices(entity))
-                    .forEach(e -> creationPlan.deleteItem(e.getType(), e.getIndex()));
+                creationOrder.addCreationCount(parentType, parentDistribution.getParentCount());
+                distributedTypes.add(EntityHelper.getType(entity));
+            }
+        }
+        return distributedTypes;
+    }
+
+    private static boolean isDirectParent(final HierarchyGraph hierarchyGraph, final Class<?> childType, final Class<?> parentType) {
+        final TableNode tableNode = hierarchyGraph.getTableNode(childType);
+        if (tableNode == null || parentType == childType) {
+            return false;
+        }
 
+        for (Relation relation : tableNode.getRelations()) {
+            if (relation.getTo().getInitializationClass() == parentType) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private Map<Class<?>, Integer> getNodeCounts(final CreationPlanImpl creationPlan) {
+        final Map<Class<?>, Integer> counts = new HashMap<>();
+        for (Map.Entry<Class<?>, List<Node>> entry : creationPlan.getCreatedNodeMap().entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().size());
+        }
+        return counts;
+    }
+
+    private void addParentAssignments(final CreationPlanImpl creationPlan, final CompiledPlan compiledPlan,
+                                      final Map<Class<?>, Integer> counts) {
+        final Random random = new Random(generator.getRandomSource().current().nextLong());
+        for (Map.Entry<Class<?>, List<ParentDistribution>> entry : compiledPlan.getParentDistributions().entrySet()) {
+            final Class<?> childType = entry.getKey();
+            for (ParentDistribution parentDistribution : entry.getValue()) {
+                final Class<?> parentType = parentDistribution.getParentType();
+                final int[] assignment = parentDistribution.getDistribution()
+                        .assign(counts.get(childType), counts.get(parentType), random);
+                creationPlan.setParentAssignment(childType, parentType, assignment);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void addAttributeValues(final CreationPlan creationPlan, final CompiledPlan compiledPlan) {
+        compiledPlan.getAttributeValues()
+                .forEach(attributeValue -> creationPlan.set(PersistedEntityResolver.DEFAULT_INDEX, attributeValue.getAttribute(), attributeValue.getValue()));
+
+        compiledPlan.getAttributeIndexValues()
+                .forEach(e -> creationPlan.set(e.getIndex(), e.getAttribute(), e.getValue()));
     }
 
     private void sort(final Collection<CreationOrder> values) {
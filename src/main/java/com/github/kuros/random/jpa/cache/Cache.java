@@ -1,21 +1,33 @@
 package com.github.kuros.random.jpa.cache;
 
 import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.definition.ChildGraph;
 import com.github.kuros.random.jpa.definition.HierarchyGraph;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.metamodel.AttributeProviderFactory;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.metamodel.providers.SnapshotAttributeProvider;
 import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
 import com.github.kuros.random.jpa.provider.RelationshipProvider;
 import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
 import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
 import com.github.kuros.random.jpa.provider.factory.MultiplePrimaryKeyProviderFactory;
 import com.github.kuros.random.jpa.provider.factory.RelationshipProviderFactory;
 import com.github.kuros.random.jpa.provider.factory.SQLCharacterLengthProviderFactory;
 import com.github.kuros.random.jpa.provider.factory.UniqueConstraintProviderFactory;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotMultiplePrimaryKeyProvider;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotUniqueConstraintProvider;
+import com.github.kuros.random.jpa.resolver.CreationOrderCache;
 import com.github.kuros.random.jpa.types.Trigger;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -47,10 +59,15 @@ public class Cache {
     private UniqueConstraintProvider uniqueConstraintProvider;
     private Set<Class<?>> skipTruncation;
     private HierarchyGraph hierarchyGraph;
+    private ChildGraph childGraph;
+    private boolean lazyMetadata;
+    private SchemaRefresher schemaRefresher;
+    private CreationOrderCache creationOrderCache = CreationOrderCache.newInstance();
 
-    private Cache(final Database database, final EntityManager entityManager) {
+    private Cache(final Database database, final EntityManager entityManager, final boolean lazyMetadata) {
         this.database = database;
         this.entityManager = entityManager;
+        this.lazyMetadata = lazyMetadata;
         this.attributeProvider = initAttributeProvider();
         this.multiplePrimaryKeyProvider = initMultiplePrimaryKeyProvider();
         this.relationshipProvider = initRelationshipProvider();
@@ -60,8 +77,57 @@ public class Cache {
         this.triggerCache = TriggerCache.getInstance(new ArrayList<>());
     }
 
+    private Cache(final Database database, final EntityManager entityManager, final SchemaSnapshot snapshot) {
+        this(database, entityManager,
+                SnapshotAttributeProvider.newInstance(snapshot.getEntityTableMappings()),
+                SnapshotMultiplePrimaryKeyProvider.newInstance(snapshot.getMultiplePrimaryKeys()),
+                SnapshotRelationshipProvider.newInstance(snapshot.getForeignKeyRelations()),
+                SnapshotCharacterLengthProvider.newInstance(snapshot.getColumnLengths()),
+                SnapshotUniqueConstraintProvider.newInstance(snapshot.getUniqueCombinations()));
+    }
+
+    Cache(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider,
+          final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider, final RelationshipProvider relationshipProvider,
+          final SQLCharacterLengthProvider sqlCharacterLengthProvider, final UniqueConstraintProvider uniqueConstraintProvider) {
+        this.database = database;
+        this.entityManager = entityManager;
+        this.attributeProvider = attributeProvider;
+        this.multiplePrimaryKeyProvider = multiplePrimaryKeyProvider;
+        this.relationshipProvider = relationshipProvider;
+        this.sqlCharacterLengthProvider = sqlCharacterLengthProvider;
+        this.uniqueConstraintProvider = uniqueConstraintProvider;
+        this.skipTruncation = new HashSet<>();
+        this.triggerCache = TriggerCache.getInstance(new ArrayList<>());
+    }
+
     public static Cache create(final Database database, final EntityManager entityManager) {
-        return new Cache(database, entityManager);
+        return new Cache(database, entityManager, false);
+    }
+
+    public static Cache create(final Database database, final EntityManager entityManager, final boolean lazyMetadata) {
+        return new Cache(database, entityManager, lazyMetadata);
+    }
+
+    public static Cache create(final Database database, final EntityManager entityManager, final SchemaSnapshot snapshot) {
+        return new Cache(database, entityManager, snapshot);
+    }
+
+    public static Cache create(final CompiledSchema schema, final EntityManager entityManager) {
+        final Cache cache = new Cache(schema.getDatabase(), entityManager, schema.getAttributeProvider(),
+                schema.getMultiplePrimaryKeyProvider(), schema.getRelationshipProvider(),
+                schema.getSqlCharacterLengthProvider(), schema.getUniqueConstraintProvider());
+        cache.hierarchyGraph = schema.getHierarchyGraph();
+        cache.childGraph = schema.getChildGraph();
+        return cache;
+    }
+
+    public static Cache createInParallel(final Database database, final EntityManager entityManager, final EntityManagerFactory entityManagerFactory) {
+        return createInParallel(database, entityManager, entityManagerFactory, false);
+    }
+
+    public static Cache createInParallel(final Database database, final EntityManager entityManager,
+                                         final EntityManagerFactory entityManagerFactory, final boolean lazyMetadata) {
+        return ParallelCacheInitializer.newInstance(database, entityManagerFactory, lazyMetadata).initialize(entityManager);
     }
 
     public Cache with(final TriggerCache cache) {
@@ -71,6 +137,12 @@ public class Cache {
 
     public Cache with(final HierarchyGraph hierarchyGraphValue) {
         this.hierarchyGraph = hierarchyGraphValue;
+        this.childGraph = null;
+        return this;
+    }
+
+    public Cache with(final SchemaRefresher refresher) {
+        this.schemaRefresher = refresher;
         return this;
     }
 
@@ -108,11 +180,11 @@ public class Cache {
     }
 
     private UniqueConstraintProvider initUniqueConstraintProvider() {
-        return UniqueConstraintProviderFactory.getUniqueConstraintProvider(database, entityManager, attributeProvider);
+        return UniqueConstraintProviderFactory.getUniqueConstraintProvider(database, entityManager, attributeProvider, lazyMetadata);
     }
 
     private SQLCharacterLengthProvider initSqlCharacterLengthProvider() {
-        return SQLCharacterLengthProviderFactory.getSqlCharacterLengthProvider(database, entityManager, attributeProvider);
+        return SQLCharacterLengthProviderFactory.getSqlCharacterLengthProvider(database, entityManager, attributeProvider, lazyMetadata);
     }
 
     private RelationshipProvider initRelationshipProvider() {
@@ -120,7 +192,7 @@ public class Cache {
     }
 
     private MultiplePrimaryKeyProvider initMultiplePrimaryKeyProvider() {
-        return MultiplePrimaryKeyProviderFactory.getMultiplePrimaryKeyProvider(database, entityManager, attributeProvider);
+        return MultiplePrimaryKeyProviderFactory.getMultiplePrimaryKeyProvider(database, entityManager, attributeProvider, lazyMetadata);
     }
 
     private AttributeProvider initAttributeProvider() {
@@ -135,6 +207,45 @@ public class Cache {
         return hierarchyGraph;
     }
 
+    public void loadMetadata(final Collection<Class<?>> types) {
+        final Set<String> tableNames = new HashSet<>();
+        for (Class<?> type : types) {
+            final EntityTableMapping entityTableMapping = attributeProvider.get(type);
+            if (entityTableMapping != null && entityTableMapping.getTableName() != null) {
+                tableNames.add(entityTableMapping.getTableName().toLowerCase());
+            }
+        }
+
+        if (tableNames.isEmpty()) {
+            return;
+        }
+
+        for (Object provider : Arrays.asList(multiplePrimaryKeyProvider, sqlCharacterLengthProvider, uniqueConstraintProvider)) {
+            if (provider instanceof TableScopedProvider) {
+                ((TableScopedProvider) provider).loadTables(entityManager, tableNames);
+            }
+        }
+    }
+
+    public ChildGraph getChildGraph() {
+        if (childGraph == null && hierarchyGraph != null) {
+            childGraph = ChildGraph.newInstance(hierarchyGraph);
+        }
+        return childGraph;
+    }
+
+    ChildGraph getBuiltChildGraph() {
+        return childGraph;
+    }
+
+    public CreationOrderCache getCreationOrderCache() {
+        return creationOrderCache;
+    }
+
+    public SchemaRefresher getSchemaRefresher() {
+        return schemaRefresher;
+    }
+
     public Database getDatabase() {
         return database;
     }
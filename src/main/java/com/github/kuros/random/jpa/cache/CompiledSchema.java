@@ -0,0 +1,86 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.definition.ChildGraph;
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
+import com.github.kuros.random.jpa.provider.RelationshipProvider;
+import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class CompiledSchema {
+
+    private final Database database;
+    private final AttributeProvider attributeProvider;
+    private final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider;
+    private final RelationshipProvider relationshipProvider;
+    private final SQLCharacterLengthProvider sqlCharacterLengthProvider;
+    private final UniqueConstraintProvider uniqueConstraintProvider;
+    private final HierarchyGraph hierarchyGraph;
+    private final ChildGraph childGraph;
+
+    private CompiledSchema(final Cache cache) {
+        this.database = cache.getDatabase();
+        this.attributeProvider = cache.getAttributeProvider();
+        this.multiplePrimaryKeyProvider = cache.getMultiplePrimaryKeyProvider();
+        this.relationshipProvider = SnapshotRelationshipProvider.newInstance(cache.getRelationshipProvider().getForeignKeyRelations());
+        this.sqlCharacterLengthProvider = cache.getSqlCharacterLengthProvider();
+        this.uniqueConstraintProvider = cache.getUniqueConstraintProvider();
+        this.hierarchyGraph = cache.getHierarchyGraph();
+        this.childGraph = cache.getChildGraph();
+    }
+
+    public static CompiledSchema newInstance(final Cache cache) {
+        return new CompiledSchema(cache);
+    }
+
+    public Database getDatabase() {
+        return database;
+    }
+
+    public AttributeProvider getAttributeProvider() {
+        return attributeProvider;
+    }
+
+    public MultiplePrimaryKeyProvider getMultiplePrimaryKeyProvider() {
+        return multiplePrimaryKeyProvider;
+    }
+
+    public RelationshipProvider getRelationshipProvider() {
+        return relationshipProvider;
+    }
+
+    public SQLCharacterLengthProvider getSqlCharacterLengthProvider() {
+        return sqlCharacterLengthProvider;
+    }
+
+    public UniqueConstraintProvider getUniqueConstraintProvider() {
+        return uniqueConstraintProvider;
+    }
+
+    public HierarchyGraph getHierarchyGraph() {
+        return hierarchyGraph;
+    }
+
+    public ChildGraph getChildGraph() {
+        return childGraph;
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.link.Before;
+import com.github.kuros.random.jpa.link.Link;
+import com.github.kuros.random.jpa.types.Trigger;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.metamodel.Attribute;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class CompiledSchemaRegistry {
+
+    private static final Map<EntityManagerFactory, Map<Key, CompiledSchema>> SCHEMAS = new WeakHashMap<>();
+
+    private CompiledSchemaRegistry() {
+    }
+
+    public static CompiledSchema get(final EntityManagerFactory entityManagerFactory, final Key key, final Supplier<CompiledSchema> compiler) {
+        final Map<Key, CompiledSchema> schemas;
+        synchronized (SCHEMAS) {
+            schemas = SCHEMAS.computeIfAbsent(entityManagerFactory, k -> new HashMap<>());
+        }
+
+        synchronized (schemas) {
+            return schemas.computeIfAbsent(key, k -> compiler.get());
+        }
+    }
+
+    public static void remove(final EntityManagerFactory entityManagerFactory) {
+        synchronized (SCHEMAS) {
+            SCHEMAS.remove(entityManagerFactory);
+        }
+    }
+
+    public static void clear() {
+        synchronized (SCHEMAS) {
+            SCHEMAS.clear();
+        }
+    }
+
+    public static Key key(final Database database, final List<Link> links, final List<Link> ignoreLinks,
+                          final List<Trigger<?>> triggers, final List<Before> preconditions) {
+        final List<String> parts = new ArrayList<>();
+        parts.add(String.valueOf(database));
+        parts.add("links" + describeLinks(links));
+        parts.add("ignore" + describeLinks(ignoreLinks));
+
+        final List<String> triggerClasses = new ArrayList<>();
+        for (Trigger<?> trigger : triggers) {
+            triggerClasses.add(trigger.getTriggerClass().getName());
+        }
+        Collections.sort(triggerClasses);
+        parts.add("triggers" + triggerClasses);
+
+        final List<String> befores = new ArrayList<>();
+        for (Before before : preconditions) {
+            for (Class<?> toClass : before.getToClasses()) {
+                befores.add(before.getType().getName() + "<" + toClass.getName());
+            }
+        }
+        Collections.sort(befores);
+        parts.add("preconditions" + befores);
+
+        return new Key(parts);
+    }
+
+    private static List<String> describeLinks(final List<Link> links) {
+        final List<String> descriptions = new ArrayList<>();
+        for (Link link : links) {
+            descriptions.add(describe(link.getFrom()) + ">" + describe(link.getTo()));
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    private static String describe(final Attribute<?, ?> attribute) {
+        return attribute.getDeclaringType().getJavaType().getName() + "." + attribute.getName();
+    }
+
+    public static final class Key {
+        private final List<String> parts;
+
+        private Key(final List<String> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return parts.equals(((Key) o).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return parts.hashCode();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.AttributeProviderFactory;
+import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
+import com.github.kuros.random.jpa.provider.RelationshipProvider;
+import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
+import com.github.kuros.random.jpa.provider.factory.MultiplePrimaryKeyProviderFactory;
+import com.github.kuros.random.jpa.provider.factory.RelationshipProviderFactory;
+import com.github.kuros.random.jpa.provider.factory.SQLCharacterLengthProviderFactory;
+import com.github.kuros.random.jpa.provider.factory.UniqueConstraintProviderFactory;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+final class ParallelCacheInitializer {
+
+    private static final int PROVIDER_COUNT = 4;
+
+    private final Database database;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean lazyMetadata;
+
+    private ParallelCacheInitializer(final Database database, final EntityManagerFactory entityManagerFactory, final boolean lazyMetadata) {
+        this.database = database;
+        this.entityManagerFactory = entityManagerFactory;
+        this.lazyMetadata = lazyMetadata;
+    }
+
+    static ParallelCacheInitializer newInstance(final Database database, final EntityManagerFactory entityManagerFactory, final boolean lazyMetadata) {
+        return new ParallelCacheInitializer(database, entityManagerFactory, lazyMetadata);
+    }
+
+    Cache initialize(final EntityManager entityManager) {
+        final AttributeProvider attributeProvider = AttributeProviderFactory.getProvider(entityManager);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(PROVIDER_COUNT, new InitializerThreadFactory());
+        try {
+            final Future<MultiplePrimaryKeyProvider> multiplePrimaryKeyProvider = executorService.submit(() -> load(em ->
+                    MultiplePrimaryKeyProviderFactory.getMultiplePrimaryKeyProvider(database, em, attributeProvider, lazyMetadata)));
+
+            final Future<RelationshipProvider> relationshipProvider = executorService.submit(() -> load(em ->
+                    SnapshotRelationshipProvider.newInstance(RelationshipProviderFactory.getRelationshipProvider(database, em).getForeignKeyRelations())));
+
+            final Future<SQLCharacterLengthProvider> sqlCharacterLengthProvider = executorService.submit(() -> load(em ->
+                    SQLCharacterLengthProviderFactory.getSqlCharacterLengthProvider(database, em, attributeProvider, lazyMetadata)));
+
+            final Future<UniqueConstraintProvider> uniqueConstraintProvider = executorService.submit(() -> load(em ->
+                    UniqueConstraintProviderFactory.getUniqueConstraintProvider(database, em, attributeProvider, lazyMetadata)));
+
+            return new Cache(database, entityManager, attributeProvider,
+                    join(multiplePrimaryKeyProvider), join(relationshipProvider),
+                    join(sqlCharacterLengthProvider), join(uniqueConstraintProvider));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <T> T load(final Function<EntityManager, T> loader) {
+        final EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return loader.apply(entityManager);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static <T> T join(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RandomJPAException("Interrupted while loading database metadata", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RandomJPAException("Failed to load database metadata", e.getCause());
+        }
+    }
+
+    private static class InitializerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "random-jpa-init-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.definition.ChildGraph;
+import com.github.kuros.random.jpa.definition.CyclicValidator;
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.link.Dependencies;
+import com.github.kuros.random.jpa.link.Link;
+import com.github.kuros.random.jpa.log.LogFactory;
+import com.github.kuros.random.jpa.log.Logger;
+import com.github.kuros.random.jpa.mapper.Relation;
+import com.github.kuros.random.jpa.mapper.RelationCreator;
+import com.github.kuros.random.jpa.metamodel.MetaModelProviderImpl;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
+import com.github.kuros.random.jpa.provider.factory.RelationshipProviderFactory;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SchemaRefresher {
+
+    private static final Logger LOGGER = LogFactory.getLogger(SchemaRefresher.class);
+
+    private final Set<ForeignKeyRelation> foreignKeyRelations;
+    private final List<Link> ignoreLinks;
+
+    private SchemaRefresher(final Collection<ForeignKeyRelation> foreignKeyRelations, final List<Link> ignoreLinks) {
+        this.foreignKeyRelations = new LinkedHashSet<>(foreignKeyRelations);
+        this.ignoreLinks = new ArrayList<>(ignoreLinks);
+    }
+
+    public static SchemaRefresher newInstance(final Collection<ForeignKeyRelation> foreignKeyRelations, final List<Link> ignoreLinks) {
+        return new SchemaRefresher(foreignKeyRelations, ignoreLinks);
+    }
+
+    /**
+     * Patches the graphs with the foreign keys changed since the last refresh, and reloads the column metadata of the
+     * tables on either side of those foreign keys and of the given types.
+     */
+    public synchronized void refresh(final Cache cache, final Class<?>... types) {
+        final Set<String> tableNames = getTableNames(cache, types);
+        final Set<ForeignKeyRelation> latest = new LinkedHashSet<>(RelationshipProviderFactory
+                .getRelationshipProvider(cache.getDatabase(), cache.getEntityManager())
+                .getForeignKeyRelations());
+
+        final List<ForeignKeyRelation> removed = difference(foreignKeyRelations, latest);
+        final List<ForeignKeyRelation> added = difference(latest, foreignKeyRelations);
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            final List<Relation> removedRelations = toRelations(cache, removed);
+            final List<Relation> addedRelations = toRelations(cache, added);
+
+            patch(cache, removedRelations, addedRelations);
+            try {
+                new CyclicValidator(cache.getHierarchyGraph()).validate();
+            } catch (final RandomJPAException e) {
+                patch(cache, addedRelations, removedRelations);
+                new CyclicValidator(cache.getHierarchyGraph()).validate();
+                throw e;
+            }
+        }
+
+        addTableNames(tableNames, removed);
+        addTableNames(tableNames, added);
+        if (!tableNames.isEmpty()) {
+            reloadTables(cache, tableNames);
+        }
+
+        foreignKeyRelations.clear();
+        foreignKeyRelations.addAll(latest);
+        LOGGER.info("Schema refreshed, foreign keys removed: " + removed.size() + ", added: " + added.size()
+                + ", tables reloaded: " + tableNames);
+    }
+
+    private void patch(final Cache cache, final List<Relation> removedRelations, final List<Relation> addedRelations) {
+        final HierarchyGraph hierarchyGraph = cache.getHierarchyGraph();
+        final ChildGraph childGraph = cache.getBuiltChildGraph();
+
+        for (Relation relation : removedRelations) {
+            hierarchyGraph.removeRelation(relation);
+            if (childGraph != null) {
+                childGraph.removeRelation(relation, hierarchyGraph);
+            }
+        }
+
+        for (Relation relation : addedRelations) {
+            hierarchyGraph.addRelation(relation);
+            if (childGraph != null) {
+                childGraph.addRelation(relation);
+            }
+        }
+    }
+
+    private List<Relation> toRelations(final Cache cache, final List<ForeignKeyRelation> changes) {
+        if (changes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return RelationCreator
+                .from(new MetaModelProviderImpl(cache))
+                .with(Dependencies.newInstance().ignoreLinks(ignoreLinks))
+                .with(SnapshotRelationshipProvider.newInstance(changes))
+                .generate();
+    }
+
+    private Set<String> getTableNames(final Cache cache, final Class<?>... types) {
+        final Set<String> tableNames = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            final EntityTableMapping entityTableMapping = cache.getAttributeProvider().get(type);
+            if (entityTableMapping == null) {
+                throw new RandomJPAException(type.getName() + " is not a mapped entity");
+            }
+            tableNames.add(entityTableMapping.getTableName());
+        }
+        return tableNames;
+    }
+
+    private static void addTableNames(final Set<String> tableNames, final List<ForeignKeyRelation> changes) {
+        for (ForeignKeyRelation foreignKeyRelation : changes) {
+            tableNames.add(foreignKeyRelation.getTable());
+            tableNames.add(foreignKeyRelation.getReferencedTable());
+        }
+    }
+
+    private void reloadTables(final Cache cache, final Set<String> tableNames) {
+        for (Object provider : Arrays.asList(cache.getMultiplePrimaryKeyProvider(), cache.getSqlCharacterLengthProvider(),
+                cache.getUniqueConstraintProvider())) {
+            if (provider instanceof TableScopedProvider) {
+                ((TableScopedProvider) provider).reloadTables(cache.getEntityManager(), tableNames);
+            }
+        }
+    }
+
+    private static List<ForeignKeyRelation> difference(final Set<ForeignKeyRelation> from, final Set<ForeignKeyRelation> other) {
+        final List<ForeignKeyRelation> result = new ArrayList<>();
+        for (ForeignKeyRelation foreignKeyRelation : from) {
+            if (!other.contains(foreignKeyRelation)) {
+                result.add(foreignKeyRelation);
+            }
+        }
+        return result;
+    }
+}
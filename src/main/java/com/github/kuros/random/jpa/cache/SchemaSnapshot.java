@@ -0,0 +1,183 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.model.ColumnCharacterLength;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.EntityType;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SchemaSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fingerprint;
+    private final List<EntityTableMapping> entityTableMappings;
+    private final List<ForeignKeyRelation> foreignKeyRelations;
+    private final Map<Class<?>, List<String>> multiplePrimaryKeys;
+    private final Map<Class<?>, List<String>> uniqueCombinations;
+    private final Map<String, ColumnCharacterLength> columnLengths;
+
+    private SchemaSnapshot(final String fingerprint) {
+        this.fingerprint = fingerprint;
+        this.entityTableMappings = new ArrayList<>();
+        this.foreignKeyRelations = new ArrayList<>();
+        this.multiplePrimaryKeys = new HashMap<>();
+        this.uniqueCombinations = new HashMap<>();
+        this.columnLengths = new HashMap<>();
+    }
+
+    public static SchemaSnapshot capture(final String fingerprint, final Cache cache) {
+        final SchemaSnapshot snapshot = new SchemaSnapshot(fingerprint);
+        final AttributeProvider attributeProvider = cache.getAttributeProvider();
+        final SQLCharacterLengthProvider sqlCharacterLengthProvider = cache.getSqlCharacterLengthProvider();
+        final List<Class<?>> entityClasses = getEntityClasses(cache.getEntityManager());
+        cache.loadMetadata(entityClasses);
+
+        for (Class<?> type : entityClasses) {
+            final EntityTableMapping entityTableMapping = attributeProvider.get(type);
+            if (entityTableMapping == null) {
+                continue;
+            }
+
+            snapshot.entityTableMappings.add(entityTableMapping);
+            putIfPresent(snapshot.multiplePrimaryKeys, type, cache.getMultiplePrimaryKeyProvider().getMultiplePrimaryKeyAttributes(type));
+            putIfPresent(snapshot.uniqueCombinations, type, cache.getUniqueConstraintProvider().getUniqueCombinationAttributes(type));
+
+            final String entityName = entityTableMapping.getEntityName();
+            for (String attributeName : entityTableMapping.getAttributeNames()) {
+                final ColumnDetail columnDetail = sqlCharacterLengthProvider.getColumnDetail(entityName, attributeName);
+                if (columnDetail != null) {
+                    snapshot.columnLengths
+                            .computeIfAbsent(entityName, k -> ColumnCharacterLength.newInstance())
+                            .add(attributeName, columnDetail);
+                }
+            }
+        }
+
+        snapshot.foreignKeyRelations.addAll(cache.getRelationshipProvider().getForeignKeyRelations());
+        return snapshot;
+    }
+
+    public static String fingerprint(final Database database, final EntityManager entityManager, final String schemaVersion) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(database).append('|').append(schemaVersion).append('\n');
+
+        for (Class<?> type : getEntityClasses(entityManager)) {
+            builder.append(type.getName()).append('\n');
+            Class<?> current = type;
+            while (current != null && current != Object.class) {
+                appendAnnotations(builder, current.getDeclaredAnnotations());
+                final List<String> fields = new ArrayList<>();
+                for (Field field : current.getDeclaredFields()) {
+                    final StringBuilder fieldBuilder = new StringBuilder();
+                    fieldBuilder.append(field.getName()).append(':').append(field.getGenericType().getTypeName());
+                    appendAnnotations(fieldBuilder, field.getDeclaredAnnotations());
+                    fields.add(fieldBuilder.toString());
+                }
+                Collections.sort(fields);
+                for (String field : fields) {
+                    builder.append(current.getName()).append('.').append(field).append('\n');
+                }
+                current = current.getSuperclass();
+            }
+        }
+
+        return sha256(builder.toString());
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<EntityTableMapping> getEntityTableMappings() {
+        return entityTableMappings;
+    }
+
+    public List<ForeignKeyRelation> getForeignKeyRelations() {
+        return foreignKeyRelations;
+    }
+
+    public Map<Class<?>, List<String>> getMultiplePrimaryKeys() {
+        return multiplePrimaryKeys;
+    }
+
+    public Map<Class<?>, List<String>> getUniqueCombinations() {
+        return uniqueCombinations;
+    }
+
+    public Map<String, ColumnCharacterLength> getColumnLengths() {
+        return columnLengths;
+    }
+
+    private static List<Class<?>> getEntityClasses(final EntityManager entityManager) {
+        final List<Class<?>> types = new ArrayList<>();
+        for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+            types.add(entityType.getJavaType());
+        }
+        types.sort((o1, o2) -> o1.getName().compareTo(o2.getName()));
+        return types;
+    }
+
+    private static void putIfPresent(final Map<Class<?>, List<String>> map, final Class<?> type, final List<String> attributes) {
+        if (attributes != null) {
+            map.put(type, new ArrayList<>(attributes));
+        }
+    }
+
+    private static void appendAnnotations(final StringBuilder builder, final Annotation[] annotations) {
+        final List<String> values = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            values.add(annotation.toString());
+        }
+        Collections.sort(values);
+        for (String value : values) {
+            builder.append('@').append(value);
+        }
+    }
+
+    private static String sha256(final String value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RandomJPAException("Unable to compute schema fingerprint", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.log.LogFactory;
+import com.github.kuros.random.jpa.log.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SchemaSnapshotStore {
+
+    private static final Logger LOGGER = LogFactory.getLogger(SchemaSnapshotStore.class);
+
+    private final File file;
+
+    private SchemaSnapshotStore(final File file) {
+        this.file = file;
+    }
+
+    public static SchemaSnapshotStore newInstance(final File file) {
+        return new SchemaSnapshotStore(file);
+    }
+
+    public SchemaSnapshot load(final String fingerprint) {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(file.toPath());
+             ObjectInputStream objectInputStream = new ContextClassLoaderObjectInputStream(inputStream)) {
+            final SchemaSnapshot snapshot = (SchemaSnapshot) objectInputStream.readObject();
+            if (!snapshot.getFingerprint().equals(fingerprint)) {
+                LOGGER.info("Schema snapshot is stale, rebuilding: " + file);
+                return null;
+            }
+            return snapshot;
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to read schema snapshot, rebuilding: " + file);
+            return null;
+        }
+    }
+
+    public void save(final SchemaSnapshot snapshot) {
+        Path tempFile = null;
+        try {
+            final File parent = file.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+
+            tempFile = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(snapshot);
+            }
+            move(tempFile, file.toPath());
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to write schema snapshot: " + file);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            //nothing more to clean up
+        }
+    }
+
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (final ClassNotFoundException e) {
+                    //fall back to default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
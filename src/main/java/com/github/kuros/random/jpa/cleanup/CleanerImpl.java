@@ -2,6 +2,7 @@ package com.github.kuros.random.jpa.cleanup;
 
 import com.github.kuros.random.jpa.cache.Cache;
 import com.github.kuros.random.jpa.definition.ChildGraph;
+import com.github.kuros.random.jpa.definition.CompactGraph;
 import com.github.kuros.random.jpa.definition.HierarchyGraph;
 import com.github.kuros.random.jpa.log.LogFactory;
 import com.github.kuros.random.jpa.log.Logger;
@@ -21,6 +22,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -59,7 +61,7 @@ public final class CleanerImpl implements Cleaner {
 
     private CleanerImpl(final Cache cache) {
         this.entityManager = cache.getEntityManager();
-        this.childGraph = ChildGraph.newInstance(cache.getHierarchyGraph());
+        this.childGraph = cache.getChildGraph();
         this.finder = new Finder(cache);
         this.skipTruncation = cache.getSkipTruncation();
         this.hierarchyGraph = cache.getHierarchyGraph();
@@ -184,23 +186,21 @@ public final class CleanerImpl implements Cleaner {
     }
 
     private Set<Class<?>> getSkippedClasses() {
-        final Set<Class<?>> skip = new HashSet<>();
+        final CompactGraph graph = hierarchyGraph.compact();
+        final BitSet parents = new BitSet(graph.size());
         for (Class<?> aClass : skipTruncation) {
-            addAllParents(skip, aClass);
+            graph.addAncestors(graph.idOf(aClass), parents);
+        }
+
+        final Set<Class<?>> skip = new HashSet<>();
+        for (int id = parents.nextSetBit(0); id >= 0; id = parents.nextSetBit(id + 1)) {
+            skip.add(graph.typeOf(id));
         }
 
         skip.addAll(skipTruncation);
         return skip;
     }
 
-    private void addAllParents(final Set<Class<?>> holder, final Class<?> type) {
-        final Set<Class<?>> parents = hierarchyGraph.getParents(type);
-        holder.addAll(parents);
-        for (Class<?> parent : parents) {
-            addAllParents(holder, parent);
-        }
-    }
-
     private <T> void getDeleteOrder(final List<Object> deletionOrder, final T type) {
         final Set<Class<?>> childs = childGraph.getChilds(type.getClass());
         final Map<Class<?>, Set<Relation>> childRelationMap = getChildRelationMap(type.getClass());
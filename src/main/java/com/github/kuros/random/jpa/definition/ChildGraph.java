@@ -2,6 +2,7 @@ package com.github.kuros.random.jpa.definition;
 
 import com.github.kuros.random.jpa.mapper.Relation;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -34,13 +35,25 @@ public final class ChildGraph {
     private ChildGraph(final HierarchyGraph hierarchyGraph) {
         childNodes = new HashMap<>();
 
-        final Set<Class<?>> childs = hierarchyGraph.getKeySet();
+        final CompactGraph graph = hierarchyGraph.compact();
+        for (int parent = 0; parent < graph.size(); parent++) {
+            final int childCount = graph.childCount(parent);
+            if (childCount == 0) {
+                continue;
+            }
+
+            final ChildNode childNode = getOrCreateChildNode(graph.typeOf(parent), 0);
+            for (int i = 0; i < childCount; i++) {
+                childNode.addChild(graph.typeOf(graph.child(parent, i)));
+            }
+        }
 
-        for (Class<?> child : childs) {
-            final Set<Class<?>> parents = hierarchyGraph.getParents(child);
-            final Set<Relation> attributeRelations = hierarchyGraph.getAttributeRelations(child);
-            for (Class<?> parent : parents) {
-                addRelation(getOrCreateChildNode(parent, 0), child, attributeRelations);
+        for (int child = 0; child < graph.size(); child++) {
+            for (int i = 0; i < graph.parentCount(child); i++) {
+                final ChildNode childNode = childNodes.get(graph.typeOf(graph.parent(child, i)));
+                for (Relation relation : graph.edgeRelations(child, i)) {
+                    childNode.addRelation(relation);
+                }
             }
         }
     }
@@ -62,6 +75,25 @@ public final class ChildGraph {
         }
     }
 
+    public void addRelation(final Relation relation) {
+        final Class<?> parent = relation.getTo().getInitializationClass();
+        addRelation(getOrCreateChildNode(parent, 0), relation.getFrom().getInitializationClass(), Collections.singleton(relation));
+    }
+
+    public void removeRelation(final Relation relation, final HierarchyGraph hierarchyGraph) {
+        final Class<?> child = relation.getFrom().getInitializationClass();
+        final Class<?> parent = relation.getTo().getInitializationClass();
+        final ChildNode childNode = childNodes.get(parent);
+        if (childNode == null) {
+            return;
+        }
+
+        childNode.removeRelation(relation);
+        if (!hierarchyGraph.isLinked(child, parent)) {
+            childNode.removeChild(child);
+        }
+    }
+
     public ChildNode getOrCreateChildNode(final Class<?> parent, final int level) {
         ChildNode childNode = childNodes.get(parent);
         if (childNode == null) {
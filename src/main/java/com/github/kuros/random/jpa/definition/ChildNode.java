@@ -60,6 +60,19 @@ public final class ChildNode {
         return this;
     }
 
+    public ChildNode removeChild(final Class<?> childClass) {
+        childClasses.remove(childClass);
+        return this;
+    }
+
+    public ChildNode removeRelation(final Relation parentRelation) {
+        final Set<Relation> relations = childRelations.get(parentRelation.getTo().getInitializationClass());
+        if (relations != null) {
+            relations.remove(Relation.newInstance(parentRelation.getTo(), parentRelation.getFrom()));
+        }
+        return this;
+    }
+
     public Set<Class<?>> getChildClasses() {
         return childClasses;
     }
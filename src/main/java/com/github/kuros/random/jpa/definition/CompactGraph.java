@@ -0,0 +1,322 @@
+package com.github.kuros.random.jpa.definition;
+
+import com.github.kuros.random.jpa.mapper.Relation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Frozen, array based form of a {@link HierarchyGraph}. Every class gets a dense id, parent and child
+ * adjacency is held in CSR arrays and the relations backing each parent edge are stored with the edge.
+ */
+public final class CompactGraph {
+
+    private static final Relation[] NO_RELATIONS = new Relation[0];
+
+    private final Map<Class<?>, Integer> ids;
+    private final Class<?>[] types;
+    private final int[] parentOffsets;
+    private final int[] parents;
+    private final Relation[][] edgeRelations;
+    private final Relation[][] nodeRelations;
+    private final int[] childOffsets;
+    private final int[] children;
+    private volatile BitSet[] ancestorClosure;
+    private volatile BitSet[] descendantClosure;
+
+    private CompactGraph(final Map<Class<?>, TableNode> tableNodes) {
+        this.ids = new HashMap<>();
+        final List<Class<?>> typeList = new ArrayList<>();
+        for (Map.Entry<Class<?>, TableNode> entry : tableNodes.entrySet()) {
+            register(typeList, entry.getKey());
+            for (Class<?> parent : entry.getValue().getParentClasses()) {
+                register(typeList, parent);
+            }
+        }
+
+        final int size = typeList.size();
+        this.types = typeList.toArray(new Class<?>[size]);
+        this.parentOffsets = new int[size + 1];
+        this.nodeRelations = new Relation[size][];
+
+        int edgeCount = 0;
+        for (int id = 0; id < size; id++) {
+            final TableNode tableNode = tableNodes.get(types[id]);
+            parentOffsets[id] = edgeCount;
+            edgeCount += tableNode == null ? 0 : tableNode.getParentClasses().size();
+        }
+        parentOffsets[size] = edgeCount;
+
+        this.parents = new int[edgeCount];
+        this.edgeRelations = new Relation[edgeCount][];
+        final int[] childCounts = new int[size];
+        for (int id = 0; id < size; id++) {
+            final TableNode tableNode = tableNodes.get(types[id]);
+            if (tableNode == null) {
+                nodeRelations[id] = NO_RELATIONS;
+                continue;
+            }
+
+            final List<Relation> relations = tableNode.getRelations();
+            nodeRelations[id] = relations.toArray(new Relation[relations.size()]);
+
+            int edge = parentOffsets[id];
+            for (Class<?> parent : tableNode.getParentClasses()) {
+                final int parentId = ids.get(parent);
+                parents[edge] = parentId;
+                edgeRelations[edge] = relationsTo(relations, parent);
+                childCounts[parentId]++;
+                edge++;
+            }
+        }
+
+        this.childOffsets = new int[size + 1];
+        for (int id = 0; id < size; id++) {
+            childOffsets[id + 1] = childOffsets[id] + childCounts[id];
+        }
+
+        this.children = new int[edgeCount];
+        final int[] cursor = new int[size];
+        System.arraycopy(childOffsets, 0, cursor, 0, size);
+        for (int id = 0; id < size; id++) {
+            for (int edge = parentOffsets[id]; edge < parentOffsets[id + 1]; edge++) {
+                children[cursor[parents[edge]]++] = id;
+            }
+        }
+    }
+
+    static CompactGraph newInstance(final Map<Class<?>, TableNode> tableNodes) {
+        return new CompactGraph(tableNodes);
+    }
+
+    private void register(final List<Class<?>> typeList, final Class<?> type) {
+        if (!ids.containsKey(type)) {
+            ids.put(type, typeList.size());
+            typeList.add(type);
+        }
+    }
+
+    private static Relation[] relationsTo(final List<Relation> relations, final Class<?> parent) {
+        int count = 0;
+        for (Relation relation : relations) {
+            if (relation.getTo().getInitializationClass() == parent) {
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return NO_RELATIONS;
+        }
+
+        final Relation[] result = new Relation[count];
+        int index = 0;
+        for (Relation relation : relations) {
+            if (relation.getTo().getInitializationClass() == parent) {
+                result[index++] = relation;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * @return id of the type, or -1 if the type is not part of the graph
+     */
+    public int idOf(final Class<?> type) {
+        final Integer id = ids.get(type);
+        return id == null ? -1 : id;
+    }
+
+    public Class<?> typeOf(final int id) {
+        return types[id];
+    }
+
+    public int parentCount(final int id) {
+        return id < 0 ? 0 : parentOffsets[id + 1] - parentOffsets[id];
+    }
+
+    public int parent(final int id, final int index) {
+        return parents[parentOffsets[id] + index];
+    }
+
+    /**
+     * @return relations backing the edge from the type to its parent at the given index
+     */
+    public Relation[] edgeRelations(final int id, final int index) {
+        return edgeRelations[parentOffsets[id] + index];
+    }
+
+    /**
+     * @return all relations of the type, in the order they were added to the graph
+     */
+    public Relation[] relations(final int id) {
+        return id < 0 ? NO_RELATIONS : nodeRelations[id];
+    }
+
+    public int childCount(final int id) {
+        return id < 0 ? 0 : childOffsets[id + 1] - childOffsets[id];
+    }
+
+    public int child(final int id, final int index) {
+        return children[childOffsets[id] + index];
+    }
+
+    /**
+     * @return ids of every transitive parent of the type; the type itself is included only if it is on a cycle
+     */
+    public BitSet ancestors(final int id) {
+        final BitSet ancestors = new BitSet(types.length);
+        addAncestors(id, ancestors);
+        return ancestors;
+    }
+
+    public void addAncestors(final int id, final BitSet target) {
+        if (id >= 0) {
+            target.or(getAncestorClosure()[id]);
+        }
+    }
+
+    /**
+     * @return ids of every transitive child of the type; the type itself is included only if it is on a cycle
+     */
+    public BitSet descendants(final int id) {
+        final BitSet descendants = new BitSet(types.length);
+        addDescendants(id, descendants);
+        return descendants;
+    }
+
+    public void addDescendants(final int id, final BitSet target) {
+        if (id >= 0) {
+            target.or(getDescendantClosure()[id]);
+        }
+    }
+
+    private BitSet[] getAncestorClosure() {
+        BitSet[] closure = ancestorClosure;
+        if (closure == null) {
+            closure = closure(parentOffsets, parents);
+            ancestorClosure = closure;
+        }
+        return closure;
+    }
+
+    private BitSet[] getDescendantClosure() {
+        BitSet[] closure = descendantClosure;
+        if (closure == null) {
+            closure = closure(childOffsets, children);
+            descendantClosure = closure;
+        }
+        return closure;
+    }
+
+    /**
+     * Transitive closure over the given adjacency. Strongly connected components are found with an iterative
+     * Tarjan walk, which completes every component after all components reachable from it, so each closure is
+     * the union of its members' direct targets and the already computed closures of those targets.
+     */
+    private BitSet[] closure(final int[] offsets, final int[] targets) {
+        final int size = types.length;
+        final int[] index = new int[size];
+        final int[] lowLink = new int[size];
+        final int[] component = new int[size];
+        final boolean[] onStack = new boolean[size];
+        final int[] stack = new int[size];
+        final int[] callStack = new int[size];
+        final int[] nextEdge = new int[size];
+        final List<BitSet> componentClosures = new ArrayList<>();
+        Arrays.fill(index, -1);
+
+        int counter = 0;
+        int stackSize = 0;
+        for (int root = 0; root < size; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+
+            int depth = 0;
+            callStack[depth] = root;
+            index[root] = lowLink[root] = counter++;
+            nextEdge[root] = offsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth >= 0) {
+                final int node = callStack[depth];
+                if (nextEdge[node] < offsets[node + 1]) {
+                    final int target = targets[nextEdge[node]++];
+                    if (index[target] == -1) {
+                        index[target] = lowLink[target] = counter++;
+                        nextEdge[target] = offsets[target];
+                        stack[stackSize++] = target;
+                        onStack[target] = true;
+                        callStack[++depth] = target;
+                    } else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+
+                if (lowLink[node] == index[node]) {
+                    final int componentId = componentClosures.size();
+                    int start = stackSize;
+                    do {
+                        start--;
+                    } while (stack[start] != node);
+                    for (int i = start; i < stackSize; i++) {
+                        onStack[stack[i]] = false;
+                        component[stack[i]] = componentId;
+                    }
+
+                    final BitSet reachable = new BitSet(size);
+                    for (int i = start; i < stackSize; i++) {
+                        final int member = stack[i];
+                        for (int edge = offsets[member]; edge < offsets[member + 1]; edge++) {
+                            final int target = targets[edge];
+                            reachable.set(target);
+                            if (component[target] != componentId) {
+                                reachable.or(componentClosures.get(component[target]));
+                            }
+                        }
+                    }
+                    componentClosures.add(reachable);
+                    stackSize = start;
+                }
+
+                depth--;
+                if (depth >= 0) {
+                    final int caller = callStack[depth];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+            }
+        }
+
+        final BitSet[] closure = new BitSet[size];
+        for (int id = 0; id < size; id++) {
+            closure[id] = componentClosures.get(component[id]);
+        }
+        return closure;
+    }
+}
@@ -2,8 +2,12 @@ package com.github.kuros.random.jpa.definition;
 
 import com.github.kuros.random.jpa.exception.RandomJPAException;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -31,29 +35,66 @@ public class CyclicValidator {
 
 
     public void validate() {
-        final Set<Class<?>> keySet = hierarchyGraph.getKeySet();
-        final Set<Class<?>> result = new HashSet<>();
-        for (Class<?> aClass : keySet) {
-            isCyclic(result, aClass);
-            result.remove(aClass);
-        }
+        validate(hierarchyGraph.getKeySet());
+        hierarchyGraph.markAcyclic();
     }
 
-    private void isCyclic(final Set<Class<?>> result, final Class<?> aClass) {
-
-        if (result.contains(aClass)) {
-            throw new RandomJPAException("Cyclic dependency found for class: " + aClass.getName());
+    public void validate(final Collection<Class<?>> roots) {
+        final Map<Class<?>, VisitState> states = new HashMap<>();
+        for (Class<?> root : roots) {
+            if (!states.containsKey(root)) {
+                visit(states, root);
+            }
         }
+    }
 
-        result.add(aClass);
-        final Set<Class<?>> parents = hierarchyGraph.getParents(aClass);
+    private void visit(final Map<Class<?>, VisitState> states, final Class<?> root) {
+        final List<Class<?>> path = new ArrayList<>();
+        final List<Iterator<Class<?>>> pendingParents = new ArrayList<>();
+        enter(states, path, pendingParents, root);
 
-        for (Class<?> parent : parents) {
-            if(parent.equals(aClass))
+        while (!path.isEmpty()) {
+            final int top = path.size() - 1;
+            final Iterator<Class<?>> parents = pendingParents.get(top);
+            if (!parents.hasNext()) {
+                states.put(path.remove(top), VisitState.VISITED);
+                pendingParents.remove(top);
                 continue;
-            isCyclic(result, parent);
+            }
 
-            result.remove(parent);
+            final Class<?> parent = parents.next();
+            if (parent.equals(path.get(top))) {
+                continue;
+            }
+
+            final VisitState state = states.get(parent);
+            if (state == VisitState.VISITING) {
+                throw new RandomJPAException("Cyclic dependency found for class: " + parent.getName()
+                        + " (" + describe(path.subList(path.indexOf(parent), path.size()), parent) + ")");
+            }
+
+            if (state == null) {
+                enter(states, path, pendingParents, parent);
+            }
         }
     }
+
+    private void enter(final Map<Class<?>, VisitState> states, final List<Class<?>> path,
+                       final List<Iterator<Class<?>>> pendingParents, final Class<?> type) {
+        states.put(type, VisitState.VISITING);
+        path.add(type);
+        pendingParents.add(hierarchyGraph.getParents(type).iterator());
+    }
+
+    private String describe(final List<Class<?>> cycle, final Class<?> start) {
+        final StringBuilder builder = new StringBuilder();
+        for (Class<?> type : cycle) {
+            builder.append(type.getName()).append(" -> ");
+        }
+        return builder.append(start.getName()).toString();
+    }
+
+    private enum VisitState {
+        VISITING, VISITED
+    }
 }
@@ -3,6 +3,7 @@ package com.github.kuros.random.jpa.definition;
 import com.github.kuros.random.jpa.annotation.VisibleForTesting;
 import com.github.kuros.random.jpa.mapper.Relation;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -28,11 +29,15 @@ public class HierarchyGraph {
 
     private Map<Class<?>, TableNode> parentRelations;
     private Map<Class<?>, Set<Relation>> attributeRelations;
+    private Map<Class<?>, Set<Class<?>>> nodeParents;
+    private boolean acyclic;
+    private CompactGraph compactGraph;
 
     @VisibleForTesting
     HierarchyGraph() {
         this.parentRelations = new HashMap<>();
         attributeRelations = new HashMap<>();
+        nodeParents = new HashMap<>();
     }
 
     public static HierarchyGraph newInstance() {
@@ -40,6 +45,8 @@ public class HierarchyGraph {
     }
 
     public void addRelation(final Relation relation) {
+        acyclic = false;
+        compactGraph = null;
 
         final Class<?> fromClass = relation.getFrom().getInitializationClass();
         final TableNode tableNode = getOrCreateTableNode(fromClass);
@@ -57,6 +64,9 @@ public class HierarchyGraph {
     }
 
     public void addNode(final Class<?> fromClass, final Class<?> toClass) {
+        acyclic = false;
+        compactGraph = null;
+        nodeParents.computeIfAbsent(fromClass, k -> new HashSet<>()).add(toClass);
         final TableNode tableNode = getOrCreateTableNode(fromClass);
         tableNode.addParent(toClass);
 
@@ -67,6 +77,44 @@ public class HierarchyGraph {
         }
     }
 
+    public void removeRelation(final Relation relation) {
+        final Class<?> fromClass = relation.getFrom().getInitializationClass();
+        final TableNode tableNode = parentRelations.get(fromClass);
+        if (tableNode == null) {
+            return;
+        }
+
+        acyclic = false;
+        compactGraph = null;
+        tableNode.removeRelation(relation);
+        final Set<Relation> relations = attributeRelations.get(fromClass);
+        if (relations != null) {
+            relations.remove(relation);
+        }
+
+        final Class<?> toClass = relation.getTo().getInitializationClass();
+        if (!isLinked(fromClass, toClass)) {
+            tableNode.removeParent(toClass);
+        }
+    }
+
+    public boolean isLinked(final Class<?> fromClass, final Class<?> toClass) {
+        final Set<Class<?>> parents = nodeParents.get(fromClass);
+        if (parents != null && parents.contains(toClass)) {
+            return true;
+        }
+
+        final TableNode tableNode = parentRelations.get(fromClass);
+        if (tableNode != null) {
+            for (Relation relation : tableNode.getRelations()) {
+                if (relation.getTo().getInitializationClass().equals(toClass)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private TableNode getOrCreateTableNode(final Class<?> fromClass) {
         TableNode tableNode = parentRelations.get(fromClass);
         if (tableNode == null) {
@@ -83,13 +131,36 @@ public class HierarchyGraph {
         relations.add(relation);
     }
 
+    boolean isAcyclic() {
+        return acyclic;
+    }
+
+    void markAcyclic() {
+        this.acyclic = true;
+    }
+
+    /**
+     * Frozen view of the graph, rebuilt after the next change made through this graph. Meant for the schema wide graph
+     * held by the cache; per plan graphs are walked through the map API so that they never pay for a build.
+     *
+     * @return frozen view of the graph
+     */
+    public CompactGraph compact() {
+        CompactGraph graph = compactGraph;
+        if (graph == null) {
+            graph = CompactGraph.newInstance(parentRelations);
+            compactGraph = graph;
+        }
+        return graph;
+    }
+
     public Set<Class<?>> getKeySet() {
         return parentRelations.keySet();
     }
 
     public Set<Class<?>> getParents(final Class tableClass) {
         final TableNode tableNode = parentRelations.get(tableClass);
-        return tableNode != null ? tableNode.getParentClasses() : new HashSet<>();
+        return tableNode != null ? tableNode.getParentClasses() : Collections.<Class<?>>emptySet();
     }
 
     public TableNode getTableNode(final Class tableClass) {
@@ -5,6 +5,8 @@ import com.github.kuros.random.jpa.resolver.DependencyResolver;
 import com.github.kuros.random.jpa.types.Entity;
 import com.github.kuros.random.jpa.types.EntityHelper;
 
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -13,45 +15,64 @@ public class MinimumHierarchyGenerator {
     @SuppressWarnings("unchecked")
     public static HierarchyGraph generate(final HierarchyGraph parentGraph, final List<Entity> entities) {
         final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        final CompactGraph graph = parentGraph.compact();
+        final BitSet included = new BitSet(graph.size());
+        final Set<Class<?>> extraEdgeSources = new HashSet<>();
 
         for (Entity entity : entities) {
-            addParentToHierarchy(parentGraph, hierarchyGraph, EntityHelper.getType(entity));
+            addParentsToHierarchy(graph, hierarchyGraph, graph.idOf(EntityHelper.getType(entity)), included);
 
             final Set<Relation> softRelations = DependencyResolver.generateRelations(EntityHelper.getSoftLinks(entity));
             for (Relation relation : softRelations) {
                 hierarchyGraph.addRelation(relation);
+                extraEdgeSources.add(relation.getFrom().getInitializationClass());
             }
 
             final List<Class<?>> afterClasses = EntityHelper.getAfterClasses(entity);
             for (Class<?> parentClass : afterClasses) {
                 hierarchyGraph.addNode(EntityHelper.getType(entity), parentClass);
+                extraEdgeSources.add(EntityHelper.getType(entity));
             }
 
             final List<Class<?>> beforeClasses = EntityHelper.getBeforeClasses(entity);
             for (Class<?> beforeClass : beforeClasses) {
                 hierarchyGraph.addNode(beforeClass, EntityHelper.getType(entity));
+                extraEdgeSources.add(beforeClass);
             }
         }
 
-        new CyclicValidator(hierarchyGraph).validate();
+        // a subgraph of an acyclic graph is acyclic, so only paths through the extra edges can close a cycle
+        if (parentGraph.isAcyclic()) {
+            new CyclicValidator(hierarchyGraph).validate(extraEdgeSources);
+        } else {
+            new CyclicValidator(hierarchyGraph).validate();
+        }
 
         return hierarchyGraph;
     }
 
-    private static void addParentToHierarchy(final HierarchyGraph parentGraph, final HierarchyGraph hierarchyGraph, final Class<?> type) {
-        final TableNode tableNode = parentGraph.getTableNode(type);
+    private static void addParentsToHierarchy(final CompactGraph graph, final HierarchyGraph hierarchyGraph,
+                                              final int id, final BitSet included) {
+        if (id < 0 || included.get(id)) {
+            return;
+        }
+
+        final BitSet types = graph.ancestors(id);
+        types.set(id);
+        types.andNot(included);
+        included.or(types);
 
-        if (tableNode != null) {
-            for (Relation relation : tableNode.getRelations()) {
+        for (int node = types.nextSetBit(0); node >= 0; node = types.nextSetBit(node + 1)) {
+            for (Relation relation : graph.relations(node)) {
                 hierarchyGraph.addRelation(relation);
             }
-            final Set<Class<?>> parentClasses = tableNode.getParentClasses();
 
-            for (Class<?> parentClass : parentClasses) {
-                if(parentClass.equals(type))
-                    continue;
-                hierarchyGraph.addNode(type, parentClass);
-                addParentToHierarchy(parentGraph, hierarchyGraph, parentClass);
+            final Class<?> type = graph.typeOf(node);
+            for (int i = 0; i < graph.parentCount(node); i++) {
+                final int parent = graph.parent(node, i);
+                if (parent != node) {
+                    hierarchyGraph.addNode(type, graph.typeOf(parent));
+                }
             }
         }
     }
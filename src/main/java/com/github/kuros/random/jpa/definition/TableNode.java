@@ -42,6 +42,16 @@ public final class TableNode {
         return this;
     }
 
+    public TableNode removeRelation(final Relation relation) {
+        this.relations.removeIf(relation::equals);
+        return this;
+    }
+
+    public TableNode removeParent(final Class<?> parentClass) {
+        parentClasses.remove(parentClass);
+        return this;
+    }
+
     public TableNode addParent(final Class<?> parentClass) {
         parentClasses.add(parentClass);
         return this;
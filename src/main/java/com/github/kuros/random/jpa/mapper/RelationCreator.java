@@ -36,13 +36,13 @@ import java.util.Set;
 public final class RelationCreator {
 
 
-    private final Map<String, List<FieldWrapper>> fieldsByTableName;
+    private final Map<String, Map<String, FieldWrapper>> columnsByTableName;
     private List<ForeignKeyRelation> foreignKeyRelations;
     private Dependencies dependencies;
     private static final Logger LOGGER = LogFactory.getLogger(RelationCreator.class);
 
     private RelationCreator(final MetaModelProvider metaModelProvider) {
-        fieldsByTableName = metaModelProvider.getFieldsByTableName();
+        columnsByTableName = indexColumns(metaModelProvider.getFieldsByTableName());
         this.foreignKeyRelations = new ArrayList<>();
         this.dependencies = Dependencies.newInstance();
     }
@@ -69,18 +69,33 @@ public final class RelationCreator {
         final Set<Relation> ignoreRelations = DependencyResolver.ignoreLinks(dependencies);
 
         for (ForeignKeyRelation foreignKeyRelation : foreignKeyRelations) {
-            try {
-                final FieldWrapper from = getFieldWrapper(foreignKeyRelation);
-                final FieldWrapper to = getReferencedFieldValue(foreignKeyRelation);
-                final Relation relation = Relation.newInstance(from, to);
-
-                if (!ignoreRelations.contains(relation)) {
-                    relations.add(relation);
-                }
-            } catch (final EntityNotDeclared e) {
+            final Map<String, FieldWrapper> fromColumns = columnsByTableName.get(foreignKeyRelation.getTable());
+            if (fromColumns == null) {
                 missingTable.add(foreignKeyRelation.getReferencedTable());
-            } catch (final ColumnNotDeclared e) {
+                continue;
+            }
+
+            final FieldWrapper from = fromColumns.get(foreignKeyRelation.getAttribute());
+            if (from == null) {
+                addToMissingColumns(missingColumns, foreignKeyRelation);
+                continue;
+            }
+
+            final Map<String, FieldWrapper> toColumns = columnsByTableName.get(foreignKeyRelation.getReferencedTable());
+            if (toColumns == null) {
+                missingTable.add(foreignKeyRelation.getReferencedTable());
+                continue;
+            }
+
+            final FieldWrapper to = toColumns.get(foreignKeyRelation.getReferencedAttribute());
+            if (to == null) {
                 addToMissingColumns(missingColumns, foreignKeyRelation);
+                continue;
+            }
+
+            final Relation relation = Relation.newInstance(from, to);
+            if (!ignoreRelations.contains(relation)) {
+                relations.add(relation);
             }
         }
 
@@ -107,36 +122,19 @@ public final class RelationCreator {
         columns.add(foreignKeyRelation.getReferencedAttribute());
     }
 
-    private FieldWrapper getReferencedFieldValue(final ForeignKeyRelation foreignKeyRelation) {
-        return getFieldWrapper(foreignKeyRelation.getReferencedTable(), foreignKeyRelation.getReferencedAttribute());
-    }
-
-    private FieldWrapper getFieldWrapper(final ForeignKeyRelation foreignKeyRelation) {
-        return getFieldWrapper(foreignKeyRelation.getTable(), foreignKeyRelation.getAttribute());
-    }
-
-    private FieldWrapper getFieldWrapper(final String table, final String attribute) {
-        final List<FieldWrapper> fieldWrappers = fieldsByTableName.get(table);
-        if (fieldWrappers == null) {
-            throw new EntityNotDeclared();
-        }
-        for (FieldWrapper fieldWrapper : fieldWrappers) {
-            if (isFieldFound(attribute, fieldWrapper)) {
-                return fieldWrapper;
+    private static Map<String, Map<String, FieldWrapper>> indexColumns(final Map<String, List<FieldWrapper>> fieldsByTableName) {
+        final Map<String, Map<String, FieldWrapper>> columnsByTableName = new HashMap<>();
+        for (Map.Entry<String, List<FieldWrapper>> entry : fieldsByTableName.entrySet()) {
+            final Map<String, FieldWrapper> columns = new HashMap<>();
+            for (FieldWrapper fieldWrapper : entry.getValue()) {
+                columns.putIfAbsent(getColumnName(fieldWrapper), fieldWrapper);
             }
+            columnsByTableName.put(entry.getKey(), columns);
         }
-
-        throw new ColumnNotDeclared();
-    }
-
-    private boolean isFieldFound(final String attribute, final FieldWrapper fieldWrapper) {
-        return (fieldWrapper.getOverriddenFieldName() != null && fieldWrapper.getOverriddenFieldName().equals(attribute))
-                || (fieldWrapper.getOverriddenFieldName() == null && fieldWrapper.getFieldName().equals(attribute));
-    }
-
-    private class EntityNotDeclared extends RuntimeException {
+        return columnsByTableName;
     }
 
-    private class ColumnNotDeclared extends RuntimeException {
+    private static String getColumnName(final FieldWrapper fieldWrapper) {
+        return fieldWrapper.getOverriddenFieldName() != null ? fieldWrapper.getOverriddenFieldName() : fieldWrapper.getFieldName();
     }
 }
@@ -4,10 +4,16 @@ import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.log.LogFactory;
 import com.github.kuros.random.jpa.log.Logger;
 import com.github.kuros.random.jpa.metamodel.providers.EclipseLinkProvider;
+import com.github.kuros.random.jpa.metamodel.providers.FallbackAttributeProvider;
 import com.github.kuros.random.jpa.metamodel.providers.HibernateProvider;
 import com.github.kuros.random.jpa.util.Util;
 
 import javax.persistence.EntityManager;
+import javax.persistence.metamodel.EntityType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
 
 public class AttributeProviderFactory {
 
@@ -18,6 +24,34 @@ public class AttributeProviderFactory {
 
     public static AttributeProvider getProvider(final EntityManager entityManager) {
 
+        final Iterator<AttributeProvider> generatedProviders = ServiceLoader.load(AttributeProvider.class).iterator();
+        if (generatedProviders.hasNext()) {
+            final AttributeProvider attributeProvider = generatedProviders.next();
+            LOGGER.info("Using generated AttributeProvider: " + attributeProvider.getClass().getName());
+
+            final List<String> unknownTypes = getUnknownTypes(attributeProvider, entityManager);
+            if (unknownTypes.isEmpty()) {
+                return attributeProvider;
+            }
+
+            LOGGER.warn("Generated AttributeProvider does not map " + unknownTypes + ", reading them from the JPA provider");
+            return FallbackAttributeProvider.newInstance(attributeProvider, getReflectiveProvider(entityManager));
+        }
+
+        return getReflectiveProvider(entityManager);
+    }
+
+    private static List<String> getUnknownTypes(final AttributeProvider attributeProvider, final EntityManager entityManager) {
+        final List<String> unknownTypes = new ArrayList<>();
+        for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+            if (attributeProvider.get(entityType.getJavaType()) == null) {
+                unknownTypes.add(entityType.getJavaType().getName());
+            }
+        }
+        return unknownTypes;
+    }
+
+    private static AttributeProvider getReflectiveProvider(final EntityManager entityManager) {
         try {
             Class.forName("org.hibernate.Version");
             return new HibernateProvider(entityManager);
@@ -0,0 +1,53 @@
+package com.github.kuros.random.jpa.metamodel;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class EntityPopulators {
+
+    public static final String SUFFIX = "_Populator";
+
+    private static final ClassValue<EntityPopulator<?>> POPULATORS = new ClassValue<EntityPopulator<?>>() {
+        @Override
+        protected EntityPopulator<?> computeValue(final Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private EntityPopulators() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> EntityPopulator<T> get(final Class<T> type) {
+        return (EntityPopulator<T>) POPULATORS.get(type);
+    }
+
+    private static EntityPopulator<?> load(final Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null || type.getEnclosingClass() != null) {
+            return null;
+        }
+
+        try {
+            final Class<?> populatorClass = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+            if (EntityPopulator.class.isAssignableFrom(populatorClass)) {
+                return (EntityPopulator<?>) populatorClass.newInstance();
+            }
+        } catch (final ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            return null;
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.kuros.random.jpa.metamodel.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,7 +24,9 @@ import java.util.Set;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public class EntityTableMapping {
+public class EntityTableMapping implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Class<?> entityClass;
     private String entityName;
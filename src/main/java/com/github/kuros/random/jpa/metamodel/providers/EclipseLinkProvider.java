@@ -35,13 +35,11 @@ public class EclipseLinkProvider implements AttributeProvider {
 
     private Map<Class<?>, EntityTableMapping> entityTableMappingByClass;
     private Map<String, List<EntityTableMapping>> entityTableMappingByTableName;
-    private EntityManager entityManager;
 
     public EclipseLinkProvider(final EntityManager entityManager) {
-        this.entityManager = entityManager;
         this.entityTableMappingByClass = new HashMap<>();
         this.entityTableMappingByTableName = new HashMap<>();
-        init();
+        init(entityManager);
     }
 
     public EntityTableMapping get(final Class<?> type) {
@@ -52,7 +50,7 @@ public class EclipseLinkProvider implements AttributeProvider {
         return entityTableMappingByTableName.get(tableName.toLowerCase());
     }
 
-    private void init() {
+    private void init(final EntityManager entityManager) {
 
         try {
             final Set<EntityType<?>> entities = entityManager.getMetamodel().getEntities();
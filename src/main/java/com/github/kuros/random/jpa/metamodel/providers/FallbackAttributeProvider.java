@@ -0,0 +1,51 @@
+package com.github.kuros.random.jpa.metamodel.providers;
+
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+
+import java.util.List;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class FallbackAttributeProvider implements AttributeProvider {
+
+    private final AttributeProvider primary;
+    private final AttributeProvider fallback;
+
+    private FallbackAttributeProvider(final AttributeProvider primary, final AttributeProvider fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    public static FallbackAttributeProvider newInstance(final AttributeProvider primary, final AttributeProvider fallback) {
+        return new FallbackAttributeProvider(primary, fallback);
+    }
+
+    public EntityTableMapping get(final Class<?> type) {
+        final EntityTableMapping entityTableMapping = primary.get(type);
+        return entityTableMapping != null ? entityTableMapping : fallback.get(type);
+    }
+
+    public List<EntityTableMapping> get(final String tableName) {
+        final List<EntityTableMapping> entityTableMappings = primary.get(tableName);
+        final List<EntityTableMapping> fallbackMappings = fallback.get(tableName);
+        if (entityTableMappings == null || (fallbackMappings != null && fallbackMappings.size() > entityTableMappings.size())) {
+            return fallbackMappings;
+        }
+        return entityTableMappings;
+    }
+}
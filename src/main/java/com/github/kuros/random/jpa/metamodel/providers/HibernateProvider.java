@@ -25,16 +25,14 @@ public class HibernateProvider implements AttributeProvider {
 
     private Map<Class<?>, EntityTableMapping> entityTableMappingByClass;
     private Map<String, List<EntityTableMapping>> entityTableMappingByTableName;
-    private EntityManager entityManager;
 
     public HibernateProvider(final EntityManager entityManager) {
-        this.entityManager = entityManager;
         this.entityTableMappingByClass = new HashMap<>();
         this.entityTableMappingByTableName = new HashMap<>();
-        init();
+        init(entityManager);
     }
 
-    private void init() {
+    private void init(final EntityManager entityManager) {
         final EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
 
         try {
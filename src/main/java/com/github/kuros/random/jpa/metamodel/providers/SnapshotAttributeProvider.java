@@ -0,0 +1,54 @@
+package com.github.kuros.random.jpa.metamodel.providers;
+
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SnapshotAttributeProvider implements AttributeProvider {
+
+    private final Map<Class<?>, EntityTableMapping> entityTableMappingByClass;
+    private final Map<String, List<EntityTableMapping>> entityTableMappingByTableName;
+
+    private SnapshotAttributeProvider(final List<EntityTableMapping> entityTableMappings) {
+        this.entityTableMappingByClass = new HashMap<>();
+        this.entityTableMappingByTableName = new HashMap<>();
+        for (EntityTableMapping entityTableMapping : entityTableMappings) {
+            entityTableMappingByClass.put(entityTableMapping.getEntityClass(), entityTableMapping);
+            entityTableMappingByTableName
+                    .computeIfAbsent(entityTableMapping.getTableName().toLowerCase(), k -> new ArrayList<>())
+                    .add(entityTableMapping);
+        }
+    }
+
+    public static SnapshotAttributeProvider newInstance(final List<EntityTableMapping> entityTableMappings) {
+        return new SnapshotAttributeProvider(entityTableMappings);
+    }
+
+    public EntityTableMapping get(final Class<?> type) {
+        return entityTableMappingByClass.get(type);
+    }
+
+    public List<EntityTableMapping> get(final String tableName) {
+        return entityTableMappingByTableName.get(tableName.toLowerCase());
+    }
+}
@@ -5,7 +5,9 @@ import com.github.kuros.random.jpa.definition.HierarchyGraph;
 import com.github.kuros.random.jpa.definition.TableNode;
 import com.github.kuros.random.jpa.mapper.Relation;
 import com.github.kuros.random.jpa.persistor.functions.FunctionProcessor;
+import com.github.kuros.random.jpa.persistor.model.PersistedEntities;
 import com.github.kuros.random.jpa.persistor.model.ResultNodeTree;
+import com.github.kuros.random.jpa.persistor.model.StreamedEntities;
 import com.github.kuros.random.jpa.random.Randomize;
 import com.github.kuros.random.jpa.resolver.PersistedEntityResolver;
 import com.github.kuros.random.jpa.resolver.PersistedEntityResolverImpl;
@@ -16,10 +18,14 @@ import com.github.kuros.random.jpa.types.Node;
 import com.github.kuros.random.jpa.types.ResultNode;
 import com.github.kuros.random.jpa.util.NumberUtil;
 import com.github.kuros.random.jpa.util.Util;
+import com.github.kuros.random.jpa.v1.resolver.PlanRecord;
 
+import javax.persistence.EntityManager;
 import java.lang.reflect.Field;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -39,10 +45,13 @@ import java.util.Map;
  */
 public final class EntityPersistorImpl implements Persistor {
 
+    static final int STREAM_FLUSH_SIZE = 1000;
+
     private final Cache cache;
     private final Randomize randomize;
     private final FunctionProcessor functionProcessor;
     private final HierarchyGraph hierarchyGraph;
+    private CreationPlanImpl creationPlan;
 
     private EntityPersistorImpl(final Cache cache, final HierarchyGraph hierarchyGraph, final Randomize randomize) {
         this.cache = cache;
@@ -60,7 +69,8 @@ public final class EntityPersistorImpl implements Persistor {
         final ResultNode root = ResultNode.newInstance();
         final ResultNodeTree resultNodeTree = ResultNodeTree.newInstance(cache, root);
 
-        final Node creationPlanRoot = ((CreationPlanImpl) creationPlan).getRoot();
+        this.creationPlan = (CreationPlanImpl) creationPlan;
+        final Node creationPlanRoot = this.creationPlan.getRoot();
         final List<Node> childNodes = creationPlanRoot.getChildNodes();
 
         final Map<ClassIndex, Object> classIndexMap = getClassIndexObjectMap(creationPlan);
@@ -71,6 +81,52 @@ public final class EntityPersistorImpl implements Persistor {
         return resultNodeTree;
     }
 
+    public long persist(final CreationPlan creationPlan, final Iterator<PlanRecord> records, final Set<ClassIndex> deletedItems) {
+        this.creationPlan = (CreationPlanImpl) creationPlan;
+        final Map<ClassIndex, Object> classIndexMap = getClassIndexObjectMap(creationPlan);
+        final StreamedEntities streamedEntities = StreamedEntities.newInstance(this.creationPlan.getParentAssignmentTypes(), this::reattach);
+        final EntityManager entityManager = cache.getEntityManager();
+
+        long persisted = 0;
+        int skippedLevel = -1;
+        while (records.hasNext()) {
+            final PlanRecord record = records.next();
+            if (skippedLevel >= 0) {
+                if (record.getLevel() > skippedLevel) {
+                    continue;
+                }
+                skippedLevel = -1;
+            }
+
+            if (deletedItems.contains(ClassIndex.newInstance(record.getType(), record.getIndex()))) {
+                skippedLevel = record.getLevel();
+                continue;
+            }
+
+            persist(classIndexMap, streamedEntities, record.getType(), record.getIndex(), null);
+            if (++persisted % STREAM_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                classIndexMap.replaceAll((classIndex, entity) -> reattach(entity));
+                streamedEntities.detachAll();
+            }
+        }
+
+        entityManager.flush();
+        return persisted;
+    }
+
+    private Object reattach(final Object entity) {
+        final EntityManager entityManager = cache.getEntityManager();
+        final Object id = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+        if (id == null) {
+            return entity;
+        }
+
+        final Object managed = entityManager.find(entity.getClass(), id);
+        return managed != null ? managed : entity;
+    }
+
     private Map<ClassIndex, Object> getClassIndexObjectMap(final CreationPlan creationPlan) {
         final PersistedEntityResolver persistedEntityResolver = new PersistedEntityResolverImpl(cache);
         return persistedEntityResolver.loadPersistedObjectByIds(creationPlan);
@@ -78,69 +134,57 @@ public final class EntityPersistorImpl implements Persistor {
 
     private void persist(final Map<ClassIndex, Object> classIndexMap, final ResultNode resultNode, final ResultNodeTree resultNodeTree, final List<Node> childNodes) {
         for (Node childNode : childNodes) {
-            if (childNode.getValue() != null) {
-                final ResultNode resultChildNode = ResultNode.newInstance(childNode.getType(), getIndex(resultNodeTree, childNode.getType()));
+            if (!childNode.isDeleted()) {
+                final ResultNode resultChildNode = ResultNode.newInstance(childNode.getType(), resultNodeTree.getCount(childNode.getType()));
                 resultNode.addChildNode(resultChildNode);
-                persist(classIndexMap, resultChildNode, resultNodeTree, childNode);
+                resultChildNode.setValue(persist(classIndexMap, resultNodeTree, childNode.getType(), childNode.getIndex(), childNode.getValue()));
+                persist(classIndexMap, resultChildNode, resultNodeTree, childNode.getChildNodes());
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void persist(final Map<ClassIndex, Object> classIndexMap, final ResultNode resultNode, final ResultNodeTree resultNodeTree, final Node node) {
+    private Object persist(final Map<ClassIndex, Object> classIndexMap, final PersistedEntities persistedEntities,
+                           final Class<?> type, final int index, final Object value) {
 
-        Object persistedObject = classIndexMap.get(ClassIndex.newInstance(node.getType(), node.getIndex()));
+        Object persistedObject = classIndexMap.get(ClassIndex.newInstance(type, index));
 
         if (persistedObject == null) {
-            persistedObject = classIndexMap.get(ClassIndex.newInstance(node.getType(), PersistedEntityResolver.DEFAULT_INDEX));
+            persistedObject = classIndexMap.get(ClassIndex.newInstance(type, PersistedEntityResolver.DEFAULT_INDEX));
             if (persistedObject == null) {
-                final Object random = createRandomObject(node, resultNodeTree);
+                final Object random = createRandomObject(type, value, persistedEntities);
                 persistedObject = functionProcessor.findOrSave(random);
             }
         }
 
-        resultNode.setValue(persistedObject);
-        resultNodeTree.put(node.getType(), persistedObject);
-
-        final List<Node> childNodes = node.getChildNodes();
-        persist(classIndexMap, resultNode, resultNodeTree, childNodes);
-
+        persistedEntities.put(type, persistedObject);
+        return persistedObject;
     }
 
-    private int getIndex(final ResultNodeTree resultNodeTree, final Class type) {
-        final List<Object> objects = resultNodeTree.getCreatedEntities().get(type);
-        return isEmpty(objects) ? 0 : objects.size();
-    }
+    private Object createRandomObject(final Class<?> type, final Object value, final PersistedEntities persistedEntities) {
+        final Object random = value != null ? value : randomize.createRandom(type);
+        randomize.populateRandomFields(random, persistedEntities.getCount(random.getClass()));
 
-    private boolean isEmpty(final List<Object> objects) {
-        return objects == null || objects.isEmpty();
-    }
-
-    private Object createRandomObject(final Node node, final ResultNodeTree resultNodeTree) {
-        final Object random = node.getValue();
-
-        final TableNode tableNode = getTableNode(node.getType());
+        final TableNode tableNode = getTableNode(type);
         if (tableNode != null) {
             final List<Relation> relations = tableNode.getRelations();
 
             for (Relation relation : relations) {
-                createRelation(resultNodeTree, relation);
+                createRelation(persistedEntities, relation, random);
             }
         }
 
-        return randomize.populateRandomFields(random, getIndexForNewEntity(resultNodeTree, random.getClass()));
+        return random;
     }
 
     private TableNode getTableNode(final Class<?> type) {
         return hierarchyGraph.getParentRelations().get(type);
     }
 
-    private void createRelation(final ResultNodeTree resultNodeTree, final Relation relation) {
+    private void createRelation(final PersistedEntities persistedEntities, final Relation relation, final Object random) {
         try {
             final Field fromField = relation.getFrom().getField();
-            if (!randomize.isValueProvided(fromField, getIndexForNewEntity(resultNodeTree, fromField.getDeclaringClass()))) {
-                final Object value = getFieldValue(resultNodeTree, relation);
-                randomize.addCustomFieldValue(fromField, getIndexForNewEntity(resultNodeTree, fromField.getDeclaringClass()), value);
+            if (!randomize.isValueProvided(fromField, persistedEntities.getCount(fromField.getDeclaringClass()))) {
+                Util.setFieldValue(fromField, random, getFieldValue(persistedEntities, relation));
             }
         } catch (final Exception e) {
             //do nothing
@@ -148,10 +192,11 @@ public final class EntityPersistorImpl implements Persistor {
 
     }
 
-    private Object getFieldValue(final ResultNodeTree resultNodeTree, final Relation relation) {
+    private Object getFieldValue(final PersistedEntities persistedEntities, final Relation relation) {
         final Field field = relation.getTo().getField();
-        final List<Object> objects = getPersistedEntitiesByFieldDeclaringClass(resultNodeTree, field.getDeclaringClass());
-        final Object object = objects.get(objects.size() - 1);
+        final Class<?> parentType = field.getDeclaringClass();
+        final Object object = persistedEntities.getEntity(parentType,
+                getParentIndex(persistedEntities, relation, persistedEntities.getCount(parentType)));
         final Object value;
         final Field fromField = relation.getFrom().getField();
         if (fromField.getType().equals(object.getClass())) {
@@ -162,13 +207,15 @@ public final class EntityPersistorImpl implements Persistor {
         return value;
     }
 
-    private int getIndexForNewEntity(final ResultNodeTree resultNodeTree, final Class<?> declaringClass) {
-        final List<Object> values = getPersistedEntitiesByFieldDeclaringClass(resultNodeTree, declaringClass);
-        return values != null ? values.size() : 0;
-    }
-
-    private List<Object> getPersistedEntitiesByFieldDeclaringClass(final ResultNodeTree resultNodeTree, final Class<?> declaringClass) {
-        final Map<Class<?>, List<Object>> createdEntities = resultNodeTree.getCreatedEntities();
-        return createdEntities.get(declaringClass);
+    private int getParentIndex(final PersistedEntities persistedEntities, final Relation relation, final int persistedCount) {
+        final Class<?> childType = relation.getFrom().getInitializationClass();
+        final int[] assignment = creationPlan.getParentAssignment(childType, relation.getTo().getInitializationClass());
+        if (assignment != null) {
+            final int childIndex = persistedEntities.getCount(childType);
+            if (childIndex < assignment.length && assignment[childIndex] < persistedCount) {
+                return assignment[childIndex];
+            }
+        }
+        return persistedCount - 1;
     }
 }
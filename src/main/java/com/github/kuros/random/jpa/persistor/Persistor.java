@@ -1,7 +1,12 @@
 package com.github.kuros.random.jpa.persistor;
 
 import com.github.kuros.random.jpa.persistor.model.ResultNodeTree;
+import com.github.kuros.random.jpa.types.ClassIndex;
 import com.github.kuros.random.jpa.types.CreationPlan;
+import com.github.kuros.random.jpa.v1.resolver.PlanRecord;
+
+import java.util.Iterator;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -22,4 +27,12 @@ import com.github.kuros.random.jpa.types.CreationPlan;
 public interface Persistor {
 
     ResultNodeTree persist(CreationPlan creationPlan);
+
+    /**
+     * Persists the records one by one, keeping only a bounded view of the persisted entities.
+     *
+     * @param creationPlan holds the field values and parent assignments of the plan, its nodes are not used
+     * @return number of persisted entities
+     */
+    long persist(CreationPlan creationPlan, Iterator<PlanRecord> records, Set<ClassIndex> deletedItems);
 }
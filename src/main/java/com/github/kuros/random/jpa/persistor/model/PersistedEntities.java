@@ -0,0 +1,29 @@
+package com.github.kuros.random.jpa.persistor.model;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Entities persisted so far while a plan is being persisted, by type in persist order.
+ */
+public interface PersistedEntities {
+
+    void put(Class<?> type, Object object);
+
+    int getCount(Class<?> type);
+
+    Object getEntity(Class<?> type, int index);
+}
@@ -24,7 +24,7 @@ import java.util.Map;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public class ResultNodeTree {
+public class ResultNodeTree implements PersistedEntities {
 
     private final ResultNode root;
     private final Cache cache;
@@ -40,10 +40,22 @@ public class ResultNodeTree {
         return new ResultNodeTree(cache, root);
     }
 
+    @Override
     public void put(final Class<?> type, final Object object) {
         resultMap.computeIfAbsent(type, k -> new ArrayList<>()).add(object);
     }
 
+    @Override
+    public int getCount(final Class<?> type) {
+        final List<Object> objects = resultMap.get(type);
+        return objects == null ? 0 : objects.size();
+    }
+
+    @Override
+    public Object getEntity(final Class<?> type, final int index) {
+        return resultMap.get(type).get(index);
+    }
+
 
     @SuppressWarnings("unchecked")
     public <T> T get(final Class<T> type) {
@@ -0,0 +1,106 @@
+package com.github.kuros.random.jpa.persistor.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Bounded view of the persisted entities, used when a plan is streamed. Only the count and the last entity of
+ * each type are kept; the retained types keep every entity so that they can be referred to by index. After the
+ * persistence context is cleared, each kept entity is re-attached the next time it is read.
+ */
+public final class StreamedEntities implements PersistedEntities {
+
+    private final Set<Class<?>> retainedTypes;
+    private final Map<Class<?>, Integer> counts;
+    private final Map<Class<?>, Object> lastEntities;
+    private final Map<Class<?>, List<Object>> retainedEntities;
+    private final UnaryOperator<Object> reattach;
+    private final Set<Class<?>> attachedLastEntities;
+    private final Map<Class<?>, BitSet> attachedRetainedEntities;
+
+    private StreamedEntities(final Set<Class<?>> retainedTypes, final UnaryOperator<Object> reattach) {
+        this.retainedTypes = retainedTypes;
+        this.reattach = reattach;
+        this.counts = new HashMap<>();
+        this.lastEntities = new HashMap<>();
+        this.retainedEntities = new HashMap<>();
+        this.attachedLastEntities = new HashSet<>();
+        this.attachedRetainedEntities = new HashMap<>();
+    }
+
+    public static StreamedEntities newInstance(final Set<Class<?>> retainedTypes, final UnaryOperator<Object> reattach) {
+        return new StreamedEntities(retainedTypes, reattach);
+    }
+
+    @Override
+    public void put(final Class<?> type, final Object object) {
+        counts.merge(type, 1, Integer::sum);
+        lastEntities.put(type, object);
+        attachedLastEntities.add(type);
+        if (retainedTypes.contains(type)) {
+            final List<Object> entities = retainedEntities.computeIfAbsent(type, k -> new ArrayList<>());
+            attachedRetainedEntities.computeIfAbsent(type, k -> new BitSet()).set(entities.size());
+            entities.add(object);
+        }
+    }
+
+    /**
+     * Marks every kept entity as detached, to be called after the persistence context is cleared.
+     */
+    public void detachAll() {
+        attachedLastEntities.clear();
+        for (BitSet attached : attachedRetainedEntities.values()) {
+            attached.clear();
+        }
+    }
+
+    @Override
+    public int getCount(final Class<?> type) {
+        final Integer count = counts.get(type);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Object getEntity(final Class<?> type, final int index) {
+        final List<Object> entities = retainedEntities.get(type);
+        if (entities != null) {
+            final BitSet attached = attachedRetainedEntities.get(type);
+            if (!attached.get(index)) {
+                entities.set(index, reattach.apply(entities.get(index)));
+                attached.set(index);
+            }
+            return entities.get(index);
+        }
+
+        if (index != getCount(type) - 1) {
+            throw new IndexOutOfBoundsException("Only the last entity is kept for " + type.getName());
+        }
+
+        if (attachedLastEntities.add(type)) {
+            lastEntities.put(type, reattach.apply(lastEntities.get(type)));
+        }
+        return lastEntities.get(type);
+    }
+}
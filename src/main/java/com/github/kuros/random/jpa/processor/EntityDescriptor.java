@@ -0,0 +1,132 @@
+package com.github.kuros.random.jpa.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+final class EntityDescriptor {
+
+    private final String packageName;
+    private final String simpleName;
+    private final String className;
+    private final boolean topLevel;
+    private String tableName;
+    private final List<String> idColumns;
+    private final List<ColumnDescriptor> columns;
+    private final List<SetterDescriptor> setters;
+
+    EntityDescriptor(final String packageName, final String simpleName, final String className, final boolean topLevel) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.className = className;
+        this.topLevel = topLevel;
+        this.idColumns = new ArrayList<>();
+        this.columns = new ArrayList<>();
+        this.setters = new ArrayList<>();
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getSimpleName() {
+        return simpleName;
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    boolean isTopLevel() {
+        return topLevel;
+    }
+
+    String getTableName() {
+        return tableName;
+    }
+
+    void setTableName(final String tableName) {
+        this.tableName = tableName;
+    }
+
+    List<String> getIdColumns() {
+        return idColumns;
+    }
+
+    List<ColumnDescriptor> getColumns() {
+        return columns;
+    }
+
+    List<SetterDescriptor> getSetters() {
+        return setters;
+    }
+
+    static final class ColumnDescriptor {
+        private final String attributeName;
+        private final String columnName;
+        private final boolean basic;
+
+        ColumnDescriptor(final String attributeName, final String columnName, final boolean basic) {
+            this.attributeName = attributeName;
+            this.columnName = columnName;
+            this.basic = basic;
+        }
+
+        String getAttributeName() {
+            return attributeName;
+        }
+
+        String getColumnName() {
+            return columnName;
+        }
+
+        boolean isBasic() {
+            return basic;
+        }
+    }
+
+    static final class SetterDescriptor {
+        private final String fieldName;
+        private final String valueType;
+        private final boolean primitive;
+        private final String setterName;
+
+        SetterDescriptor(final String fieldName, final String valueType, final boolean primitive, final String setterName) {
+            this.fieldName = fieldName;
+            this.valueType = valueType;
+            this.primitive = primitive;
+            this.setterName = setterName;
+        }
+
+        String getFieldName() {
+            return fieldName;
+        }
+
+        String getValueType() {
+            return valueType;
+        }
+
+        boolean isPrimitive() {
+            return primitive;
+        }
+
+        String getSetterName() {
+            return setterName;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.kuros.random.jpa.processor;
+
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+@SupportedAnnotationTypes(EntityMetadataProcessor.ENTITY)
+@SupportedOptions({EntityMetadataProcessor.PACKAGE_OPTION, EntityMetadataProcessor.CLASS_NAME_OPTION, EntityMetadataProcessor.NAMING_OPTION})
+public class EntityMetadataProcessor extends AbstractProcessor {
+
+    public static final String PACKAGE_OPTION = "randomjpa.package";
+    public static final String CLASS_NAME_OPTION = "randomjpa.className";
+    public static final String NAMING_OPTION = "randomjpa.naming";
+    public static final String SNAKE_CASE_NAMING = "snake_case";
+
+    static final String ENTITY = "javax.persistence.Entity";
+    private static final String DEFAULT_PACKAGE = "com.github.kuros.random.jpa.generated";
+    private static final String DEFAULT_CLASS_NAME = "GeneratedAttributeProvider";
+
+    private final List<EntityDescriptor> descriptors = new ArrayList<>();
+    private boolean attributeProviderWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement entityAnnotation = processingEnv.getElementUtils().getTypeElement(ENTITY);
+        final Set<? extends Element> entities = entityAnnotation != null
+                ? roundEnv.getElementsAnnotatedWith(entityAnnotation) : Collections.<Element>emptySet();
+
+        final EntityReader entityReader = new EntityReader(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),
+                processingEnv.getMessager(), SNAKE_CASE_NAMING.equals(processingEnv.getOptions().get(NAMING_OPTION)));
+
+        for (TypeElement entity : ElementFilter.typesIn(entities)) {
+            final EntityDescriptor descriptor = entityReader.read(entity);
+            if (descriptor == null) {
+                continue;
+            }
+
+            descriptors.add(descriptor);
+            if (descriptor.isTopLevel()) {
+                writeSource(getQualifiedName(descriptor.getPackageName(), SourceWriter.getPopulatorName(descriptor)),
+                        SourceWriter.writePopulator(descriptor), entity);
+            }
+        }
+
+        if (entities.isEmpty() && !attributeProviderWritten && !descriptors.isEmpty()) {
+            writeAttributeProvider();
+            attributeProviderWritten = true;
+        }
+        return false;
+    }
+
+    private void writeAttributeProvider() {
+        final String packageName = getOption(PACKAGE_OPTION, DEFAULT_PACKAGE);
+        final String className = getQualifiedName(packageName, getOption(CLASS_NAME_OPTION, DEFAULT_CLASS_NAME));
+        writeSource(className, SourceWriter.writeAttributeProvider(packageName, getOption(CLASS_NAME_OPTION, DEFAULT_CLASS_NAME), descriptors));
+
+        try {
+            final FileObject serviceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + AttributeProvider.class.getName());
+            try (Writer writer = serviceFile.openWriter()) {
+                writer.write(className);
+                writer.write("\n");
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register " + className + ": " + e.getMessage());
+        }
+    }
+
+    private void writeSource(final String className, final String source, final Element... originatingElements) {
+        try {
+            final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(className, originatingElements);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + className + ": " + e.getMessage());
+        }
+    }
+
+    private String getOption(final String option, final String defaultValue) {
+        final String value = processingEnv.getOptions().get(option);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+
+    private static String getQualifiedName(final String packageName, final String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+}
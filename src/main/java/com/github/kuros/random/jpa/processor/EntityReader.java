@@ -0,0 +1,350 @@
+package com.github.kuros.random.jpa.processor;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+final class EntityReader {
+
+    private static final String ENTITY = "javax.persistence.Entity";
+    private static final String MAPPED_SUPERCLASS = "javax.persistence.MappedSuperclass";
+    private static final String EMBEDDABLE = "javax.persistence.Embeddable";
+    private static final String TABLE = "javax.persistence.Table";
+    private static final String INHERITANCE = "javax.persistence.Inheritance";
+    private static final String ACCESS = "javax.persistence.Access";
+    private static final String ID = "javax.persistence.Id";
+    private static final String EMBEDDED_ID = "javax.persistence.EmbeddedId";
+    private static final String EMBEDDED = "javax.persistence.Embedded";
+    private static final String TRANSIENT = "javax.persistence.Transient";
+    private static final String COLUMN = "javax.persistence.Column";
+    private static final String JOIN_COLUMN = "javax.persistence.JoinColumn";
+    private static final String JOIN_COLUMNS = "javax.persistence.JoinColumns";
+    private static final String MANY_TO_ONE = "javax.persistence.ManyToOne";
+    private static final String ONE_TO_ONE = "javax.persistence.OneToOne";
+    private static final String ONE_TO_MANY = "javax.persistence.OneToMany";
+    private static final String MANY_TO_MANY = "javax.persistence.ManyToMany";
+    private static final String ELEMENT_COLLECTION = "javax.persistence.ElementCollection";
+
+    private final Elements elements;
+    private final Types types;
+    private final Messager messager;
+    private final boolean snakeCase;
+
+    EntityReader(final Elements elements, final Types types, final Messager messager, final boolean snakeCase) {
+        this.elements = elements;
+        this.types = types;
+        this.messager = messager;
+        this.snakeCase = snakeCase;
+    }
+
+    EntityDescriptor read(final TypeElement entity) {
+        final List<TypeElement> hierarchy = getPersistentHierarchy(entity);
+        final String unsupported = getUnsupportedMapping(hierarchy);
+        if (unsupported != null) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Skipping " + entity.getQualifiedName() + ": " + unsupported
+                    + ", its metadata will be read from the JPA provider at runtime", entity);
+            return null;
+        }
+
+        final EntityDescriptor descriptor = new EntityDescriptor(
+                elements.getPackageOf(entity).getQualifiedName().toString(),
+                entity.getSimpleName().toString(),
+                entity.getQualifiedName().toString(),
+                entity.getNestingKind() == NestingKind.TOP_LEVEL);
+        descriptor.setTableName(getPhysicalName(getTableName(hierarchy)).toLowerCase());
+
+        final String idColumnName = getIdColumnName(entity);
+        for (TypeElement type : hierarchy) {
+            for (VariableElement field : getPersistentFields(type)) {
+                addColumn(descriptor, field, idColumnName);
+            }
+        }
+
+        if (descriptor.isTopLevel()) {
+            addSetters(descriptor, entity);
+        }
+        return descriptor;
+    }
+
+    private List<TypeElement> getPersistentHierarchy(final TypeElement entity) {
+        final List<TypeElement> hierarchy = new ArrayList<>();
+        TypeElement type = entity;
+        while (type != null) {
+            if (getAnnotation(type, ENTITY) != null || getAnnotation(type, MAPPED_SUPERCLASS) != null) {
+                hierarchy.add(type);
+            }
+            final TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        Collections.reverse(hierarchy);
+        return hierarchy;
+    }
+
+    private String getUnsupportedMapping(final List<TypeElement> hierarchy) {
+        for (TypeElement type : hierarchy) {
+            final Object strategy = getValue(getAnnotation(type, INHERITANCE), "strategy");
+            if (strategy != null && !strategy.toString().equals("SINGLE_TABLE")) {
+                return "only SINGLE_TABLE inheritance is supported";
+            }
+
+            final Object access = getValue(getAnnotation(type, ACCESS), "value");
+            if (access != null && access.toString().equals("PROPERTY")) {
+                return "only field access is supported";
+            }
+
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (getAnnotation(method, ID) != null || getAnnotation(method, EMBEDDED_ID) != null) {
+                    return "only field access is supported";
+                }
+            }
+
+            for (VariableElement field : getPersistentFields(type)) {
+                if (getAnnotation(field, EMBEDDED_ID) != null) {
+                    return "@EmbeddedId is not supported";
+                }
+                if (isEmbedded(field)) {
+                    return "@Embedded is not supported";
+                }
+                if (getAnnotation(field, ID) != null && isAssociation(field)) {
+                    return "derived identifiers are not supported";
+                }
+            }
+        }
+        return null;
+    }
+
+    private String getTableName(final List<TypeElement> hierarchy) {
+        for (TypeElement type : hierarchy) {
+            final AnnotationMirror entity = getAnnotation(type, ENTITY);
+            if (entity != null) {
+                final String tableName = getString(getAnnotation(type, TABLE), "name");
+                if (tableName != null) {
+                    return tableName;
+                }
+                final String entityName = getString(entity, "name");
+                return entityName != null ? entityName : type.getSimpleName().toString();
+            }
+        }
+        throw new IllegalStateException("No @Entity found in " + hierarchy);
+    }
+
+    private void addColumn(final EntityDescriptor descriptor, final VariableElement field, final String idColumnName) {
+        final String attributeName = field.getSimpleName().toString();
+
+        if (getAnnotation(field, ID) != null) {
+            final String columnName = getColumnName(field);
+            descriptor.getIdColumns().add(columnName);
+            descriptor.getColumns().add(new EntityDescriptor.ColumnDescriptor(attributeName, columnName, true));
+            return;
+        }
+
+        if (getAnnotation(field, ONE_TO_MANY) != null || getAnnotation(field, MANY_TO_MANY) != null
+                || getAnnotation(field, ELEMENT_COLLECTION) != null) {
+            if (idColumnName != null) {
+                descriptor.getColumns().add(new EntityDescriptor.ColumnDescriptor(attributeName, idColumnName, false));
+            }
+            return;
+        }
+
+        if (isAssociation(field)) {
+            if (getString(getAnnotation(field, ONE_TO_ONE), "mappedBy") != null) {
+                return;
+            }
+
+            final AnnotationMirror joinColumn = getJoinColumn(field);
+            if (Boolean.FALSE.equals(getValue(joinColumn, "insertable"))) {
+                return;
+            }
+
+            final String columnName = getJoinColumnName(field, joinColumn);
+            if (columnName != null) {
+                descriptor.getColumns().add(new EntityDescriptor.ColumnDescriptor(attributeName, columnName, false));
+            }
+            return;
+        }
+
+        if (Boolean.FALSE.equals(getValue(getAnnotation(field, COLUMN), "insertable"))) {
+            return;
+        }
+        descriptor.getColumns().add(new EntityDescriptor.ColumnDescriptor(attributeName, getColumnName(field), true));
+    }
+
+    private String getColumnName(final VariableElement field) {
+        final String columnName = getString(getAnnotation(field, COLUMN), "name");
+        return getPhysicalName(columnName != null ? columnName : field.getSimpleName().toString());
+    }
+
+    private String getJoinColumnName(final VariableElement field, final AnnotationMirror joinColumn) {
+        final String columnName = getString(joinColumn, "name");
+        if (columnName != null) {
+            return getPhysicalName(columnName);
+        }
+
+        if (field.asType().getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final String referencedColumn = getIdColumnName((TypeElement) ((DeclaredType) field.asType()).asElement());
+        if (referencedColumn == null) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Skipping " + field.getSimpleName() + ": referenced id column not found", field);
+            return null;
+        }
+        return getPhysicalName(field.getSimpleName() + "_" + referencedColumn);
+    }
+
+    private String getIdColumnName(final TypeElement type) {
+        for (TypeElement superType : getPersistentHierarchy(type)) {
+            for (VariableElement field : getPersistentFields(superType)) {
+                if (getAnnotation(field, ID) != null) {
+                    return getColumnName(field);
+                }
+            }
+        }
+        return null;
+    }
+
+    private AnnotationMirror getJoinColumn(final VariableElement field) {
+        final AnnotationMirror joinColumn = getAnnotation(field, JOIN_COLUMN);
+        if (joinColumn != null) {
+            return joinColumn;
+        }
+
+        final Object joinColumns = getValue(getAnnotation(field, JOIN_COLUMNS), "value");
+        if (joinColumns instanceof List && !((List<?>) joinColumns).isEmpty()) {
+            return (AnnotationMirror) ((AnnotationValue) ((List<?>) joinColumns).get(0)).getValue();
+        }
+        return null;
+    }
+
+    private boolean isAssociation(final VariableElement field) {
+        return getAnnotation(field, MANY_TO_ONE) != null || getAnnotation(field, ONE_TO_ONE) != null;
+    }
+
+    private boolean isEmbedded(final VariableElement field) {
+        return getAnnotation(field, EMBEDDED) != null
+                || (field.asType().getKind() == TypeKind.DECLARED
+                && getAnnotation(((DeclaredType) field.asType()).asElement(), EMBEDDABLE) != null);
+    }
+
+    private void addSetters(final EntityDescriptor descriptor, final TypeElement entity) {
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(entity));
+
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+                continue;
+            }
+
+            final TypeMirror fieldType = types.erasure(field.asType());
+            final boolean primitive = fieldType.getKind().isPrimitive();
+            final String valueType = primitive
+                    ? types.boxedClass((PrimitiveType) fieldType).getQualifiedName().toString()
+                    : fieldType.toString();
+            final String fieldName = field.getSimpleName().toString();
+
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                descriptor.getSetters().add(new EntityDescriptor.SetterDescriptor(fieldName, valueType, primitive, null));
+                continue;
+            }
+
+            final String setterName = "set" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(setterName)
+                        && method.getParameters().size() == 1
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && types.isSameType(types.erasure(method.getParameters().get(0).asType()), fieldType)) {
+                    descriptor.getSetters().add(new EntityDescriptor.SetterDescriptor(fieldName, valueType, primitive, setterName));
+                    break;
+                }
+            }
+        }
+    }
+
+    private List<VariableElement> getPersistentFields(final TypeElement type) {
+        final List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)
+                    && !field.getModifiers().contains(Modifier.TRANSIENT)
+                    && getAnnotation(field, TRANSIENT) == null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private String getPhysicalName(final String name) {
+        if (!snakeCase) {
+            return name;
+        }
+
+        final StringBuilder builder = new StringBuilder(name.replace('.', '_'));
+        for (int i = 1; i < builder.length() - 1; i++) {
+            if (Character.isLowerCase(builder.charAt(i - 1)) && Character.isUpperCase(builder.charAt(i))
+                    && Character.isLowerCase(builder.charAt(i + 1))) {
+                builder.insert(i++, '_');
+            }
+        }
+        return builder.toString().toLowerCase();
+    }
+
+    private static AnnotationMirror getAnnotation(final Element element, final String annotationName) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotationMirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object getValue(final AnnotationMirror annotationMirror, final String attribute) {
+        if (annotationMirror == null) {
+            return null;
+        }
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String getString(final AnnotationMirror annotationMirror, final String attribute) {
+        final Object value = getValue(annotationMirror, attribute);
+        return value instanceof String && !((String) value).isEmpty() ? (String) value : null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.kuros.random.jpa.processor;
+
+import com.github.kuros.random.jpa.metamodel.EntityPopulators;
+
+import java.util.List;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+final class SourceWriter {
+
+    private SourceWriter() {
+    }
+
+    static String getPopulatorName(final EntityDescriptor descriptor) {
+        return descriptor.getSimpleName() + EntityPopulators.SUFFIX;
+    }
+
+    static String writePopulator(final EntityDescriptor descriptor) {
+        final StringBuilder builder = new StringBuilder();
+        if (!descriptor.getPackageName().isEmpty()) {
+            builder.append("package ").append(descriptor.getPackageName()).append(";\n\n");
+        }
+
+        builder.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(getPopulatorName(descriptor))
+                .append(" implements com.github.kuros.random.jpa.metamodel.EntityPopulator<").append(descriptor.getClassName()).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public boolean set(final ").append(descriptor.getClassName())
+                .append(" entity, final String fieldName, final Object value) {\n")
+                .append("        switch (fieldName) {\n");
+
+        for (EntityDescriptor.SetterDescriptor setter : descriptor.getSetters()) {
+            builder.append("            case \"").append(setter.getFieldName()).append("\":\n");
+            if (setter.isPrimitive()) {
+                builder.append("                if (value == null) {\n")
+                        .append("                    throw new IllegalArgumentException(\"Cannot assign null to ")
+                        .append(setter.getFieldName()).append("\");\n")
+                        .append("                }\n");
+            }
+
+            final String castValue = "(" + setter.getValueType() + ") value";
+            if (setter.getSetterName() == null) {
+                builder.append("                entity.").append(setter.getFieldName()).append(" = ").append(castValue).append(";\n");
+            } else {
+                builder.append("                entity.").append(setter.getSetterName()).append("(").append(castValue).append(");\n");
+            }
+            builder.append("                return true;\n");
+        }
+
+        builder.append("            default:\n")
+                .append("                return false;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return builder.toString();
+    }
+
+    static String writeAttributeProvider(final String packageName, final String className, final List<EntityDescriptor> descriptors) {
+        final StringBuilder builder = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("import com.github.kuros.random.jpa.metamodel.AttributeProvider;\n")
+                .append("import com.github.kuros.random.jpa.metamodel.model.ColumnNameType;\n")
+                .append("import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;\n")
+                .append("import com.github.kuros.random.jpa.metamodel.providers.SnapshotAttributeProvider;\n\n")
+                .append("import java.util.ArrayList;\n")
+                .append("import java.util.List;\n\n")
+                .append("public final class ").append(className).append(" implements AttributeProvider {\n\n")
+                .append("    private final AttributeProvider delegate;\n\n")
+                .append("    public ").append(className).append("() {\n")
+                .append("        final List<EntityTableMapping> entityTableMappings = new ArrayList<>();\n");
+
+        for (int i = 0; i < descriptors.size(); i++) {
+            builder.append("        entityTableMappings.add(mapping").append(i).append("());\n");
+        }
+
+        builder.append("        this.delegate = SnapshotAttributeProvider.newInstance(entityTableMappings);\n")
+                .append("    }\n\n")
+                .append("    public EntityTableMapping get(final Class<?> type) {\n")
+                .append("        return delegate.get(type);\n")
+                .append("    }\n\n")
+                .append("    public List<EntityTableMapping> get(final String tableName) {\n")
+                .append("        return delegate.get(tableName);\n")
+                .append("    }\n");
+
+        for (int i = 0; i < descriptors.size(); i++) {
+            writeMapping(builder, i, descriptors.get(i));
+        }
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private static void writeMapping(final StringBuilder builder, final int index, final EntityDescriptor descriptor) {
+        builder.append("\n    private static EntityTableMapping mapping").append(index).append("() {\n")
+                .append("        final EntityTableMapping mapping = new EntityTableMapping(")
+                .append(descriptor.getClassName()).append(".class);\n")
+                .append("        mapping.setTableName(").append(quote(descriptor.getTableName())).append(");\n");
+
+        for (String idColumn : descriptor.getIdColumns()) {
+            builder.append("        mapping.addColumnIds(").append(quote(idColumn)).append(");\n");
+        }
+
+        for (EntityDescriptor.ColumnDescriptor column : descriptor.getColumns()) {
+            builder.append("        mapping.addAttributeColumnMapping(").append(quote(column.getAttributeName()))
+                    .append(", new ColumnNameType(").append(quote(column.getColumnName()))
+                    .append(", ColumnNameType.Type.").append(column.isBasic() ? "BASIC" : "MAPPED").append("));\n");
+        }
+
+        builder.append("        for (String id : mapping.getColumnIds()) {\n")
+                .append("            mapping.addAttributeIds(mapping.getAttributeName(id));\n")
+                .append("        }\n")
+                .append("        return mapping;\n")
+                .append("    }\n");
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
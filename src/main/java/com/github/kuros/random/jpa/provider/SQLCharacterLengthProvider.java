@@ -1,5 +1,7 @@
 package com.github.kuros.random.jpa.provider;
 
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
+
 /*
  * Copyright (c) 2015 Kumar Rohit
  *
@@ -21,4 +23,6 @@ public interface SQLCharacterLengthProvider {
     int DEFAULT_MAX_LENGTH = 10;
 
     Object applyLengthConstraint(final String entityName, final String attributeName, final Object value);
+
+    ColumnDetail getColumnDetail(final String entityName, final String attributeName);
 }
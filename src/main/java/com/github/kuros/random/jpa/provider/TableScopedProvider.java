@@ -0,0 +1,27 @@
+package com.github.kuros.random.jpa.provider;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public interface TableScopedProvider {
+
+    void loadTables(final EntityManager entityManager, final Collection<String> tableNames);
+
+    void reloadTables(final EntityManager entityManager, final Collection<String> tableNames);
+}
@@ -5,16 +5,20 @@ import com.github.kuros.random.jpa.log.Logger;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
 import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
 import com.github.kuros.random.jpa.provider.model.ColumnCharacterLength;
 import com.github.kuros.random.jpa.provider.model.ColumnDetail;
-import com.github.kuros.random.jpa.util.NumberUtil;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
-import java.text.NumberFormat;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -32,24 +36,66 @@ import java.util.Map;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public abstract class AbstractCharacterLengthProvider implements SQLCharacterLengthProvider {
+public abstract class AbstractCharacterLengthProvider implements SQLCharacterLengthProvider, TableScopedProvider {
 
     private static final Logger LOGGER = LogFactory.getLogger(AbstractCharacterLengthProvider.class);
     private static final Map<String, Class<?>> DATA_TYPE_MAP;
     private Map<String, ColumnCharacterLength> columnLengthsByTable;
-    private EntityManager entityManager;
     private AttributeProvider attributeProvider;
+    private Set<String> loadedTables;
+    private boolean lazy;
 
     public AbstractCharacterLengthProvider(final AttributeProvider attributeProvider, final EntityManager entityManager) {
+        this(attributeProvider, entityManager, false);
+    }
+
+    protected AbstractCharacterLengthProvider(final AttributeProvider attributeProvider, final EntityManager entityManager, final boolean lazy) {
         this.attributeProvider = attributeProvider;
-        this.entityManager = entityManager;
-        this.columnLengthsByTable = init();
+        this.lazy = lazy;
+        this.loadedTables = new HashSet<>();
+        this.columnLengthsByTable = new ConcurrentHashMap<>();
+        if (!lazy) {
+            columnLengthsByTable.putAll(init(entityManager));
+        }
     }
 
-    private Map<String, ColumnCharacterLength> init() {
-        final Map<String, ColumnCharacterLength> lengths = new HashMap<>();
+    private Map<String, ColumnCharacterLength> init(final EntityManager entityManager) {
         final Query query = entityManager.createNativeQuery(getQuery());
-        final List resultList = query.getResultList();
+        return toColumnLengths(query.getResultList());
+    }
+
+    public synchronized void loadTables(final EntityManager em, final Collection<String> tableNames) {
+        if (!lazy) {
+            return;
+        }
+
+        final List<String> pending = TableScopedQuery.pending(loadedTables, tableNames);
+        if (!pending.isEmpty()) {
+            columnLengthsByTable.putAll(toColumnLengths(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), pending)));
+            loadedTables.addAll(pending);
+        }
+    }
+
+    public synchronized void reloadTables(final EntityManager em, final Collection<String> tableNames) {
+        final List<String> tables = TableScopedQuery.pending(Collections.<String>emptySet(), tableNames);
+        if (tables.isEmpty()) {
+            return;
+        }
+
+        for (String tableName : tables) {
+            final List<EntityTableMapping> entityTableMappings = attributeProvider.get(tableName);
+            if (entityTableMappings != null) {
+                for (EntityTableMapping entityTableMapping : entityTableMappings) {
+                    columnLengthsByTable.remove(entityTableMapping.getEntityName());
+                }
+            }
+        }
+        columnLengthsByTable.putAll(toColumnLengths(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), tables)));
+        loadedTables.addAll(tables);
+    }
+
+    private Map<String, ColumnCharacterLength> toColumnLengths(final List resultList) {
+        final Map<String, ColumnCharacterLength> lengths = new HashMap<>();
         for (Object o : resultList) {
             final Object[] row = (Object[]) o;
 
@@ -89,40 +135,20 @@ public abstract class AbstractCharacterLengthProvider implements SQLCharacterLen
     }
 
     public Object applyLengthConstraint(final String entityName, final String attributeName, final Object value) {
-        final ColumnCharacterLength columnCharacterLength = columnLengthsByTable.get(entityName);
-        if (columnCharacterLength == null
-                || value == null
-                || columnCharacterLength.getColumnDetail(attributeName) == null) {
-            return value;
-        }
-
-        final ColumnDetail columnDetail = columnCharacterLength.getColumnDetail(attributeName);
-        Object returnValue = value;
-
-        if (columnDetail.getStringLength() != null && value instanceof String) {
-            final String s = value.toString();
-            final int length = s.length() < columnDetail.getStringLength() ? s.length() : columnDetail.getStringLength();
-            returnValue = s.substring(0, length);
-        }
-
-        if (value instanceof Number) {
-            final NumberFormat numberFormat = NumberFormat.getNumberInstance();
-            if (columnDetail.getPrecision() != null) {
-                numberFormat.setMaximumIntegerDigits(columnDetail.getPrecision());
-            }
-
-            if (columnDetail.getScale() != null) {
-                numberFormat.setMaximumFractionDigits(columnDetail.getScale());
-            }
+        return LengthConstraint.apply(getColumnDetail(entityName, attributeName), value);
+    }
 
-            returnValue = NumberUtil.castNumber(value.getClass(),
-                    NumberUtil.parseNumber(columnDetail.getMappedDataType(), numberFormat.format(value)));
-        }
-        return returnValue;
+    public ColumnDetail getColumnDetail(final String entityName, final String attributeName) {
+        final ColumnCharacterLength columnCharacterLength = columnLengthsByTable.get(entityName);
+        return columnCharacterLength == null ? null : columnCharacterLength.getColumnDetail(attributeName);
     }
 
     protected abstract String getQuery();
 
+    protected String getTableNameColumn() {
+        return "table_name";
+    }
+
     private Integer getValue(String tableName, String columnName, final Number number) {
         if (number == null) {
             return null;
@@ -3,14 +3,19 @@ package com.github.kuros.random.jpa.provider.base;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
 import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -28,21 +33,63 @@ import java.util.Set;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public abstract class AbstractMultiplePrimaryKeyProvider implements MultiplePrimaryKeyProvider {
+public abstract class AbstractMultiplePrimaryKeyProvider implements MultiplePrimaryKeyProvider, TableScopedProvider {
     private Map<Class<?>, List<String>> multiplePrimaryKeyCombinations;
     private AttributeProvider attributeProvider;
-    private EntityManager entityManager;
+    private Set<String> loadedTables;
+    private boolean lazy;
 
     public AbstractMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        this.multiplePrimaryKeyCombinations = new HashMap<>();
-        this.entityManager = entityManager;
+        this(entityManager, attributeProvider, false);
+    }
+
+    protected AbstractMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        this.multiplePrimaryKeyCombinations = new ConcurrentHashMap<>();
         this.attributeProvider = attributeProvider;
-        init();
+        this.loadedTables = new HashSet<>();
+        this.lazy = lazy;
+        if (!lazy) {
+            init(entityManager);
+        }
     }
 
-    protected void init() {
+    protected void init(final EntityManager entityManager) {
         final Query nativeQuery = entityManager.createNativeQuery(getQuery());
-        final List resultList = nativeQuery.getResultList();
+        multiplePrimaryKeyCombinations.putAll(toCombinations(nativeQuery.getResultList()));
+    }
+
+    public synchronized void loadTables(final EntityManager em, final Collection<String> tableNames) {
+        if (!lazy) {
+            return;
+        }
+
+        final List<String> pending = TableScopedQuery.pending(loadedTables, tableNames);
+        if (!pending.isEmpty()) {
+            multiplePrimaryKeyCombinations.putAll(toCombinations(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), pending)));
+            loadedTables.addAll(pending);
+        }
+    }
+
+    public synchronized void reloadTables(final EntityManager em, final Collection<String> tableNames) {
+        final List<String> tables = TableScopedQuery.pending(Collections.<String>emptySet(), tableNames);
+        if (tables.isEmpty()) {
+            return;
+        }
+
+        for (String tableName : tables) {
+            final List<EntityTableMapping> entityTableMappings = attributeProvider.get(tableName);
+            if (entityTableMappings != null) {
+                for (EntityTableMapping entityTableMapping : entityTableMappings) {
+                    multiplePrimaryKeyCombinations.remove(entityTableMapping.getEntityClass());
+                }
+            }
+        }
+        multiplePrimaryKeyCombinations.putAll(toCombinations(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), tables)));
+        loadedTables.addAll(tables);
+    }
+
+    private Map<Class<?>, List<String>> toCombinations(final List resultList) {
+        final Map<Class<?>, List<String>> combinations = new HashMap<>();
         for (Object result : resultList) {
             final Object[] row = (Object[]) result;
             final List<EntityTableMapping> entityTableMappings = attributeProvider.get((String) row[0]);
@@ -50,18 +97,19 @@ public abstract class AbstractMultiplePrimaryKeyProvider implements MultiplePrim
                 for (EntityTableMapping entityTableMapping : entityTableMappings) {
                     final String attributeName = entityTableMapping.getAttributeName((String) row[1]);
                     if (attributeName != null) {
-                        List<String> attributeList = multiplePrimaryKeyCombinations.computeIfAbsent(entityTableMapping.getEntityClass(), k -> new ArrayList<>());
+                        List<String> attributeList = combinations.computeIfAbsent(entityTableMapping.getEntityClass(), k -> new ArrayList<>());
                         attributeList.add(attributeName);
                     }
                 }
             }
         }
 
-        filter();
+        filter(combinations);
+        return combinations;
     }
 
-    private void filter() {
-        final Set<Map.Entry<Class<?>, List<String>>> entries = multiplePrimaryKeyCombinations.entrySet();
+    private void filter(final Map<Class<?>, List<String>> combinations) {
+        final Set<Map.Entry<Class<?>, List<String>>> entries = combinations.entrySet();
 
         final List<Class<?>> singleColumnTables = new ArrayList<>();
 
@@ -72,7 +120,7 @@ public abstract class AbstractMultiplePrimaryKeyProvider implements MultiplePrim
         }
 
         for (Class<?> singleColumnTable : singleColumnTables) {
-            multiplePrimaryKeyCombinations.remove(singleColumnTable);
+            combinations.remove(singleColumnTable);
         }
 
     }
@@ -82,4 +130,8 @@ public abstract class AbstractMultiplePrimaryKeyProvider implements MultiplePrim
     }
 
     protected abstract String getQuery();
+
+    protected String getTableNameColumn() {
+        return "table_name";
+    }
 }
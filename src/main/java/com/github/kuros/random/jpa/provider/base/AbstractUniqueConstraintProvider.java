@@ -2,15 +2,20 @@ package com.github.kuros.random.jpa.provider.base;
 
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
 import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -28,36 +33,85 @@ import java.util.Set;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public abstract class AbstractUniqueConstraintProvider implements UniqueConstraintProvider {
+public abstract class AbstractUniqueConstraintProvider implements UniqueConstraintProvider, TableScopedProvider {
     protected Map<Class<?>, List<String>> uniqueColumnCombinations;
     protected AttributeProvider attributeProvider;
-    protected EntityManager entityManager;
+    private Set<String> loadedTables;
+    private boolean lazy;
 
     public AbstractUniqueConstraintProvider(final AttributeProvider attributeProvider, final EntityManager entityManager) {
-        this.uniqueColumnCombinations = new HashMap<>();
+        this(attributeProvider, entityManager, false);
+    }
+
+    protected AbstractUniqueConstraintProvider(final AttributeProvider attributeProvider, final EntityManager entityManager, final boolean lazy) {
+        this.uniqueColumnCombinations = new ConcurrentHashMap<>();
         this.attributeProvider = attributeProvider;
-        this.entityManager = entityManager;
-        init();
+        this.loadedTables = new HashSet<>();
+        this.lazy = lazy;
+        if (!lazy) {
+            init(entityManager);
+        }
     }
 
-    protected void init() {
+    protected void init(final EntityManager entityManager) {
         final Query nativeQuery = entityManager.createNativeQuery(getQuery());
-        final List resultList = nativeQuery.getResultList();
+        uniqueColumnCombinations.putAll(toCombinations(nativeQuery.getResultList()));
+    }
+
+    public synchronized void loadTables(final EntityManager em, final Collection<String> tableNames) {
+        if (!lazy) {
+            return;
+        }
+
+        final List<String> pending = TableScopedQuery.pending(loadedTables, tableNames);
+        if (!pending.isEmpty()) {
+            uniqueColumnCombinations.putAll(toCombinations(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), pending)));
+            loadedTables.addAll(pending);
+        }
+    }
+
+    public synchronized void reloadTables(final EntityManager em, final Collection<String> tableNames) {
+        final List<String> tables = TableScopedQuery.pending(Collections.<String>emptySet(), tableNames);
+        if (tables.isEmpty()) {
+            return;
+        }
+
+        for (String tableName : tables) {
+            final List<EntityTableMapping> entityTableMappings = attributeProvider.get(tableName);
+            if (entityTableMappings != null) {
+                for (EntityTableMapping entityTableMapping : entityTableMappings) {
+                    uniqueColumnCombinations.remove(entityTableMapping.getEntityClass());
+                }
+            }
+        }
+        uniqueColumnCombinations.putAll(toCombinations(TableScopedQuery.getResultList(em, getQuery(), getTableNameColumn(), tables)));
+        loadedTables.addAll(tables);
+    }
+
+    private Map<Class<?>, List<String>> toCombinations(final List resultList) {
+        final Map<Class<?>, List<String>> combinations = new HashMap<>();
         for (Object result : resultList) {
             final Object[] row = (Object[]) result;
             final List<EntityTableMapping> entityTableMappings = attributeProvider.get((String) row[0]);
             if (entityTableMappings != null) {
                 for (EntityTableMapping entityTableMapping : entityTableMappings) {
-                    addAttribute(entityTableMapping, (String) row[1]);
+                    for (String columnName : getColumnNames(row)) {
+                        addAttribute(combinations, entityTableMapping, columnName);
+                    }
                 }
             }
         }
 
-        filter();
+        filter(combinations);
+        return combinations;
+    }
+
+    protected List<String> getColumnNames(final Object[] row) {
+        return Collections.singletonList((String) row[1]);
     }
 
-    protected void filter() {
-        final Set<Map.Entry<Class<?>, List<String>>> entries = uniqueColumnCombinations.entrySet();
+    protected void filter(final Map<Class<?>, List<String>> combinations) {
+        final Set<Map.Entry<Class<?>, List<String>>> entries = combinations.entrySet();
 
         final List<Class<?>> singleColumnTables = new ArrayList<>();
 
@@ -68,15 +122,15 @@ public abstract class AbstractUniqueConstraintProvider implements UniqueConstrai
         }
 
         for (Class<?> singleColumnTable : singleColumnTables) {
-            uniqueColumnCombinations.remove(singleColumnTable);
+            combinations.remove(singleColumnTable);
         }
 
     }
 
-    protected void addAttribute(final EntityTableMapping entityTableMapping, final String columnName) {
+    protected void addAttribute(final Map<Class<?>, List<String>> combinations, final EntityTableMapping entityTableMapping, final String columnName) {
         final String attributeName = entityTableMapping.getAttributeName(columnName);
         if (attributeName != null) {
-            List<String> attributeList = uniqueColumnCombinations.computeIfAbsent(entityTableMapping.getEntityClass(), k -> new ArrayList<>());
+            List<String> attributeList = combinations.computeIfAbsent(entityTableMapping.getEntityClass(), k -> new ArrayList<>());
             attributeList.add(attributeName);
         }
     }
@@ -86,4 +140,8 @@ public abstract class AbstractUniqueConstraintProvider implements UniqueConstrai
     }
 
     protected abstract String getQuery();
+
+    protected String getTableNameColumn() {
+        return "table_name";
+    }
 }
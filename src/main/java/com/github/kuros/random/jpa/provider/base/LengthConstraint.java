@@ -0,0 +1,182 @@
+package com.github.kuros.random.jpa.provider.base;
+
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
+import com.github.kuros.random.jpa.util.NumberUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Length, precision and scale of a column, resolved once. Numbers are bounded arithmetically: precision keeps the
+ * lowest integer digits and scale rounds the fraction half even.
+ */
+public final class LengthConstraint {
+
+    private static final LengthConstraint NONE = new LengthConstraint(null, null, null);
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Integer maxLength;
+    private final Integer precision;
+    private final Integer scale;
+
+    private LengthConstraint(final Integer maxLength, final Integer precision, final Integer scale) {
+        this.maxLength = maxLength;
+        this.precision = precision;
+        this.scale = scale;
+    }
+
+    public static LengthConstraint newInstance(final ColumnDetail columnDetail) {
+        if (columnDetail == null) {
+            return NONE;
+        }
+        return new LengthConstraint(columnDetail.getStringLength(), columnDetail.getPrecision(), columnDetail.getScale());
+    }
+
+    public static Object apply(final ColumnDetail columnDetail, final Object value) {
+        return newInstance(columnDetail).apply(value);
+    }
+
+    public Integer getMaxLength() {
+        return maxLength;
+    }
+
+    public Object apply(final Object value) {
+        if (value instanceof String) {
+            final String s = (String) value;
+            return maxLength != null && s.length() > maxLength ? s.substring(0, maxLength) : s;
+        }
+
+        if (value instanceof Number) {
+            return applyNumber((Number) value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Generates a number of the type that already fits the column: integral types within the precision, decimal
+     * types with {@code precision - scale} integer digits and the scale of the column.
+     *
+     * @return null if the column does not bound values of the type
+     */
+    public Object generateNumber(final Class<?> type, final SplittableRandom random) {
+        if (isLong(precision) && isIntegral(type)) {
+            final long value = random.nextLong(Math.min(POWERS_OF_TEN[precision], getBound(type)));
+            return NumberUtil.castNumber(type, random.nextBoolean() ? value : -value);
+        }
+
+        if (isDecimal(type)) {
+            final BigDecimal decimal = generateDecimal(random);
+            if (decimal == null || type == BigDecimal.class) {
+                return decimal;
+            }
+            return NumberUtil.castNumber(type, decimal.doubleValue());
+        }
+
+        return null;
+    }
+
+    private BigDecimal generateDecimal(final SplittableRandom random) {
+        if (!isLong(scale)) {
+            return null;
+        }
+
+        if (isLong(precision) && precision >= scale && precision > 0) {
+            return BigDecimal.valueOf(random.nextLong(POWERS_OF_TEN[precision]), scale);
+        }
+
+        return scale > 0 ? BigDecimal.valueOf(random.nextLong(POWERS_OF_TEN[scale]), scale) : null;
+    }
+
+    private Object applyNumber(final Number value) {
+        if (precision == null && scale == null) {
+            return value;
+        }
+
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (precision != null) {
+                decimal = decimal.remainder(BigDecimal.TEN.pow(precision));
+            }
+            if (scale != null) {
+                decimal = decimal.setScale(scale, RoundingMode.HALF_EVEN);
+            }
+            return decimal;
+        }
+
+        if (value instanceof BigInteger) {
+            return precision == null ? value : ((BigInteger) value).remainder(BigInteger.TEN.pow(precision));
+        }
+
+        if (value instanceof Double || value instanceof Float) {
+            double decimal = value.doubleValue();
+            if (isLong(precision)) {
+                decimal %= POWERS_OF_TEN[precision];
+            }
+            if (isLong(scale)) {
+                decimal = Math.rint(decimal * POWERS_OF_TEN[scale]) / POWERS_OF_TEN[scale];
+                if (isLong(precision)) {
+                    decimal %= POWERS_OF_TEN[precision];
+                }
+            }
+            return NumberUtil.castNumber(value.getClass(), decimal);
+        }
+
+        if (isLong(precision)) {
+            return NumberUtil.castNumber(value.getClass(), value.longValue() % POWERS_OF_TEN[precision]);
+        }
+
+        return value;
+    }
+
+    private static boolean isLong(final Integer digits) {
+        return digits != null && digits < POWERS_OF_TEN.length;
+    }
+
+    private static boolean isDecimal(final Class<?> type) {
+        return type == BigDecimal.class || type == Double.class || type == Double.TYPE
+                || type == Float.class || type == Float.TYPE;
+    }
+
+    private static boolean isIntegral(final Class<?> type) {
+        return type == Integer.class || type == Integer.TYPE || type == Long.class || type == Long.TYPE
+                || type == Short.class || type == Short.TYPE || type == Byte.class || type == Byte.TYPE
+                || type == BigInteger.class;
+    }
+
+    private static long getBound(final Class<?> type) {
+        if (type == Integer.class || type == Integer.TYPE) {
+            return (long) Integer.MAX_VALUE + 1;
+        } else if (type == Short.class || type == Short.TYPE) {
+            return Short.MAX_VALUE + 1;
+        } else if (type == Byte.class || type == Byte.TYPE) {
+            return Byte.MAX_VALUE + 1;
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.kuros.random.jpa.provider.base;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class TableScopedQuery {
+
+    private static final Pattern TRAILING_ORDER_BY = Pattern.compile("(?is)\\s+order\\s+by\\s+.*$");
+    private static final int MAX_TABLES_PER_QUERY = 500;
+    private static final String TABLES = "tables";
+
+    private TableScopedQuery() {
+    }
+
+    public static String scope(final String query, final String tableNameColumn) {
+        String body = query.trim();
+        if (body.endsWith(";")) {
+            body = body.substring(0, body.length() - 1);
+        }
+        body = TRAILING_ORDER_BY.matcher(body).replaceFirst("");
+
+        return "SELECT * FROM (" + body + ") scoped WHERE LOWER(scoped." + tableNameColumn + ") IN (:" + TABLES + ")";
+    }
+
+    public static List<String> pending(final Set<String> loadedTables, final Collection<String> tableNames) {
+        final Set<String> pending = new LinkedHashSet<>();
+        for (String tableName : tableNames) {
+            final String name = tableName.toLowerCase();
+            if (!loadedTables.contains(name)) {
+                pending.add(name);
+            }
+        }
+        return new ArrayList<>(pending);
+    }
+
+    public static List<Object> getResultList(final EntityManager entityManager, final String query,
+                                             final String tableNameColumn, final List<String> tableNames) {
+        final List<Object> results = new ArrayList<>();
+        final String scopedQuery = scope(query, tableNameColumn);
+        for (int i = 0; i < tableNames.size(); i += MAX_TABLES_PER_QUERY) {
+            final List<String> chunk = tableNames.subList(i, Math.min(i + MAX_TABLES_PER_QUERY, tableNames.size()));
+            final Query nativeQuery = entityManager.createNativeQuery(scopedQuery);
+            nativeQuery.setParameter(TABLES, chunk);
+            results.addAll(nativeQuery.getResultList());
+        }
+        return results;
+    }
+}
@@ -32,22 +32,26 @@ import java.util.List;
 public class MultiplePrimaryKeyProviderFactory {
 
     public static MultiplePrimaryKeyProvider getMultiplePrimaryKeyProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider) {
+        return getMultiplePrimaryKeyProvider(database, entityManager, attributeProvider, false);
+    }
+
+    public static MultiplePrimaryKeyProvider getMultiplePrimaryKeyProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
         final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider;
         switch (database) {
             case MS_SQL_SERVER:
-                multiplePrimaryKeyProvider = MSSQLMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider);
+                multiplePrimaryKeyProvider = MSSQLMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case MY_SQL:
-                multiplePrimaryKeyProvider = MySqlMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider);
+                multiplePrimaryKeyProvider = MySqlMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case ORACLE:
-                multiplePrimaryKeyProvider = OracleMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider);
+                multiplePrimaryKeyProvider = OracleMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case POSTGRES:
-                multiplePrimaryKeyProvider = PostgresMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider);
+                multiplePrimaryKeyProvider = PostgresMultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case H2:
-                multiplePrimaryKeyProvider = H2MultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider);
+                multiplePrimaryKeyProvider = H2MultiplePrimaryKeyProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case NONE:
             default:
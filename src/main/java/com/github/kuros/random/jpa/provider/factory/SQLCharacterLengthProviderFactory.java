@@ -4,6 +4,7 @@ import com.github.kuros.random.jpa.Database;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
 import com.github.kuros.random.jpa.provider.h2.H2CharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
 import com.github.kuros.random.jpa.provider.mssql.MSSQLCharacterLengthProvider;
 import com.github.kuros.random.jpa.provider.mysql.MySqlCharacterLengthProvider;
 import com.github.kuros.random.jpa.provider.oracle.OracleCharacterLengthProvider;
@@ -30,22 +31,26 @@ import javax.persistence.EntityManager;
 public class SQLCharacterLengthProviderFactory {
 
     public static SQLCharacterLengthProvider getSqlCharacterLengthProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider) {
+        return getSqlCharacterLengthProvider(database, entityManager, attributeProvider, false);
+    }
+
+    public static SQLCharacterLengthProvider getSqlCharacterLengthProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
         final SQLCharacterLengthProvider sqlCharacterLengthProvider;
         switch (database) {
             case MS_SQL_SERVER:
-                sqlCharacterLengthProvider = MSSQLCharacterLengthProvider.getInstance(entityManager, attributeProvider);
+                sqlCharacterLengthProvider = MSSQLCharacterLengthProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case MY_SQL:
-                sqlCharacterLengthProvider = MySqlCharacterLengthProvider.getInstance(entityManager, attributeProvider);
+                sqlCharacterLengthProvider = MySqlCharacterLengthProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case ORACLE:
-                sqlCharacterLengthProvider = OracleCharacterLengthProvider.getInstance(entityManager, attributeProvider);
+                sqlCharacterLengthProvider = OracleCharacterLengthProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case POSTGRES:
-                sqlCharacterLengthProvider = PostgresCharacterLengthProvider.getInstance(entityManager, attributeProvider);
+                sqlCharacterLengthProvider = PostgresCharacterLengthProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case H2:
-                sqlCharacterLengthProvider = H2CharacterLengthProvider.getInstance(entityManager, attributeProvider);
+                sqlCharacterLengthProvider = H2CharacterLengthProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case NONE:
             default:
@@ -66,5 +71,9 @@ public class SQLCharacterLengthProviderFactory {
         public Object applyLengthConstraint(final String entityName, final String attributeName, final Object value) {
             return value;
         }
+
+        public ColumnDetail getColumnDetail(final String entityName, final String attributeName) {
+            return null;
+        }
     }
 }
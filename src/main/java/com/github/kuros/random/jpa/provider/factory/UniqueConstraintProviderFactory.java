@@ -32,22 +32,26 @@ import java.util.List;
 public class UniqueConstraintProviderFactory {
 
     public static UniqueConstraintProvider getUniqueConstraintProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider) {
+        return getUniqueConstraintProvider(database, entityManager, attributeProvider, false);
+    }
+
+    public static UniqueConstraintProvider getUniqueConstraintProvider(final Database database, final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
         final UniqueConstraintProvider uniqueConstraintProvider;
         switch (database) {
             case MS_SQL_SERVER:
-                uniqueConstraintProvider = MSSQLUniqueConstraintProvider.getInstance(entityManager, attributeProvider);
+                uniqueConstraintProvider = MSSQLUniqueConstraintProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case MY_SQL:
-                uniqueConstraintProvider = MySqlUniqueConstraintProvider.getInstance(entityManager, attributeProvider);
+                uniqueConstraintProvider = MySqlUniqueConstraintProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case ORACLE:
-                uniqueConstraintProvider = OracleUniqueConstraintProvider.getInstance(entityManager, attributeProvider);
+                uniqueConstraintProvider = OracleUniqueConstraintProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case POSTGRES:
-                uniqueConstraintProvider = PostgresUniqueConstraintProvider.getInstance(entityManager, attributeProvider);
+                uniqueConstraintProvider = PostgresUniqueConstraintProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case H2:
-                uniqueConstraintProvider = H2UniqueConstraintProvider.getInstance(entityManager, attributeProvider);
+                uniqueConstraintProvider = H2UniqueConstraintProvider.getInstance(entityManager, attributeProvider, lazy);
                 break;
             case NONE:
             default:
@@ -37,7 +37,11 @@ public final class H2CharacterLengthProvider extends AbstractCharacterLengthProv
 
     @VisibleForTesting
     H2CharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private H2CharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static H2CharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
@@ -45,6 +49,10 @@ public final class H2CharacterLengthProvider extends AbstractCharacterLengthProv
                 attributeProvider);
     }
 
+    public static H2CharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new H2CharacterLengthProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     public String getQuery() {
         return QUERY;
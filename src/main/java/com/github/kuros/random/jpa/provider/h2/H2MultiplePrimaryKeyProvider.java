@@ -32,18 +32,31 @@ public class H2MultiplePrimaryKeyProvider extends AbstractMultiplePrimaryKeyProv
 
     @VisibleForTesting
     H2MultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(entityManager, attributeProvider);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private H2MultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(entityManager, attributeProvider, lazy);
     }
 
     public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new H2MultiplePrimaryKeyProvider(entityManager, attributeProvider);
     }
 
+    public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new H2MultiplePrimaryKeyProvider(entityManager, attributeProvider, lazy);
+    }
+
 
     @Override
     public String getQuery() {
         return QUERY;
     }
 
+    @Override
+    protected String getTableNameColumn() {
+        return "tab_name";
+    }
+
 
 }
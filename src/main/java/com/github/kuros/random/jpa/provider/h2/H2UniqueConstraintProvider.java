@@ -2,13 +2,11 @@ package com.github.kuros.random.jpa.provider.h2;
 
 import com.github.kuros.random.jpa.annotation.VisibleForTesting;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
-import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
 import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
 import com.github.kuros.random.jpa.provider.base.AbstractUniqueConstraintProvider;
 
 import javax.persistence.EntityManager;
-import javax.persistence.Query;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /*
@@ -35,34 +33,28 @@ public class H2UniqueConstraintProvider extends AbstractUniqueConstraintProvider
 
     @VisibleForTesting
     H2UniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private H2UniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new H2UniqueConstraintProvider(entityManager, attributeProvider);
     }
 
+    public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new H2UniqueConstraintProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     protected String getQuery() {
         return QUERY;
     }
 
     @Override
-    protected void init() {
-        final Query nativeQuery = entityManager.createNativeQuery(getQuery());
-        final List resultList = nativeQuery.getResultList();
-        for (Object result : resultList) {
-            final Object[] row = (Object[]) result;
-            final List<EntityTableMapping> entityTableMappings = attributeProvider.get((String) row[0]);
-            if (entityTableMappings != null) {
-                for (EntityTableMapping entityTableMapping : entityTableMappings) {
-                    for (String columnName : ((String) row[1]).split(",")) {
-                        addAttribute(entityTableMapping, columnName);
-                    }
-                }
-            }
-        }
-
-        filter();
+    protected List<String> getColumnNames(final Object[] row) {
+        return Arrays.asList(((String) row[1]).split(","));
     }
 }
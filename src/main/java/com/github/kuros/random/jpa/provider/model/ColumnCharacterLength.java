@@ -1,5 +1,6 @@
 package com.github.kuros.random.jpa.provider.model;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,7 +20,9 @@ import java.util.Map;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public final class ColumnCharacterLength {
+public final class ColumnCharacterLength implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final Map<String, ColumnDetail> nameColumnDetails;
 
@@ -1,5 +1,7 @@
 package com.github.kuros.random.jpa.provider.model;
 
+import java.io.Serializable;
+
 /*
  * Copyright (c) 2015 Kumar Rohit
  *
@@ -16,7 +18,10 @@ package com.github.kuros.random.jpa.provider.model;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public class ColumnDetail {
+public class ColumnDetail implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Integer stringLength;
     private Integer precision;
     private Integer scale;
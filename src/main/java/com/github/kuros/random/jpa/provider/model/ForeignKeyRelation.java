@@ -1,5 +1,8 @@
 package com.github.kuros.random.jpa.provider.model;
 
+import java.io.Serializable;
+import java.util.Objects;
+
 /*
  * Copyright (c) 2015 Kumar Rohit
  *
@@ -16,7 +19,9 @@ package com.github.kuros.random.jpa.provider.model;
  *    You should have received a copy of the GNU Lesser General Public License
  *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
-public final class ForeignKeyRelation {
+public final class ForeignKeyRelation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String table;
     private String attribute;
@@ -49,4 +54,26 @@ public final class ForeignKeyRelation {
     public String getReferencedAttribute() {
         return referencedAttribute;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ForeignKeyRelation that = (ForeignKeyRelation) o;
+        return Objects.equals(table, that.table)
+                && Objects.equals(attribute, that.attribute)
+                && Objects.equals(referencedTable, that.referencedTable)
+                && Objects.equals(referencedAttribute, that.referencedAttribute);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(table, attribute, referencedTable, referencedAttribute);
+    }
+
+    @Override
+    public String toString() {
+        return table + "." + attribute + " -> " + referencedTable + "." + referencedAttribute;
+    }
 }
@@ -37,7 +37,11 @@ public final class MSSQLCharacterLengthProvider extends AbstractCharacterLengthP
 
     @VisibleForTesting
     MSSQLCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MSSQLCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static MSSQLCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
@@ -45,6 +49,10 @@ public final class MSSQLCharacterLengthProvider extends AbstractCharacterLengthP
                 attributeProvider);
     }
 
+    public static MSSQLCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MSSQLCharacterLengthProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     public String getQuery() {
         return QUERY;
@@ -38,7 +38,11 @@ public class MSSQLMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryKeyP
 
     @VisibleForTesting
     MSSQLMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(entityManager, attributeProvider);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MSSQLMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(entityManager, attributeProvider, lazy);
     }
 
     @Override
@@ -49,4 +53,8 @@ public class MSSQLMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryKeyP
     public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new MSSQLMultiplePrimaryKeyProvider(entityManager, attributeProvider);
     }
+
+    public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MSSQLMultiplePrimaryKeyProvider(entityManager, attributeProvider, lazy);
+    }
 }
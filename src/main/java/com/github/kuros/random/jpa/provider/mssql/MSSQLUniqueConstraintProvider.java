@@ -38,13 +38,21 @@ public class MSSQLUniqueConstraintProvider extends AbstractUniqueConstraintProvi
 
     @VisibleForTesting
     MSSQLUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MSSQLUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new MSSQLUniqueConstraintProvider(entityManager, attributeProvider);
     }
 
+    public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MSSQLUniqueConstraintProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     protected String getQuery() {
         return QUERY;
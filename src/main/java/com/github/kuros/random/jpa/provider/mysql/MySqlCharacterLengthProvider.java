@@ -32,13 +32,21 @@ public final class MySqlCharacterLengthProvider extends AbstractCharacterLengthP
 
     @VisibleForTesting
     MySqlCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MySqlCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static MySqlCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new MySqlCharacterLengthProvider(entityManager, attributeProvider);
     }
 
+    public static MySqlCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MySqlCharacterLengthProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     public String getQuery() {
         return QUERY;
@@ -34,13 +34,21 @@ public class MySqlMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryKeyP
 
     @VisibleForTesting
     MySqlMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(entityManager, attributeProvider);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MySqlMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(entityManager, attributeProvider, lazy);
     }
 
     public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new MySqlMultiplePrimaryKeyProvider(entityManager, attributeProvider);
     }
 
+    public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MySqlMultiplePrimaryKeyProvider(entityManager, attributeProvider, lazy);
+    }
+
 
     @Override
     public String getQuery() {
@@ -34,13 +34,21 @@ public class MySqlUniqueConstraintProvider extends AbstractUniqueConstraintProvi
 
     @VisibleForTesting
     MySqlUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private MySqlUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new MySqlUniqueConstraintProvider(entityManager, attributeProvider);
     }
 
+    public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new MySqlUniqueConstraintProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     protected String getQuery() {
         return QUERY;
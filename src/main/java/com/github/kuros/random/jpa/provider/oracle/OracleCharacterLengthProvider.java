@@ -30,13 +30,21 @@ public final class OracleCharacterLengthProvider extends AbstractCharacterLength
 
     @VisibleForTesting
     OracleCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private OracleCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static OracleCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new OracleCharacterLengthProvider(entityManager, attributeProvider);
     }
 
+    public static OracleCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new OracleCharacterLengthProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     public String getQuery() {
         return QUERY;
@@ -33,13 +33,21 @@ public class OracleMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryKey
 
     @VisibleForTesting
     OracleMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(entityManager, attributeProvider);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private OracleMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(entityManager, attributeProvider, lazy);
     }
 
     public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new OracleMultiplePrimaryKeyProvider(entityManager, attributeProvider);
     }
 
+    public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new OracleMultiplePrimaryKeyProvider(entityManager, attributeProvider, lazy);
+    }
+
 
     @Override
     public String getQuery() {
@@ -33,13 +33,21 @@ public class OracleUniqueConstraintProvider extends AbstractUniqueConstraintProv
 
     @VisibleForTesting
     OracleUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private OracleUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new OracleUniqueConstraintProvider(entityManager, attributeProvider);
     }
 
+    public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new OracleUniqueConstraintProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     protected String getQuery() {
         return QUERY;
@@ -30,7 +30,11 @@ public final class PostgresCharacterLengthProvider extends AbstractCharacterLeng
 
     @VisibleForTesting
     PostgresCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private PostgresCharacterLengthProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static PostgresCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
@@ -38,6 +42,10 @@ public final class PostgresCharacterLengthProvider extends AbstractCharacterLeng
                 attributeProvider);
     }
 
+    public static PostgresCharacterLengthProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new PostgresCharacterLengthProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     public String getQuery() {
         return QUERY;
@@ -47,7 +47,11 @@ public class PostgresMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryK
 
     @VisibleForTesting
     PostgresMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(entityManager, attributeProvider);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private PostgresMultiplePrimaryKeyProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(entityManager, attributeProvider, lazy);
     }
 
     @Override
@@ -58,4 +62,8 @@ public class PostgresMultiplePrimaryKeyProvider extends AbstractMultiplePrimaryK
     public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new PostgresMultiplePrimaryKeyProvider(entityManager, attributeProvider);
     }
+
+    public static MultiplePrimaryKeyProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new PostgresMultiplePrimaryKeyProvider(entityManager, attributeProvider, lazy);
+    }
 }
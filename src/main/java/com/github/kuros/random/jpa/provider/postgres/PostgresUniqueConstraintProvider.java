@@ -31,13 +31,21 @@ public class PostgresUniqueConstraintProvider extends AbstractUniqueConstraintPr
 
     @VisibleForTesting
     PostgresUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider) {
-        super(attributeProvider, entityManager);
+        this(entityManager, attributeProvider, false);
+    }
+
+    private PostgresUniqueConstraintProvider(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        super(attributeProvider, entityManager, lazy);
     }
 
     public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider) {
         return new PostgresUniqueConstraintProvider(entityManager, attributeProvider);
     }
 
+    public static UniqueConstraintProvider getInstance(final EntityManager entityManager, final AttributeProvider attributeProvider, final boolean lazy) {
+        return new PostgresUniqueConstraintProvider(entityManager, attributeProvider, lazy);
+    }
+
     @Override
     protected String getQuery() {
         return QUERY;
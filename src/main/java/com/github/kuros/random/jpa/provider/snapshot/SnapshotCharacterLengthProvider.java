@@ -0,0 +1,46 @@
+package com.github.kuros.random.jpa.provider.snapshot;
+
+import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.base.LengthConstraint;
+import com.github.kuros.random.jpa.provider.model.ColumnCharacterLength;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
+
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SnapshotCharacterLengthProvider implements SQLCharacterLengthProvider {
+
+    private final Map<String, ColumnCharacterLength> columnLengthsByTable;
+
+    private SnapshotCharacterLengthProvider(final Map<String, ColumnCharacterLength> columnLengthsByTable) {
+        this.columnLengthsByTable = columnLengthsByTable;
+    }
+
+    public static SnapshotCharacterLengthProvider newInstance(final Map<String, ColumnCharacterLength> columnLengthsByTable) {
+        return new SnapshotCharacterLengthProvider(columnLengthsByTable);
+    }
+
+    public Object applyLengthConstraint(final String entityName, final String attributeName, final Object value) {
+        return LengthConstraint.apply(getColumnDetail(entityName, attributeName), value);
+    }
+
+    public ColumnDetail getColumnDetail(final String entityName, final String attributeName) {
+        final ColumnCharacterLength columnCharacterLength = columnLengthsByTable.get(entityName);
+        return columnCharacterLength == null ? null : columnCharacterLength.getColumnDetail(attributeName);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.kuros.random.jpa.provider.snapshot;
+
+import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SnapshotMultiplePrimaryKeyProvider implements MultiplePrimaryKeyProvider {
+
+    private final Map<Class<?>, List<String>> multiplePrimaryKeyCombinations;
+
+    private SnapshotMultiplePrimaryKeyProvider(final Map<Class<?>, List<String>> multiplePrimaryKeyCombinations) {
+        this.multiplePrimaryKeyCombinations = multiplePrimaryKeyCombinations;
+    }
+
+    public static SnapshotMultiplePrimaryKeyProvider newInstance(final Map<Class<?>, List<String>> multiplePrimaryKeyCombinations) {
+        return new SnapshotMultiplePrimaryKeyProvider(multiplePrimaryKeyCombinations);
+    }
+
+    public List<String> getMultiplePrimaryKeyAttributes(final Class<?> entityName) {
+        return multiplePrimaryKeyCombinations.get(entityName);
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.kuros.random.jpa.provider.snapshot;
+
+import com.github.kuros.random.jpa.provider.RelationshipProvider;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SnapshotRelationshipProvider implements RelationshipProvider {
+
+    private final List<ForeignKeyRelation> foreignKeyRelations;
+
+    private SnapshotRelationshipProvider(final List<ForeignKeyRelation> foreignKeyRelations) {
+        this.foreignKeyRelations = foreignKeyRelations;
+    }
+
+    public static SnapshotRelationshipProvider newInstance(final List<ForeignKeyRelation> foreignKeyRelations) {
+        return new SnapshotRelationshipProvider(foreignKeyRelations);
+    }
+
+    public List<ForeignKeyRelation> getForeignKeyRelations() {
+        return new ArrayList<>(foreignKeyRelations);
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.kuros.random.jpa.provider.snapshot;
+
+import com.github.kuros.random.jpa.provider.UniqueConstraintProvider;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class SnapshotUniqueConstraintProvider implements UniqueConstraintProvider {
+
+    private final Map<Class<?>, List<String>> uniqueColumnCombinations;
+
+    private SnapshotUniqueConstraintProvider(final Map<Class<?>, List<String>> uniqueColumnCombinations) {
+        this.uniqueColumnCombinations = uniqueColumnCombinations;
+    }
+
+    public static SnapshotUniqueConstraintProvider newInstance(final Map<Class<?>, List<String>> uniqueColumnCombinations) {
+        return new SnapshotUniqueConstraintProvider(uniqueColumnCombinations);
+    }
+
+    public List<String> getUniqueCombinationAttributes(final Class<?> entityName) {
+        return uniqueColumnCombinations.get(entityName);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.kuros.random.jpa.random;
+
+import com.github.kuros.random.jpa.metamodel.EntityPopulator;
+
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * The fields of a class with their setter and, for columns that get a random value, the resolved generator.
+ */
+final class CompiledPopulator<T> {
+
+    private final FieldAccessors accessors;
+    private final EntityPopulator<T> entityPopulator;
+    private final Supplier<Object>[] generators;
+
+    CompiledPopulator(final FieldAccessors accessors, final EntityPopulator<T> entityPopulator, final Supplier<Object>[] generators) {
+        this.accessors = accessors;
+        this.entityPopulator = entityPopulator;
+        this.generators = generators;
+    }
+
+    int size() {
+        return generators.length;
+    }
+
+    Field getField(final int index) {
+        return accessors.getField(index);
+    }
+
+    boolean isRandom(final int index) {
+        return generators[index] != null;
+    }
+
+    Object generate(final int index) {
+        return generators[index].get();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value cannot be assigned to the field
+     */
+    void set(final int index, final T t, final Object value) throws IllegalAccessException {
+        if (entityPopulator != null) {
+            try {
+                if (entityPopulator.set(t, accessors.getField(index).getName(), value)) {
+                    return;
+                }
+            } catch (final ClassCastException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        accessors.set(index, t, value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.kuros.random.jpa.random;
+
+import com.github.kuros.random.jpa.cache.Cache;
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.EntityPopulators;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.random.generator.RandomGenerator;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Compiles the populator of each class once per {@link RandomGenerator}, so that every entity created with it
+ * reuses the resolved fields, generators and column constraints.
+ */
+public final class CompiledPopulators {
+
+    private final AttributeProvider attributeProvider;
+    private final RandomGenerator randomGenerator;
+    private final Map<Class<?>, CompiledPopulator<?>> populators;
+
+    private CompiledPopulators(final Cache cache, final RandomGenerator randomGenerator) {
+        this.attributeProvider = cache.getAttributeProvider();
+        this.randomGenerator = randomGenerator;
+        this.populators = new HashMap<>();
+    }
+
+    public static CompiledPopulators newInstance(final Cache cache, final RandomGenerator randomGenerator) {
+        return new CompiledPopulators(cache, randomGenerator);
+    }
+
+    public RandomGenerator getRandomGenerator() {
+        return randomGenerator;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompiledPopulator<T> get(final Class<T> type) {
+        CompiledPopulator<T> populator = (CompiledPopulator<T>) populators.get(type);
+        if (populator == null) {
+            populator = compile(type);
+            populators.put(type, populator);
+        }
+        return populator;
+    }
+
+    /**
+     * Drops the compiled populators, they are compiled again with the current column constraints on next use.
+     */
+    public void clear() {
+        populators.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompiledPopulator<T> compile(final Class<T> type) {
+        final FieldAccessors accessors = FieldAccessors.get(type);
+        final Supplier<Object>[] generators = new Supplier[accessors.size()];
+        for (int i = 0; i < accessors.size(); i++) {
+            final Field field = accessors.getField(i);
+            if (isRandomRequired(field)) {
+                generators[i] = randomGenerator.getFieldGenerator(field);
+            }
+        }
+        return new CompiledPopulator<>(accessors, EntityPopulators.get(type), generators);
+    }
+
+    private boolean isRandomRequired(final Field declaredField) {
+        final EntityTableMapping entityTableMapping = attributeProvider.get(declaredField.getDeclaringClass());
+
+        return (fieldIsColumn(entityTableMapping, declaredField) && !fieldIsId(entityTableMapping, declaredField))
+                || randomGenerator.isRandomAttributeGeneratorProvided(declaredField);
+
+    }
+
+    private boolean fieldIsColumn(final EntityTableMapping entityTableMapping, final Field field) {
+        return entityTableMapping != null && entityTableMapping.getAttributeNames().contains(field.getName());
+    }
+
+    private boolean fieldIsId(final EntityTableMapping entityTableMapping, final Field field) {
+        return entityTableMapping != null && entityTableMapping.getAttributeIds().contains(field.getName());
+    }
+}
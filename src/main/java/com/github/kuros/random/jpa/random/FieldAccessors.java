@@ -0,0 +1,95 @@
+package com.github.kuros.random.jpa.random;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Declared fields of a class with a setter for each of them, computed once per class.
+ */
+final class FieldAccessors {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<FieldAccessors> ACCESSORS = new ClassValue<FieldAccessors>() {
+        @Override
+        protected FieldAccessors computeValue(final Class<?> type) {
+            return new FieldAccessors(type);
+        }
+    };
+
+    private final Field[] fields;
+    private final MethodHandle[] setters;
+
+    private FieldAccessors(final Class<?> type) {
+        this.fields = type.getDeclaredFields();
+        this.setters = new MethodHandle[fields.length];
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+
+            try {
+                field.setAccessible(true);
+                setters[i] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (final IllegalAccessException | SecurityException e) {
+                setters[i] = null;
+            }
+        }
+    }
+
+    static FieldAccessors get(final Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    int size() {
+        return fields.length;
+    }
+
+    Field getField(final int index) {
+        return fields[index];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value cannot be assigned to the field
+     */
+    void set(final int index, final Object target, final Object value) throws IllegalAccessException {
+        final MethodHandle setter = setters[index];
+        if (setter == null) {
+            final Field field = fields[index];
+            field.setAccessible(true);
+            field.set(target, value);
+            return;
+        }
+
+        try {
+            setter.invokeExact(target, value);
+        } catch (final ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Can not set " + fields[index] + " to " + value, e);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,15 +2,14 @@ package com.github.kuros.random.jpa.random;
 
 import com.github.kuros.random.jpa.cache.Cache;
 import com.github.kuros.random.jpa.exception.RandomJPAException;
-import com.github.kuros.random.jpa.metamodel.AttributeProvider;
-import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
 import com.github.kuros.random.jpa.random.generator.RandomGenerator;
 import com.github.kuros.random.jpa.types.FieldIndex;
-import com.github.kuros.random.jpa.util.NumberUtil;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -31,19 +30,25 @@ import java.util.Map;
 public final class RandomizeImpl implements Randomize {
 
     private final RandomGenerator randomGenerator;
-    private final AttributeProvider attributeProvider;
+    private final CompiledPopulators populators;
     private Map<Field, Object> defaultFieldValueMap;
     private Map<FieldIndex, Object> customFieldIndexMap;
+    private Set<Field> providedFields;
 
-    private RandomizeImpl(final Cache cache, final RandomGenerator randomGenerator) {
-        this.attributeProvider = cache.getAttributeProvider();
-        this.randomGenerator = randomGenerator;
+    private RandomizeImpl(final CompiledPopulators populators) {
+        this.randomGenerator = populators.getRandomGenerator();
+        this.populators = populators;
         this.defaultFieldValueMap = new HashMap<>();
         this.customFieldIndexMap = new HashMap<>();
+        this.providedFields = new HashSet<>();
     }
 
     public static RandomizeImpl newInstance(final Cache cache, final RandomGenerator randomGenerator) {
-        return new RandomizeImpl(cache, randomGenerator);
+        return new RandomizeImpl(CompiledPopulators.newInstance(cache, randomGenerator));
+    }
+
+    public static RandomizeImpl newInstance(final CompiledPopulators populators) {
+        return new RandomizeImpl(populators);
     }
 
     public <T> T createRandom(final Class<T> type) {
@@ -51,19 +56,21 @@ public final class RandomizeImpl implements Randomize {
     }
 
     public <T> T populateRandomFields(final T t, final int index) {
-        final Class<?> type = t.getClass();
-        final Field[] declaredFields = type.getDeclaredFields();
-        for (final Field declaredField : declaredFields) {
-            declaredField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        final Class<T> type = (Class<T>) t.getClass();
+        final CompiledPopulator<T> populator = populators.get(type);
+        final boolean provided = !providedFields.isEmpty();
+        for (int i = 0; i < populator.size(); i++) {
+            final Field declaredField = populator.getField(i);
             try {
-                if (isValueProvided(declaredField, index)) {
+                if (provided && providedFields.contains(declaredField) && isValueProvided(declaredField, index)) {
                     try {
-                        declaredField.set(t, getFieldValue(declaredField, index));
+                        populator.set(i, t, getFieldValue(declaredField, index));
                     } catch (final IllegalArgumentException e) {
                         //do nothing
                     }
-                } else if (isRandomRequired(declaredField)) {
-                    declaredField.set(t, NumberUtil.castNumber(declaredField.getType(), randomGenerator.generateRandom(declaredField)));
+                } else if (populator.isRandom(i)) {
+                    populator.set(i, t, populator.generate(i));
                 }
             } catch (final Exception e) {
                 throw new RandomJPAException("Try adding RandomClassGenerator/RandomAttributeGenerator, Unable to set random value for "
@@ -90,29 +97,16 @@ public final class RandomizeImpl implements Randomize {
 
     public void addDefaultFieldValue(final Map<Field, Object> fieldValues) {
         this.defaultFieldValueMap = fieldValues;
+        providedFields.addAll(fieldValues.keySet());
     }
 
     public void addDefaultFieldValue(final Field field, final Object value) {
         defaultFieldValueMap.put(field, value);
+        providedFields.add(field);
     }
 
     public void addCustomFieldValue(final Field field, final int index, final Object value) {
         customFieldIndexMap.put(new FieldIndex(field, index), value);
-    }
-
-    private boolean isRandomRequired(final Field declaredField) {
-        final EntityTableMapping entityTableMapping = attributeProvider.get(declaredField.getDeclaringClass());
-
-        return (fieldIsColumn(entityTableMapping, declaredField) && !fieldIsId(entityTableMapping, declaredField))
-                || randomGenerator.isRandomAttributeGeneratorProvided(declaredField);
-
-    }
-
-    private boolean fieldIsColumn(final EntityTableMapping entityTableMapping, final Field field) {
-        return entityTableMapping != null && entityTableMapping.getAttributeNames().contains(field.getName());
-    }
-
-    private boolean fieldIsId(final EntityTableMapping entityTableMapping, final Field field) {
-        return entityTableMapping != null && entityTableMapping.getAttributeIds().contains(field.getName());
+        providedFields.add(field);
     }
 }
@@ -23,10 +23,12 @@ public final class Generator {
 
     private List<RandomAttributeGenerator> randomAttributeGenerators;
     private List<RandomClassGenerator> randomClassGenerators;
+    private RandomSource randomSource;
 
     private Generator() {
         randomAttributeGenerators = new ArrayList<>();
         randomClassGenerators = new ArrayList<>();
+        randomSource = RandomSource.newInstance();
     }
 
     public static Generator newInstance() {
@@ -43,6 +45,18 @@ public final class Generator {
         return this;
     }
 
+    /**
+     * Seeds the built-in generators, so that a dataset created on a single thread can be reproduced.
+     */
+    public Generator withSeed(final long seed) {
+        return with(RandomSource.newInstance(seed));
+    }
+
+    public Generator with(final RandomSource source) {
+        this.randomSource = source;
+        return this;
+    }
+
     public List<RandomAttributeGenerator> getRandomAttributeGenerators() {
         return randomAttributeGenerators;
     }
@@ -50,4 +64,8 @@ public final class Generator {
     public List<RandomClassGenerator> getRandomClassGenerators() {
         return randomClassGenerators;
     }
+
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
 }
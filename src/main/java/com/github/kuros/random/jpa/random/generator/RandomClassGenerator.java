@@ -24,4 +24,50 @@ public interface RandomClassGenerator {
 
     Object doGenerate(Class<?> aClass);
 
+    /**
+     * Generates a value for a column holding at most {@code maxLength} characters. Longer values are truncated
+     * afterwards, generators that can respect the length up front should override this.
+     */
+    default Object doGenerate(final Class<?> aClass, final int maxLength) {
+        return doGenerate(aClass);
+    }
+
+    /**
+     * Fills the first {@code n} elements of {@code out} with random values of the type.
+     * <p>
+     * Bulk generation is for callers filling their own buffers: entity population does not use it, and the values
+     * are not bounded by any column length, precision or scale.
+     */
+    default void generateInto(final Class<?> aClass, final Object[] out, final int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = doGenerate(aClass);
+        }
+    }
+
+    /**
+     * Fills the first {@code n} elements of {@code out}, the generated values must be numbers.
+     */
+    default void generateInto(final Class<?> aClass, final int[] out, final int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = ((Number) doGenerate(aClass)).intValue();
+        }
+    }
+
+    /**
+     * Fills the first {@code n} elements of {@code out}, the generated values must be numbers.
+     */
+    default void generateInto(final Class<?> aClass, final long[] out, final int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = ((Number) doGenerate(aClass)).longValue();
+        }
+    }
+
+    /**
+     * Fills the first {@code n} elements of {@code out}, the generated values must be numbers.
+     */
+    default void generateInto(final Class<?> aClass, final double[] out, final int n) {
+        for (int i = 0; i < n; i++) {
+            out[i] = ((Number) doGenerate(aClass)).doubleValue();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.github.kuros.random.jpa.random.generator;
 
 import com.github.kuros.random.jpa.log.LogFactory;
 import com.github.kuros.random.jpa.log.Logger;
+import com.github.kuros.random.jpa.provider.base.LengthConstraint;
 import com.github.kuros.random.jpa.random.generator.types.BigDecimalGenerator;
 import com.github.kuros.random.jpa.random.generator.types.BigIntegerGenerator;
 import com.github.kuros.random.jpa.random.generator.types.BlobGenerator;
@@ -22,8 +23,10 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -44,10 +47,17 @@ import java.util.Random;
 public class RandomFactory {
     private static final Logger LOGGER = LogFactory.getLogger(RandomFactory.class);
     private Map<Class<?>, RandomClassGenerator> randomClassGeneratorMap;
-    private static final Random RANDOM = new Random();
+    private Set<RandomClassGenerator> builtInGenerators;
+    private final RandomSource randomSource;
 
     public RandomFactory() {
+        this(RandomSource.getDefault());
+    }
+
+    public RandomFactory(final RandomSource randomSource) {
+        this.randomSource = randomSource;
         randomClassGeneratorMap = new HashMap<>();
+        builtInGenerators = new HashSet<>();
         init();
     }
 
@@ -68,7 +78,7 @@ public class RandomFactory {
 
         if (type.isEnum()) {
             final T[] enumConstants = type.getEnumConstants();
-            return enumConstants[RANDOM.nextInt(enumConstants.length)];
+            return enumConstants[randomSource.current().nextInt(enumConstants.length)];
         }
 
         T t;
@@ -93,6 +103,70 @@ public class RandomFactory {
         return t;
     }
 
+    /**
+     * Generates a value for a column holding at most {@code maxLength} characters.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T generateRandom(final Class<T> type, final int maxLength) {
+        final RandomClassGenerator generator = randomClassGeneratorMap.get(type);
+        if (generator != null) {
+            return (T) generator.doGenerate(type, maxLength);
+        }
+
+        return generateRandom(type);
+    }
+
+    /**
+     * Generates a value that fits the column. Numbers of the built-in generators are produced within the
+     * precision and scale of the column, other values are generated as usual and then constrained.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T generateRandom(final Class<T> type, final LengthConstraint constraint) {
+        return (T) getValueGenerator(type, constraint).get();
+    }
+
+    /**
+     * Resolves the generator of the type and the column once, the returned supplier generates values as
+     * {@link #generateRandom(Class, LengthConstraint)} does without looking them up again.
+     */
+    public Supplier<Object> getValueGenerator(final Class<?> type, final LengthConstraint constraint) {
+        final RandomClassGenerator generator = randomClassGeneratorMap.get(type);
+        if (generator == null) {
+            return () -> constraint.apply(generateRandom(type));
+        }
+
+        final Integer maxLength = constraint.getMaxLength();
+        if (!builtInGenerators.contains(generator)) {
+            return () -> NumberUtil.castNumber(type,
+                    constraint.apply(maxLength == null ? generator.doGenerate(type) : generator.doGenerate(type, maxLength)));
+        }
+
+        return () -> {
+            final Object number = constraint.generateNumber(type, randomSource.current());
+            if (number != null) {
+                return number;
+            }
+            return constraint.apply(maxLength == null ? generator.doGenerate(type) : generator.doGenerate(type, maxLength));
+        };
+    }
+
+    /**
+     * Fills the first {@code n} elements of {@code out} with random values of the type. Unlike
+     * {@link #generateRandom(Class, LengthConstraint)} no column constraint is applied, and entity population does
+     * not go through this method.
+     */
+    public void generateInto(final Class<?> type, final Object[] out, final int n) {
+        final RandomClassGenerator generator = randomClassGeneratorMap.get(type);
+        if (generator != null) {
+            generator.generateInto(type, out, n);
+            return;
+        }
+
+        for (int i = 0; i < n; i++) {
+            out[i] = generateRandom(type);
+        }
+    }
+
     private <T> void setNullValues(final T t) {
         final Class<?> type = t.getClass();
         final Field[] declaredFields = type.getDeclaredFields();
@@ -125,20 +199,25 @@ public class RandomFactory {
         return value;
     }
 
+    private void addBuiltInGenerator(final RandomClassGenerator randomClassGenerator) {
+        builtInGenerators.add(randomClassGenerator);
+        addRandomGenerator(randomClassGenerator);
+    }
+
     private void init() {
-        addRandomGenerator(BigDecimalGenerator.getInstance());
-        addRandomGenerator(BigIntegerGenerator.getInstance());
-        addRandomGenerator(BlobGenerator.getInstance());
-        addRandomGenerator(BooleanGenerator.getInstance());
-        addRandomGenerator(ByteGenerator.getInstance());
-        addRandomGenerator(CharacterGenerator.getInstance());
-        addRandomGenerator(ClobGenerator.getInstance());
-        addRandomGenerator(DateGenerator.getInstance());
-        addRandomGenerator(DoubleGenerator.getInstance());
-        addRandomGenerator(FloatGenerator.getInstance());
-        addRandomGenerator(IntegerGenerator.getInstance());
-        addRandomGenerator(LongGenerator.getInstance());
-        addRandomGenerator(ShortGenerator.getInstance());
-        addRandomGenerator(StringGenerator.getInstance());
+        addBuiltInGenerator(BigDecimalGenerator.newInstance(randomSource));
+        addBuiltInGenerator(BigIntegerGenerator.newInstance(randomSource));
+        addBuiltInGenerator(BlobGenerator.newInstance(randomSource));
+        addBuiltInGenerator(BooleanGenerator.newInstance(randomSource));
+        addBuiltInGenerator(ByteGenerator.newInstance(randomSource));
+        addBuiltInGenerator(CharacterGenerator.newInstance(randomSource));
+        addBuiltInGenerator(ClobGenerator.newInstance(randomSource));
+        addBuiltInGenerator(DateGenerator.newInstance(randomSource));
+        addBuiltInGenerator(DoubleGenerator.newInstance(randomSource));
+        addBuiltInGenerator(FloatGenerator.newInstance(randomSource));
+        addBuiltInGenerator(IntegerGenerator.newInstance(randomSource));
+        addBuiltInGenerator(LongGenerator.newInstance(randomSource));
+        addBuiltInGenerator(ShortGenerator.newInstance(randomSource));
+        addBuiltInGenerator(StringGenerator.newInstance(randomSource));
     }
 }
@@ -2,13 +2,16 @@ package com.github.kuros.random.jpa.random.generator;
 
 import com.github.kuros.random.jpa.cache.Cache;
 import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.base.LengthConstraint;
 import com.github.kuros.random.jpa.util.AttributeHelper;
+import com.github.kuros.random.jpa.util.NumberUtil;
 
 import javax.persistence.metamodel.Attribute;
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -30,13 +33,15 @@ public class RandomGenerator {
 
     private final Generator generator;
     private Map<Field, RandomAttributeGenerator> attributeGeneratorMap;
+    private Map<Field, Supplier<Object>> fieldGenerators;
     private RandomFactory randomFactory;
     private SQLCharacterLengthProvider sqlCharacterLengthProvider;
 
     private RandomGenerator(final Cache cache, final Generator generator) {
         this.generator = generator;
         attributeGeneratorMap = new HashMap<>();
-        randomFactory = new RandomFactory();
+        fieldGenerators = new HashMap<>();
+        randomFactory = new RandomFactory(generator.getRandomSource());
         sqlCharacterLengthProvider = cache.getSqlCharacterLengthProvider();
         init();
     }
@@ -62,22 +67,48 @@ public class RandomGenerator {
     }
 
     public Object generateRandom(final Field field) {
+        return getFieldGenerator(field).get();
+    }
+
+    /**
+     * Returns the generator of the field, resolved with the column constraint on first use.
+     */
+    public Supplier<Object> getFieldGenerator(final Field field) {
+        Supplier<Object> fieldGenerator = fieldGenerators.get(field);
+        if (fieldGenerator == null) {
+            fieldGenerator = newFieldGenerator(field);
+            fieldGenerators.put(field, fieldGenerator);
+        }
+        return fieldGenerator;
+    }
+
+    private Supplier<Object> newFieldGenerator(final Field field) {
+        final LengthConstraint constraint = LengthConstraint.newInstance(
+                sqlCharacterLengthProvider.getColumnDetail(field.getDeclaringClass().getName(), field.getName()));
         final RandomAttributeGenerator randomAttributeGenerator = attributeGeneratorMap.get(field);
         if (randomAttributeGenerator != null) {
-            return applyLengthConstraint(field, randomAttributeGenerator.doGenerate());
+            final Class<?> type = field.getType();
+            return () -> NumberUtil.castNumber(type, constraint.apply(randomAttributeGenerator.doGenerate()));
         }
 
-        return applyLengthConstraint(field, randomFactory.generateRandom(field.getType()));
+        return randomFactory.getValueGenerator(field.getType(), constraint);
     }
 
-    private Object applyLengthConstraint(final Field field, final Object o) {
-        return sqlCharacterLengthProvider.applyLengthConstraint(field.getDeclaringClass().getName(), field.getName(), o);
+    /**
+     * Drops the column constraints resolved so far, they are looked up again on next use.
+     */
+    public void clearLengthConstraints() {
+        fieldGenerators.clear();
     }
 
     public <T> T generateRandom(final Class<T> type) {
         return randomFactory.generateRandom(type);
     }
 
+    public RandomSource getRandomSource() {
+        return generator.getRandomSource();
+    }
+
     public boolean isRandomAttributeGeneratorProvided(final Field field) {
         return attributeGeneratorMap.get(field) != null;
     }
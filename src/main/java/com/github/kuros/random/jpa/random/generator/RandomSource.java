@@ -0,0 +1,85 @@
+package com.github.kuros.random.jpa.random.generator;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Source of randomness for the generators. Every thread draws from its own {@link SplittableRandom}, split from a
+ * root seeded with {@link #getSeed()}, so generation needs no synchronization and a single threaded run can be
+ * reproduced from its seed. Dates are generated around {@link #getBaseTime()}, which is fixed for a seeded source.
+ */
+public final class RandomSource {
+
+    private static final RandomSource DEFAULT = newInstance();
+    private static final Instant SEEDED_BASE_TIME = Instant.parse("2020-01-01T00:00:00Z");
+
+    private final long seed;
+    private final Instant baseTime;
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> current;
+
+    private RandomSource(final long seed, final Instant baseTime) {
+        this.seed = seed;
+        this.baseTime = baseTime;
+        this.root = new SplittableRandom(seed);
+        this.current = ThreadLocal.withInitial(this::split);
+    }
+
+    public static RandomSource newInstance() {
+        return new RandomSource(ThreadLocalRandom.current().nextLong(), Instant.now());
+    }
+
+    public static RandomSource newInstance(final long seed) {
+        return new RandomSource(seed, SEEDED_BASE_TIME);
+    }
+
+    public static RandomSource newInstance(final long seed, final Instant baseTime) {
+        return new RandomSource(seed, baseTime);
+    }
+
+    /**
+     * @return source shared by the generators created without an explicit source
+     */
+    public static RandomSource getDefault() {
+        return DEFAULT;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return instant the generated dates are spread around, the creation time of an unseeded source
+     */
+    public Instant getBaseTime() {
+        return baseTime;
+    }
+
+    /**
+     * @return random of the calling thread, it must not be shared with other threads
+     */
+    public SplittableRandom current() {
+        return current.get();
+    }
+
+    private synchronized SplittableRandom split() {
+        return root.split();
+    }
+}
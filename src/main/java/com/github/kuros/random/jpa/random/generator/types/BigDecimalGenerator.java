@@ -1,11 +1,11 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -26,25 +26,31 @@ import java.util.Random;
 public final class BigDecimalGenerator implements RandomClassGenerator {
 
     private static final Class<?>[] TYPES = {BigDecimal.class};
-    private static final Random RANDOM = new Random();
 
-    private BigDecimalGenerator() {
+    private final RandomSource randomSource;
+
+    private BigDecimalGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new BigDecimalGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return BigDecimal.valueOf(RANDOM.nextDouble());
+        return BigDecimal.valueOf(randomSource.current().nextDouble());
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new BigDecimalGenerator();
+        private static final RandomClassGenerator INSTANCE = new BigDecimalGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -1,11 +1,11 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -26,25 +26,31 @@ import java.util.Random;
 public final class BigIntegerGenerator implements RandomClassGenerator {
 
     private static final Class<?>[] TYPES = {BigInteger.class};
-    private static final Random RANDOM = new Random();
 
-    private BigIntegerGenerator() {
+    private final RandomSource randomSource;
+
+    private BigIntegerGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new BigIntegerGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return BigInteger.valueOf(RANDOM.nextLong());
+        return BigInteger.valueOf(randomSource.current().nextLong());
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new BigIntegerGenerator();
+        private static final RandomClassGenerator INSTANCE = new BigIntegerGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -2,6 +2,7 @@ package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import javax.sql.rowset.serial.SerialBlob;
 import java.nio.charset.Charset;
@@ -9,7 +10,6 @@ import java.sql.Blob;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -29,27 +29,33 @@ import java.util.Random;
  */
 public final class BlobGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Blob.class};
-    private static final Random RANDOM = new Random();
     private static final int MAX_ITER_COUNT = 32;
 
-    private BlobGenerator() {
+    private final RandomSource randomSource;
+    private final RandomClassGenerator stringGenerator;
+
+    private BlobGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
+        this.stringGenerator = StringGenerator.newInstance(randomSource);
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new BlobGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
 
-        final RandomClassGenerator stringGenerator = StringGenerator.getInstance();
-
         StringBuilder random = new StringBuilder();
 
-        for (int i = 0; i < RANDOM.nextInt(MAX_ITER_COUNT); i++) {
+        for (int i = 0; i < randomSource.current().nextInt(MAX_ITER_COUNT); i++) {
             random.append(stringGenerator.doGenerate(String.class));
         }
 
@@ -64,7 +70,7 @@ public final class BlobGenerator implements RandomClassGenerator {
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new BlobGenerator();
+        private static final RandomClassGenerator INSTANCE = new BlobGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
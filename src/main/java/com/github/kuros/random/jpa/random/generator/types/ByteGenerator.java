@@ -1,10 +1,10 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -25,27 +25,31 @@ import java.util.Random;
 public final class ByteGenerator implements RandomClassGenerator {
 
     private static final Class<?>[] TYPES = {Byte.TYPE, Byte.class};
-    private static final Random RANDOM = new Random();
 
-    private ByteGenerator() {
+    private final RandomSource randomSource;
+
+    private ByteGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new ByteGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        final byte[] random = new byte[1];
-        RANDOM.nextBytes(random);
-        return random[0];
+        return (byte) randomSource.current().nextInt();
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new ByteGenerator();
+        private static final RandomClassGenerator INSTANCE = new ByteGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -1,10 +1,10 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -24,30 +24,36 @@ import java.util.Random;
  */
 public final class CharacterGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Character.TYPE, Character.class};
-    private static final Random RANDOM = new Random();
-    private static final char[] CHARACTERS;
+    static final char[] CHARACTERS;
 
     static {
         CHARACTERS = new char[]{'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
     }
 
-    private CharacterGenerator() {
+    private final RandomSource randomSource;
+
+    private CharacterGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new CharacterGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return CHARACTERS[RANDOM.nextInt(CHARACTERS.length)];
+        return CHARACTERS[randomSource.current().nextInt(CHARACTERS.length)];
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new CharacterGenerator();
+        private static final RandomClassGenerator INSTANCE = new CharacterGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
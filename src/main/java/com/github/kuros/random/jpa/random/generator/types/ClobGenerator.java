@@ -2,13 +2,13 @@ package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import javax.sql.rowset.serial.SerialClob;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -28,25 +28,31 @@ import java.util.Random;
  */
 public final class ClobGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Clob.class};
-    private static final Random RANDOM = new Random();
     private static final int MAX_ITER_COUNT = 32;
 
-    private ClobGenerator() {
+    private final RandomSource randomSource;
+    private final RandomClassGenerator generator;
+
+    private ClobGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
+        this.generator = CharacterGenerator.newInstance(randomSource);
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new ClobGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
 
-        final RandomClassGenerator generator = CharacterGenerator.getInstance();
-
-        final int count = RANDOM.nextInt(MAX_ITER_COUNT);
+        final int count = randomSource.current().nextInt(MAX_ITER_COUNT);
 
         final char[] chars = new char[count];
 
@@ -65,7 +71,7 @@ public final class ClobGenerator implements RandomClassGenerator {
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new ClobGenerator();
+        private static final RandomClassGenerator INSTANCE = new ClobGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
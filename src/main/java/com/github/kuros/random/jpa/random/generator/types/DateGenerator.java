@@ -1,18 +1,19 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -32,7 +33,6 @@ import java.util.Random;
  */
 public final class DateGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Date.class, Calendar.class, Time.class, Timestamp.class, LocalDateTime.class, LocalDate.class, LocalTime.class };
-    private static final Random RANDOM = new Random();
     private static final int MAX_YEAR = 10;
     private static final int MAX_MONTH = 12;
     private static final int MAX_DATE = 31;
@@ -40,13 +40,20 @@ public final class DateGenerator implements RandomClassGenerator {
     private static final int MAX_MINUTE = 60;
     private static final int MAX_SECONDS = 60;
 
-    private DateGenerator() {
+    private final RandomSource randomSource;
+
+    private DateGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new DateGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
@@ -54,7 +61,7 @@ public final class DateGenerator implements RandomClassGenerator {
     public Object doGenerate(final Class<?> aClass) {
 
         final LocalDateTime calendar = getCalendar();
-        final Date date = Date.from(calendar.atZone(ZoneId.systemDefault()).toInstant());
+        final Date date = Date.from(calendar.toInstant(ZoneOffset.UTC));
 
         Object random;
         if (aClass == Calendar.class) {
@@ -79,51 +86,24 @@ public final class DateGenerator implements RandomClassGenerator {
     }
 
     private LocalDateTime getCalendar() {
-
-        LocalDateTime now = LocalDateTime.now();
-
-        now = getYear(now);
-        now = getMonth(now);
-        now = getDate(now);
-        now = getHour(now);
-        now = getMinute(now);
-        now = getSecond(now);
-
-        return now;
-    }
-
-    private LocalDateTime getSecond(final LocalDateTime now) {
-        final int sec = RANDOM.nextInt(MAX_SECONDS);
-        return RANDOM.nextBoolean() ? now.plusSeconds(sec) : now.minusSeconds(sec);
-    }
-
-    private LocalDateTime getMinute(final LocalDateTime now) {
-        final int min = RANDOM.nextInt(MAX_MINUTE);
-        return RANDOM.nextBoolean() ? now.plusMinutes(min) : now.minusMinutes(min);
-    }
-
-    private LocalDateTime getHour(final LocalDateTime now) {
-        final int hour = RANDOM.nextInt(MAX_HOUR);
-        return RANDOM.nextBoolean() ? now.plusHours(hour) : now.minusHours(hour);
-    }
-
-    private LocalDateTime getDate(final LocalDateTime now) {
-        final int day = RANDOM.nextInt(MAX_DATE);
-        return RANDOM.nextBoolean() ? now.plusDays(day) : now.minusDays(day);
-    }
-
-    private LocalDateTime getYear(final LocalDateTime now) {
-        final int year = RANDOM.nextInt(MAX_YEAR);
-        return RANDOM.nextBoolean() ? now.plusYears(year) : now.minusYears(year);
+        final SplittableRandom random = randomSource.current();
+
+        return LocalDateTime.ofInstant(randomSource.getBaseTime(), ZoneOffset.UTC)
+                .plusYears(getOffset(random, MAX_YEAR))
+                .plusMonths(getOffset(random, MAX_MONTH))
+                .plusDays(getOffset(random, MAX_DATE))
+                .plusHours(getOffset(random, MAX_HOUR))
+                .plusMinutes(getOffset(random, MAX_MINUTE))
+                .plusSeconds(getOffset(random, MAX_SECONDS));
     }
 
-    private LocalDateTime getMonth(final LocalDateTime now) {
-        final int months = RANDOM.nextInt(MAX_MONTH);
-        return RANDOM.nextBoolean() ? now.plusMonths(months) : now.minusMonths(months);
+    private static int getOffset(final SplittableRandom random, final int bound) {
+        final int offset = random.nextInt(bound);
+        return random.nextBoolean() ? offset : -offset;
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new DateGenerator();
+        private static final RandomClassGenerator INSTANCE = new DateGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -1,10 +1,11 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -24,25 +25,47 @@ import java.util.Random;
  */
 public final class DoubleGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Double.TYPE, Double.class};
-    private static final Random RANDOM = new Random();
 
-    private DoubleGenerator() {
+    private final RandomSource randomSource;
+
+    private DoubleGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new DoubleGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return RANDOM.nextDouble();
+        return randomSource.current().nextDouble();
+    }
+
+    @Override
+    public void generateInto(final Class<?> aClass, final Object[] out, final int n) {
+        final SplittableRandom random = randomSource.current();
+        for (int i = 0; i < n; i++) {
+            out[i] = random.nextDouble();
+        }
+    }
+
+    @Override
+    public void generateInto(final Class<?> aClass, final double[] out, final int n) {
+        final SplittableRandom random = randomSource.current();
+        for (int i = 0; i < n; i++) {
+            out[i] = random.nextDouble();
+        }
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new DoubleGenerator();
+        private static final RandomClassGenerator INSTANCE = new DoubleGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -1,10 +1,10 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -24,25 +24,31 @@ import java.util.Random;
  */
 public final class FloatGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {Float.TYPE, Float.class};
-    private static final Random RANDOM = new Random();
 
-    private FloatGenerator() {
+    private final RandomSource randomSource;
+
+    private FloatGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new FloatGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return RANDOM.nextFloat();
+        return (randomSource.current().nextInt() >>> 8) / ((float) (1 << 24));
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new FloatGenerator();
+        private static final RandomClassGenerator INSTANCE = new FloatGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
@@ -1,10 +1,11 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -25,25 +26,47 @@ import java.util.Random;
 public final class IntegerGenerator implements RandomClassGenerator {
 
     private static final Class<?>[] TYPES = {Integer.TYPE, Integer.class};
-    private static final Random RANDOM = new Random();
 
-    private IntegerGenerator() {
+    private final RandomSource randomSource;
+
+    private IntegerGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new IntegerGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return RANDOM.nextInt();
+        return randomSource.current().nextInt();
+    }
+
+    @Override
+    public void generateInto(final Class<?> aClass, final Object[] out, final int n) {
+        final SplittableRandom random = randomSource.current();
+        for (int i = 0; i < n; i++) {
+            out[i] = random.nextInt();
+        }
+    }
+
+    @Override
+    public void generateInto(final Class<?> aClass, final int[] out, final int n) {
+        final SplittableRandom random = randomSource.current();
+        for (int i = 0; i < n; i++) {
+            out[i] = random.nextInt();
+        }
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new IntegerGenerator();
+        private static final RandomClassGenerator INSTANCE = new IntegerGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
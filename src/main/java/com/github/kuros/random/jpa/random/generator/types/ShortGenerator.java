@@ -1,10 +1,10 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -25,25 +25,31 @@ import java.util.Random;
 public final class ShortGenerator implements RandomClassGenerator {
 
     private static final Class<?>[] TYPES = {Short.TYPE, Short.class};
-    private static final Random RANDOM = new Random();
 
-    private ShortGenerator() {
+    private final RandomSource randomSource;
+
+    private ShortGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new ShortGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        return (short) (RANDOM.nextInt(Short.MAX_VALUE) * (RANDOM.nextBoolean() ? 1 : -1));
+        return (short) (randomSource.current().nextInt(Short.MAX_VALUE) * (randomSource.current().nextBoolean() ? 1 : -1));
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new ShortGenerator();
+        private static final RandomClassGenerator INSTANCE = new ShortGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
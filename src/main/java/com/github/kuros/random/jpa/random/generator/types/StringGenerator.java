@@ -1,10 +1,11 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
 import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -24,33 +25,48 @@ import java.util.Random;
  */
 public final class StringGenerator implements RandomClassGenerator {
     private static final Class<?>[] TYPES = {String.class};
-    private static final Random RANDOM = new Random();
+    private static final int MIN_STRING_LENGTH = 10;
     private static final int MAX_STRING_LENGTH = 32;
 
-    private StringGenerator() {
+    private final RandomSource randomSource;
+
+    private StringGenerator(final RandomSource randomSource) {
+        this.randomSource = randomSource;
     }
 
     public static RandomClassGenerator getInstance() {
         return Instance.INSTANCE;
     }
 
+    public static RandomClassGenerator newInstance(final RandomSource randomSource) {
+        return new StringGenerator(randomSource);
+    }
+
     public Collection<Class<?>> getTypes() {
         return Arrays.asList(TYPES);
     }
 
     public Object doGenerate(final Class<?> aClass) {
-        final RandomClassGenerator characterGenerator = CharacterGenerator.getInstance();
+        return generate(Integer.MAX_VALUE);
+    }
 
-        StringBuilder random = new StringBuilder();
+    @Override
+    public Object doGenerate(final Class<?> aClass, final int maxLength) {
+        return generate(maxLength);
+    }
 
-        for (int i = 0; i < 10 + RANDOM.nextInt(MAX_STRING_LENGTH); i++) {
-            random.append(characterGenerator.doGenerate(Character.class));
+    private String generate(final int maxLength) {
+        final SplittableRandom random = randomSource.current();
+        final int length = Math.max(0, Math.min(MIN_STRING_LENGTH + random.nextInt(MAX_STRING_LENGTH), maxLength));
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = CharacterGenerator.CHARACTERS[random.nextInt(CharacterGenerator.CHARACTERS.length)];
         }
-        return random.toString();
+        return new String(chars);
     }
 
     private final static class Instance {
-        private static final RandomClassGenerator INSTANCE = new StringGenerator();
+        private static final RandomClassGenerator INSTANCE = new StringGenerator(RandomSource.getDefault());
 
         private Instance() {
         }
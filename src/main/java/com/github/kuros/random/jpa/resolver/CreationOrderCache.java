@@ -0,0 +1,172 @@
+package com.github.kuros.random.jpa.resolver;
+
+import com.github.kuros.random.jpa.definition.CompactGraph;
+import com.github.kuros.random.jpa.mapper.Relation;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.Entity;
+import com.github.kuros.random.jpa.types.EntityHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Bounded LRU cache of resolved creation orders. An entity's creation order is resolved over the minimum graph of
+ * its plan, which is fixed by the base hierarchy graph, the entity types of the plan (a soft link target only brings
+ * its own parents when it is part of the plan) and the extra edges (soft links, before/after classes). The plan key
+ * holds the last two. Entries are dropped when the base graph changes, and orders are copied in and out since merging
+ * mutates them.
+ */
+public final class CreationOrderCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<Key, CreationOrder> creationOrders;
+    private CompactGraph graph;
+
+    private CreationOrderCache(final int maxSize) {
+        this.creationOrders = new LinkedHashMap<Key, CreationOrder>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CreationOrder> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static CreationOrderCache newInstance() {
+        return newInstance(DEFAULT_MAX_SIZE);
+    }
+
+    public static CreationOrderCache newInstance(final int maxSize) {
+        return new CreationOrderCache(maxSize);
+    }
+
+    public static PlanKey getPlanKey(final List<Entity> entities) {
+        final Set<Class<?>> types = new HashSet<>();
+        for (Entity<?> entity : entities) {
+            types.add(EntityHelper.getType(entity));
+        }
+        return new PlanKey(types, getExtraEdges(entities));
+    }
+
+    private static Set<List<Class<?>>> getExtraEdges(final List<Entity> entities) {
+        final Set<List<Class<?>>> extraEdges = new HashSet<>();
+        for (Entity<?> entity : entities) {
+            final Class<?> type = EntityHelper.getType(entity);
+            for (Relation relation : DependencyResolver.generateRelations(EntityHelper.getSoftLinks(entity))) {
+                extraEdges.add(Arrays.<Class<?>>asList(relation.getFrom().getInitializationClass(), relation.getTo().getInitializationClass()));
+            }
+
+            for (Class<?> afterClass : EntityHelper.getAfterClasses(entity)) {
+                extraEdges.add(Arrays.<Class<?>>asList(type, afterClass));
+            }
+
+            for (Class<?> beforeClass : EntityHelper.getBeforeClasses(entity)) {
+                extraEdges.add(Arrays.<Class<?>>asList(beforeClass, type));
+            }
+        }
+        return extraEdges;
+    }
+
+    public synchronized CreationOrder get(final CompactGraph baseGraph, final Entity<?> entity, final PlanKey planKey) {
+        if (graph != baseGraph) {
+            return null;
+        }
+
+        final CreationOrder creationOrder = creationOrders.get(new Key(EntityHelper.getType(entity), planKey));
+        if (creationOrder == null) {
+            return null;
+        }
+
+        final CreationOrder copy = creationOrder.copy();
+        copy.addCreationCount(EntityHelper.getType(entity), EntityHelper.getCount(entity));
+        return copy;
+    }
+
+    public synchronized void put(final CompactGraph baseGraph, final Entity<?> entity, final PlanKey planKey,
+                                 final CreationOrder creationOrder) {
+        if (graph != baseGraph) {
+            creationOrders.clear();
+            graph = baseGraph;
+        }
+
+        creationOrders.put(new Key(EntityHelper.getType(entity), planKey), creationOrder.copy());
+    }
+
+    public synchronized int size() {
+        return creationOrders.size();
+    }
+
+    public static final class PlanKey {
+        private final Set<Class<?>> types;
+        private final Set<List<Class<?>>> extraEdges;
+
+        private PlanKey(final Set<Class<?>> types, final Set<List<Class<?>>> extraEdges) {
+            this.types = types;
+            this.extraEdges = extraEdges;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final PlanKey planKey = (PlanKey) o;
+
+            return types.equals(planKey.types) && extraEdges.equals(planKey.extraEdges);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = types.hashCode();
+            result = 31 * result + extraEdges.hashCode();
+            return result;
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> type;
+        private final PlanKey planKey;
+
+        private Key(final Class<?> type, final PlanKey planKey) {
+            this.type = type;
+            this.planKey = planKey;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key key = (Key) o;
+
+            return type.equals(key.type) && planKey.equals(key.planKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + planKey.hashCode();
+            return result;
+        }
+    }
+}
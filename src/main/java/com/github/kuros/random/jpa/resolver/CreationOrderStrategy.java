@@ -0,0 +1,38 @@
+package com.github.kuros.random.jpa.resolver;
+
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public enum CreationOrderStrategy {
+
+    DEPTH_PROPAGATION {
+        @Override
+        public CreationOrderResolver newResolver(final HierarchyGraph hierarchyGraph) {
+            return CreationOrderResolverImpl.newInstance(hierarchyGraph);
+        }
+    },
+
+    TOPOLOGICAL {
+        @Override
+        public CreationOrderResolver newResolver(final HierarchyGraph hierarchyGraph) {
+            return TopologicalCreationOrderResolver.newInstance(hierarchyGraph);
+        }
+    };
+
+    public abstract CreationOrderResolver newResolver(HierarchyGraph hierarchyGraph);
+}
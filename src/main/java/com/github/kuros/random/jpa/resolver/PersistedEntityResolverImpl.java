@@ -15,7 +15,6 @@ import com.github.kuros.random.jpa.types.CreationPlanImpl;
 import com.github.kuros.random.jpa.types.FieldIndexValue;
 import com.github.kuros.random.jpa.util.ArrayListMultimap;
 import com.github.kuros.random.jpa.util.Multimap;
-import com.github.kuros.random.jpa.util.NodeHelper;
 import com.github.kuros.random.jpa.util.Util;
 
 import javax.persistence.EntityManager;
@@ -95,9 +94,7 @@ public class PersistedEntityResolverImpl implements PersistedEntityResolver {
     private Map<Class, Integer> getClassIndicesMap(final CreationPlanImpl plan, final FieldIndexValue fieldIndexValue, final Field field) {
 
         final Integer index = fieldIndexValue.getIndex() == PersistedEntityResolver.DEFAULT_INDEX ? 0 : fieldIndexValue.getIndex();
-        final List<ClassIndex> classIndexInOrder = NodeHelper.getClassIndexInOrder(plan.getRoot(),
-                field.getDeclaringClass(),
-                index);
+        final List<ClassIndex> classIndexInOrder = plan.getClassIndexInOrder(field.getDeclaringClass(), index);
 
         final Map<Class, Integer> classIndexMap = new HashMap<>();
         for (ClassIndex classIndex : classIndexInOrder) {
@@ -0,0 +1,115 @@
+package com.github.kuros.random.jpa.resolver;
+
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.types.ClassDepth;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.Entity;
+import com.github.kuros.random.jpa.types.EntityHelper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Resolves creation orders with a single Kahn pass over the requested types and their ancestors. The depth of a
+ * type is the longest path to it from any requested type, so every parent is placed deeper than its children.
+ */
+public final class TopologicalCreationOrderResolver implements CreationOrderResolver {
+
+    private final HierarchyGraph hierarchyGraph;
+
+    private TopologicalCreationOrderResolver(final HierarchyGraph hierarchyGraph) {
+        this.hierarchyGraph = hierarchyGraph;
+    }
+
+    public static CreationOrderResolver newInstance(final HierarchyGraph hierarchyGraph) {
+        return new TopologicalCreationOrderResolver(hierarchyGraph);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CreationOrder getCreationOrder(final Entity... entities) {
+        final CreationOrder creationOrder = CreationOrder.newInstance();
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        for (Entity entity : entities) {
+            final Class<?> type = EntityHelper.getType(entity);
+            creationOrder.addCreationCount(type, EntityHelper.getCount(entity));
+            if (types.add(type)) {
+                pending.push(type);
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            for (Class<?> parent : hierarchyGraph.getParents(pending.pop())) {
+                if (types.add(parent)) {
+                    pending.push(parent);
+                }
+            }
+        }
+
+        final Map<Class<?>, Integer> inDegree = new HashMap<>();
+        for (Class<?> type : types) {
+            for (Class<?> parent : hierarchyGraph.getParents(type)) {
+                if (parent != type) {
+                    inDegree.merge(parent, 1, Integer::sum);
+                }
+            }
+        }
+
+        final Map<Class<?>, Integer> depth = new HashMap<>();
+        final List<Class<?>> queue = new ArrayList<>(types.size());
+        for (Class<?> type : types) {
+            if (!inDegree.containsKey(type)) {
+                queue.add(type);
+                depth.put(type, 0);
+            }
+        }
+
+        for (int head = 0; head < queue.size(); head++) {
+            final Class<?> type = queue.get(head);
+            final int childDepth = depth.get(type);
+            for (Class<?> parent : hierarchyGraph.getParents(type)) {
+                if (parent == type) {
+                    continue;
+                }
+                depth.merge(parent, childDepth + 1, Math::max);
+                if (inDegree.merge(parent, -1, Integer::sum) == 0) {
+                    queue.add(parent);
+                }
+            }
+        }
+
+        if (queue.size() < types.size()) {
+            throw new RandomJPAException("Cyclic dependency found while resolving creation order");
+        }
+
+        for (Class<?> type : queue) {
+            creationOrder.add(ClassDepth.newInstance(type, depth.get(type)));
+        }
+        creationOrder.getOrder().sort((o1, o2) -> -1 * Integer.compare(o1.getDepth(), o2.getDepth()));
+
+        return creationOrder;
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.kuros.random.jpa.types;
+
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.v1.resolver.NodeLayout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Immutable result of compiling a {@link Plan}: the minimum hierarchy, the node layout derived from the merged
+ * creation orders and the attribute overrides of the plan's entities. Later changes to the plan or its entities
+ * are not reflected, and a compiled plan should be recompiled after the context's schema is refreshed.
+ */
+public final class CompiledPlan {
+
+    private final HierarchyGraph hierarchyGraph;
+    private final NodeLayout layout;
+    private final List<AttributeValue> attributeValues;
+    private final List<AttributeIndexValue> attributeIndexValues;
+    private final List<ClassIndex> classIndices;
+    private final Map<Class<?>, List<ParentDistribution>> parentDistributions;
+
+    @SuppressWarnings("unchecked")
+    private CompiledPlan(final HierarchyGraph hierarchyGraph, final NodeLayout layout, final List<Entity> entities) {
+        this.hierarchyGraph = hierarchyGraph;
+        this.layout = layout;
+
+        final List<AttributeValue> attributeValueList = new ArrayList<>();
+        final List<AttributeIndexValue> attributeIndexValueList = new ArrayList<>();
+        final List<ClassIndex> classIndexList = new ArrayList<>();
+        final Map<Class<?>, List<ParentDistribution>> parentDistributionMap = new HashMap<>();
+        for (Entity entity : entities) {
+            attributeValueList.addAll(EntityHelper.getAttributeValues(entity));
+            attributeIndexValueList.addAll(EntityHelper.getAttributeIndexValues(entity));
+            classIndexList.addAll(EntityHelper.getClassIndices(entity));
+
+            final List<ParentDistribution> distributions = EntityHelper.getParentDistributions(entity);
+            if (!distributions.isEmpty()) {
+                parentDistributionMap.computeIfAbsent(EntityHelper.getType(entity), k -> new ArrayList<>())
+                        .addAll(distributions);
+            }
+        }
+
+        this.attributeValues = Collections.unmodifiableList(attributeValueList);
+        this.attributeIndexValues = Collections.unmodifiableList(attributeIndexValueList);
+        this.classIndices = Collections.unmodifiableList(classIndexList);
+        this.parentDistributions = Collections.unmodifiableMap(parentDistributionMap);
+    }
+
+    public static CompiledPlan newInstance(final HierarchyGraph hierarchyGraph, final NodeLayout layout, final List<Entity> entities) {
+        return new CompiledPlan(hierarchyGraph, layout, entities);
+    }
+
+    public HierarchyGraph getHierarchyGraph() {
+        return hierarchyGraph;
+    }
+
+    public NodeLayout getLayout() {
+        return layout;
+    }
+
+    public List<AttributeValue> getAttributeValues() {
+        return attributeValues;
+    }
+
+    public List<AttributeIndexValue> getAttributeIndexValues() {
+        return attributeIndexValues;
+    }
+
+    public List<ClassIndex> getClassIndices() {
+        return classIndices;
+    }
+
+    /**
+     * @return parent distributions keyed by the child type
+     */
+    public Map<Class<?>, List<ParentDistribution>> getParentDistributions() {
+        return parentDistributions;
+    }
+}
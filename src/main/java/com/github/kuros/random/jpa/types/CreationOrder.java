@@ -38,6 +38,15 @@ public final class CreationOrder {
         return new CreationOrder();
     }
 
+    public CreationOrder copy() {
+        final CreationOrder copy = new CreationOrder();
+        for (ClassDepth<?> classDepth : order) {
+            copy.add(ClassDepth.newInstance(classDepth.getType(), classDepth.getDepth()));
+        }
+        copy.addCreationCount(creationCount);
+        return copy;
+    }
+
     public void add(final ClassDepth<?> type) {
         order.add(type);
         managedClasses.add(type.getType());
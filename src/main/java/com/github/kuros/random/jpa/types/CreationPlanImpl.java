@@ -7,8 +7,10 @@ import com.github.kuros.random.jpa.util.AttributeHelper;
 import javax.persistence.metamodel.Attribute;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -30,6 +32,7 @@ public class CreationPlanImpl implements CreationPlan {
     private Randomize randomize;
     private Map<Class<?>, List<Node>> createdNodeMap;
     private List<FieldIndexValue> fieldIndexValues;
+    private Map<Class<?>, Map<Class<?>, int[]>> parentAssignments;
     private Node root;
     private final HierarchyGraph hierarchyGraph;
 
@@ -39,6 +42,7 @@ public class CreationPlanImpl implements CreationPlan {
         this.randomize = randomize;
         this.hierarchyGraph = hierarchyGraph;
         this.fieldIndexValues = new ArrayList<>();
+        this.parentAssignments = new HashMap<>();
     }
 
     public Map<Class<?>, List<Node>> getCreatedNodeMap() {
@@ -64,9 +68,27 @@ public class CreationPlanImpl implements CreationPlan {
 
     @SuppressWarnings("unchecked")
     public <T> void deleteItem(final Class<T> type, final int index) {
-        final Node node = createdNodeMap.get(type).get(index);
-        node.setValue(null);
-        node.setChildNodes(new ArrayList<>());
+        createdNodeMap.get(type).get(index).delete();
+    }
+
+    /**
+     * @return type and index of every ancestor of the node, nearest first, or an empty list if the node is not
+     * part of the plan
+     */
+    public List<ClassIndex> getClassIndexInOrder(final Class<?> type, final int index) {
+        final List<Node> nodes = createdNodeMap.get(type);
+        if (nodes == null || index < 0 || index >= nodes.size()) {
+            return new ArrayList<>();
+        }
+
+        final List<ClassIndex> classIndices = new ArrayList<>();
+        for (Node node = nodes.get(index).getParent(); node != null && node != root; node = node.getParent()) {
+            if (node.isDeleted()) {
+                return new ArrayList<>();
+            }
+            classIndices.add(ClassIndex.newInstance(node.getType(), node.getIndex()));
+        }
+        return classIndices;
     }
 
     public Randomize getRandomize() {
@@ -80,4 +102,24 @@ public class CreationPlanImpl implements CreationPlan {
     public List<FieldIndexValue> getFieldIndexValues() {
         return fieldIndexValues;
     }
+
+    /**
+     * @param assignment index of the parent entity for every index of the child type
+     */
+    public void setParentAssignment(final Class<?> childType, final Class<?> parentType, final int[] assignment) {
+        parentAssignments.computeIfAbsent(childType, k -> new HashMap<>()).put(parentType, assignment);
+    }
+
+    public Set<Class<?>> getParentAssignmentTypes() {
+        final Set<Class<?>> types = new HashSet<>();
+        for (Map<Class<?>, int[]> assignments : parentAssignments.values()) {
+            types.addAll(assignments.keySet());
+        }
+        return types;
+    }
+
+    public int[] getParentAssignment(final Class<?> childType, final Class<?> parentType) {
+        final Map<Class<?>, int[]> assignments = parentAssignments.get(childType);
+        return assignments == null ? null : assignments.get(parentType);
+    }
 }
@@ -0,0 +1,68 @@
+package com.github.kuros.random.jpa.types;
+
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Decides which parent each child of a {@link Entity#distributedOver(Class, int, Distribution)} refers to.
+ */
+public interface Distribution {
+
+    /**
+     * @return parent index, in the range [0, parentCount), for every child index
+     */
+    int[] assign(int childCount, int parentCount, Random random);
+
+    static Distribution uniform() {
+        return (childCount, parentCount, random) -> {
+            final int[] assignment = new int[childCount];
+            for (int i = 0; i < childCount; i++) {
+                assignment[i] = random.nextInt(parentCount);
+            }
+            return assignment;
+        };
+    }
+
+    /**
+     * Parent {@code k} is picked with a probability proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    static Distribution zipf(final double exponent) {
+        if (!(exponent >= 0)) {
+            throw new RandomJPAException("Illegal Argument: exponent should not be negative");
+        }
+
+        return (childCount, parentCount, random) -> {
+            final double[] cumulative = new double[parentCount];
+            double total = 0;
+            for (int k = 0; k < parentCount; k++) {
+                total += 1 / Math.pow(k + 1, exponent);
+                cumulative[k] = total;
+            }
+
+            final int[] assignment = new int[childCount];
+            for (int i = 0; i < childCount; i++) {
+                final int position = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                assignment[i] = Math.min(position < 0 ? -position - 1 : position, parentCount - 1);
+            }
+            return assignment;
+        };
+    }
+}
@@ -34,6 +34,7 @@ public final class Entity<T> {
     private List<Class<?>> afterClasses;
     private List<Class<?>> beforeClasses;
     private List<ClassIndex> classIndices;
+    private List<ParentDistribution> parentDistributions;
 
     private Entity(final Class<T> type) {
         this(type, 1);
@@ -49,6 +50,7 @@ public final class Entity<T> {
         this.beforeClasses = new ArrayList<>();
         this.attributeIndexValues = new ArrayList<>();
         this.classIndices = new ArrayList<>();
+        this.parentDistributions = new ArrayList<>();
     }
 
     private void validate(final int entityCount) {
@@ -95,6 +97,16 @@ public final class Entity<T> {
         return this;
     }
 
+    /**
+     * Creates {@code parentCount} entities of the parent type and spreads all children of this entity over them,
+     * instead of creating the children once for every parent.
+     */
+    public Entity<T> distributedOver(final Class<?> parentType, final int parentCount, final Distribution distribution) {
+        validate(parentCount);
+        parentDistributions.add(ParentDistribution.newInstance(parentType, parentCount, distribution));
+        return this;
+    }
+
     Class<T> getType() {
         return type;
     }
@@ -126,4 +138,8 @@ public final class Entity<T> {
     List<AttributeIndexValue<T, ?>> getAttributeIndexValues() {
         return attributeIndexValues;
     }
+
+    List<ParentDistribution> getParentDistributions() {
+        return parentDistributions;
+    }
 }
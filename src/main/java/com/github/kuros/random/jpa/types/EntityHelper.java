@@ -37,5 +37,8 @@ public class EntityHelper {
     public static <T> List<ClassIndex> getClassIndices(final Entity<T> entity) {
         return entity.getClassIndices();
     }
-}
 
+    public static <T> List<ParentDistribution> getParentDistributions(final Entity<T> entity) {
+        return entity.getParentDistributions();
+    }
+}
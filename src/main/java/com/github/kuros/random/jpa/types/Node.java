@@ -25,7 +25,9 @@ public final class Node<T> {
     private final int index;
     private T value;
     private List<Node> childNodes;
+    private Node parent;
     private final int depth;
+    private boolean deleted;
 
     private Node(final Class<T> type, final int depth, final int index) {
         this.type = type;
@@ -47,6 +49,9 @@ public final class Node<T> {
         return type;
     }
 
+    /**
+     * @return value explicitly set on the node; random values are only instantiated when the plan is persisted
+     */
     public T getValue() {
         return value;
     }
@@ -57,6 +62,9 @@ public final class Node<T> {
 
     public void setChildNodes(final List<Node> childNodes) {
         this.childNodes = childNodes;
+        for (Node childNode : childNodes) {
+            childNode.parent = this;
+        }
     }
 
     public List<Node> getChildNodes() {
@@ -65,12 +73,30 @@ public final class Node<T> {
 
     public void addChildNode(final Node node) {
         childNodes.add(node);
+        node.parent = this;
+    }
+
+    /**
+     * @return node this node was added to, or null for a root node
+     */
+    public Node getParent() {
+        return parent;
     }
 
     public int getIndex() {
         return index;
     }
 
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void delete() {
+        this.deleted = true;
+        this.value = null;
+        this.childNodes = new ArrayList<>();
+    }
+
     public String print() {
         final StringBuilder stringBuilder = new StringBuilder();
         print(stringBuilder, "", true);
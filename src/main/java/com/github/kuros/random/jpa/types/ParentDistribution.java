@@ -0,0 +1,46 @@
+package com.github.kuros.random.jpa.types;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public final class ParentDistribution {
+
+    private final Class<?> parentType;
+    private final int parentCount;
+    private final Distribution distribution;
+
+    private ParentDistribution(final Class<?> parentType, final int parentCount, final Distribution distribution) {
+        this.parentType = parentType;
+        this.parentCount = parentCount;
+        this.distribution = distribution;
+    }
+
+    public static ParentDistribution newInstance(final Class<?> parentType, final int parentCount, final Distribution distribution) {
+        return new ParentDistribution(parentType, parentCount, distribution);
+    }
+
+    public Class<?> getParentType() {
+        return parentType;
+    }
+
+    public int getParentCount() {
+        return parentCount;
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+}
@@ -4,102 +4,180 @@ import com.github.kuros.random.jpa.types.ClassDepth;
 import com.github.kuros.random.jpa.types.CreationOrder;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Merges creation orders which share a class. Each merged order is a group holding a linked list of its classes;
+ * groups are joined through a union-find, so a class finds the order it currently belongs to without rescanning,
+ * and joining two orders only costs the size of the order being added.
+ */
 public class MergeUtil {
 
     public static List<CreationOrder> merge(final List<CreationOrder> creationOrders) {
-        final Map<OrderKey, CreationOrder> compactMap = new LinkedHashMap<>();
+        final Map<Class<?>, Entry> entries = new HashMap<>();
+        final Set<Group> groups = new LinkedHashSet<>();
 
         for (CreationOrder creationOrder : creationOrders) {
-
-            final CreationOrder combinedOrder = copy(creationOrder);
+            final Group group = new Group(creationOrder.getCreationCount());
+            final List<Group> mergedGroups = new ArrayList<>();
 
             for (ClassDepth<?> classDepth : creationOrder.getOrder()) {
-                final OrderKey orderKey = new OrderKey(classDepth);
-                final CreationOrder innerOrder = compactMap.get(orderKey);
-                if (innerOrder != null && !innerOrder.getOrder().isEmpty()) {
-                    compactMap.remove(orderKey);
-                    mergeRightToLeft(combinedOrder, innerOrder);
+                final Entry existing = entries.get(classDepth.getType());
+                if (existing != null) {
+                    final Group owner = existing.group.find();
+                    if (owner != group) {
+                        if (!owner.merged) {
+                            owner.merged = true;
+                            mergedGroups.add(owner);
+                        }
+                        if (classDepth.getDepth() < existing.classDepth.getDepth()) {
+                            classDepth.setDepth(existing.classDepth.getDepth());
+                        }
+                        owner.unlink(existing);
+                    }
                 }
-            }
 
-            if (!combinedOrder.getOrder().isEmpty()) {
-                final OrderKey key = new OrderKey(combinedOrder.getOrder());
-                compactMap.put(key, combinedOrder);
+                final Entry entry = new Entry(classDepth, group);
+                group.append(entry);
+                entries.put(classDepth.getType(), entry);
             }
-        }
 
-        return new ArrayList<>(compactMap.values());
-    }
+            for (Group mergedGroup : mergedGroups) {
+                group.absorb(mergedGroup);
+                groups.remove(mergedGroup);
+            }
+            group.absorbCreationCounts(mergedGroups);
 
-    private static void mergeRightToLeft(final CreationOrder left, final CreationOrder right) {
-        final List<ClassDepth<?>> leftOrder = left.getOrder();
-        for (ClassDepth<?> rightOrderClass : right.getOrder()) {
-            if (!leftOrder.contains(rightOrderClass)) {
-                left.add(rightOrderClass);
-            } else {
-                final int index = leftOrder.indexOf(rightOrderClass);
-                final ClassDepth<?> leftClassDepth = leftOrder.get(index);
-                if (leftClassDepth.getDepth() < rightOrderClass.getDepth()) {
-                    leftClassDepth.setDepth(rightOrderClass.getDepth());
-                }
+            if (group.head != null) {
+                groups.add(group);
             }
         }
 
-        left.addCreationCount(right.getCreationCount());
+        final List<CreationOrder> result = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            final CreationOrder creationOrder = CreationOrder.newInstance();
+            for (Entry entry = group.head; entry != null; entry = entry.next) {
+                creationOrder.add(entry.classDepth);
+            }
+            creationOrder.addCreationCount(group.creationCount);
+            result.add(creationOrder);
+        }
+        return result;
     }
 
-    private static CreationOrder copy(final CreationOrder in) {
-        final CreationOrder out = CreationOrder.newInstance();
+    private static final class Entry {
+        private final ClassDepth<?> classDepth;
+        private final Group group;
+        private Entry previous;
+        private Entry next;
 
-        for (ClassDepth<?> classDepth : in.getOrder()) {
-            out.add(classDepth);
+        private Entry(final ClassDepth<?> classDepth, final Group group) {
+            this.classDepth = classDepth;
+            this.group = group;
         }
-
-        out.addCreationCount(in.getCreationCount());
-
-        return out;
     }
 
-    private static class OrderKey {
+    private static final class Group {
+        private Group parent;
+        private Entry head;
+        private Entry tail;
+        private Map<Class<?>, Integer> creationCount;
+        private boolean merged;
+
+        private Group(final Map<Class<?>, Integer> creationCount) {
+            this.creationCount = creationCount;
+        }
 
-        private List<ClassDepth<?>> classes;
+        private Group find() {
+            Group root = this;
+            while (root.parent != null) {
+                root = root.parent;
+            }
 
-        OrderKey(final List<ClassDepth<?>> classes) {
-            this.classes = classes;
+            Group group = this;
+            while (group != root) {
+                final Group next = group.parent;
+                group.parent = root;
+                group = next;
+            }
+            return root;
         }
 
-        OrderKey(final ClassDepth<?> aClass) {
-            this.classes = new ArrayList<>();
-            this.classes.add(aClass);
+        private void append(final Entry entry) {
+            entry.previous = tail;
+            entry.next = null;
+            if (tail == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+            }
+            tail = entry;
         }
 
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
+        private void unlink(final Entry entry) {
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
 
-            final OrderKey orderKey = (OrderKey) o;
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.previous = null;
+            entry.next = null;
+        }
 
-            for (ClassDepth<?> aClass : orderKey.getClasses()) {
-                if (classes.contains(aClass)) {
-                    return true;
-                }
+        private void absorb(final Group other) {
+            other.parent = this;
+            if (other.head == null) {
+                return;
             }
 
-            return false;
+            if (tail == null) {
+                head = other.head;
+            } else {
+                tail.next = other.head;
+                other.head.previous = tail;
+            }
+            tail = other.tail;
+            other.head = null;
+            other.tail = null;
         }
 
-        @Override
-        public int hashCode() {
-            return 21;
-        }
+        /**
+         * Counts of the absorbed orders take precedence over the counts of this order. The absorbed orders hold
+         * disjoint classes, so the largest of their maps is reused and the rest are added to it.
+         */
+        private void absorbCreationCounts(final List<Group> others) {
+            if (others.isEmpty()) {
+                creationCount = new HashMap<>(creationCount);
+                return;
+            }
+
+            Group largest = others.get(0);
+            for (Group other : others) {
+                if (other.creationCount.size() > largest.creationCount.size()) {
+                    largest = other;
+                }
+            }
 
-        public List<ClassDepth<?>> getClasses() {
-            return classes;
+            final Map<Class<?>, Integer> merged = largest.creationCount;
+            for (Group other : others) {
+                if (other != largest) {
+                    merged.putAll(other.creationCount);
+                }
+            }
+            for (Map.Entry<Class<?>, Integer> entry : creationCount.entrySet()) {
+                merged.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            creationCount = merged;
         }
     }
 }
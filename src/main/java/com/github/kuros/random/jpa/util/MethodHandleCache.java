@@ -0,0 +1,104 @@
+package com.github.kuros.random.jpa.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+final class MethodHandleCache {
+
+    private static final ClassValue<ConcurrentMap<MethodKey, MethodHandle>> METHOD_HANDLES = new ClassValue<ConcurrentMap<MethodKey, MethodHandle>>() {
+        @Override
+        protected ConcurrentMap<MethodKey, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MethodHandleCache() {
+    }
+
+    static MethodHandle get(final Class<?> type, final String name, final Class<?>[] paramClasses)
+            throws NoSuchMethodException, IllegalAccessException {
+        final ConcurrentMap<MethodKey, MethodHandle> methodHandles = METHOD_HANDLES.get(type);
+        final MethodKey key = new MethodKey(name, paramClasses);
+
+        MethodHandle methodHandle = methodHandles.get(key);
+        if (methodHandle == null) {
+            methodHandle = resolve(type, name, paramClasses);
+            final MethodHandle existing = methodHandles.putIfAbsent(key, methodHandle);
+            if (existing != null) {
+                methodHandle = existing;
+            }
+        }
+        return methodHandle;
+    }
+
+    private static MethodHandle resolve(final Class<?> type, final String name, final Class<?>[] paramClasses)
+            throws NoSuchMethodException, IllegalAccessException {
+        final Method method = getMethod(name, type, paramClasses);
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            method.setAccessible(true);
+        }
+
+        return MethodHandles.lookup()
+                .unreflect(method)
+                .asType(MethodType.genericMethodType(paramClasses.length + 1))
+                .asSpreader(Object[].class, paramClasses.length);
+    }
+
+    private static Method getMethod(final String methodName, final Class<?> objClass, final Class<?>[] paramClasses) throws NoSuchMethodException {
+        if (objClass == Object.class) {
+            return objClass.getDeclaredMethod(methodName, paramClasses);
+        }
+
+        try {
+            return objClass.getDeclaredMethod(methodName, paramClasses);
+        } catch (final NoSuchMethodException e) {
+            return getMethod(methodName, objClass.getSuperclass(), paramClasses);
+        }
+    }
+
+    private static final class MethodKey {
+        private final String name;
+        private final Class<?>[] paramClasses;
+
+        private MethodKey(final String name, final Class<?>[] paramClasses) {
+            this.name = name;
+            this.paramClasses = paramClasses;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final MethodKey methodKey = (MethodKey) o;
+            return name.equals(methodKey.name) && Arrays.equals(paramClasses, methodKey.paramClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(paramClasses);
+        }
+    }
+}
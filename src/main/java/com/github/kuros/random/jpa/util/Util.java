@@ -10,6 +10,7 @@ import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
@@ -191,44 +192,21 @@ public class Util {
         for (int i = 0; i < params.length; i++) {
             paramClasses[i] = params[i].getClass();
         }
-        final Class<?> aClass = object.getClass();
 
-        final Method method;
+        final MethodHandle methodHandle;
         try {
-            method = getMethod(name, aClass, paramClasses);
-        } catch (NoSuchMethodException e) {
+            methodHandle = MethodHandleCache.get(object.getClass(), name, paramClasses);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
             throw new MethodNotFoundException("Method Not found: { class:" + object.getClass().getName() +
             " , method: " + name + "params: [" + Arrays.toString(paramClasses) + "]}");
         }
-        final Object invoke;
 
         try {
-            if (method.isAccessible()) {
-                invoke = method.invoke(object, params);
-            } else {
-                method.setAccessible(true);
-                invoke = method.invoke(object, params);
-                method.setAccessible(false);
-            }
-        } catch (final Exception e) {
+            return (Object) methodHandle.invokeExact(object, params);
+        } catch (final Throwable e) {
             throw new MethodInvocationException("Method Not found: { class:" + object.getClass().getName() +
                     " , method: " + name + "params: [" + Arrays.toString(paramClasses) + "]}", e);
         }
-
-
-        return invoke;
-    }
-
-    private static Method getMethod(final String methodName, final Class<?> objClass, final Class<?>[] paramClasses) throws NoSuchMethodException {
-        if (objClass == Object.class) {
-            return objClass.getDeclaredMethod(methodName, paramClasses);
-        }
-
-        try {
-            return objClass.getDeclaredMethod(methodName, paramClasses);
-        } catch (final NoSuchMethodException e) {
-            return getMethod(methodName, objClass.getSuperclass(), paramClasses);
-        }
     }
 
     public static String getDeepestRootCauseMessage(final Throwable throwable) {
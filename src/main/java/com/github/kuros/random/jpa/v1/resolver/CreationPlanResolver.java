@@ -10,9 +10,13 @@ import com.github.kuros.random.jpa.types.Node;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -35,13 +39,15 @@ public final class CreationPlanResolver {
     private HierarchyGraph hierarchyGraph;
     private List<CreationOrder> creationOrders;
     private Map<Class<?>, Integer> creationCount;
-    private CreationPlanImpl creationPlan;
     private Randomize randomize;
+    private boolean sharedParents;
+    private Set<Class<?>> distributedTypes;
 
     private CreationPlanResolver(final Randomize randomize, final CreationOrder... creationOrders) {
         this.creationOrders = Arrays.asList(creationOrders);
         this.creationCount = new HashMap<>();
         this.randomize = randomize;
+        this.distributedTypes = Collections.emptySet();
 
         initCreationCount();
     }
@@ -61,51 +67,229 @@ public final class CreationPlanResolver {
         return this;
     }
 
+    /**
+     * Creates every type of a creation order exactly its count times, spreading the children over the parents
+     * of the previous level in contiguous blocks, instead of repeating each level under every parent node.
+     */
+    public CreationPlanResolver withSharedParents(final boolean shared) {
+        this.sharedParents = shared;
+        return this;
+    }
+
+    /**
+     * Types whose entities are spread over their parents by a distribution. Such a type is created exactly its
+     * count times, after every entity of the preceding levels, so that all of its parents are already persisted.
+     */
+    public CreationPlanResolver withDistributedTypes(final Set<Class<?>> types) {
+        this.distributedTypes = types;
+        return this;
+    }
+
     public CreationPlan create() {
-        creationPlan = new CreationPlanImpl(hierarchyGraph, randomize);
+        return create(randomize, hierarchyGraph, layout());
+    }
 
-        for (CreationOrder creationOrder : creationOrders) {
-            final List<ClassDepth<?>> order = creationOrder.getOrder();
-            add(order, creationPlan.getRoot(), 0);
+    public NodeLayout layout() {
+        final LayoutBuilder builder = new LayoutBuilder();
+        final Iterator<PlanRecord> records = records();
+        while (records.hasNext()) {
+            builder.add(records.next());
         }
+        return builder.build();
+    }
 
-        return creationPlan;
+    /**
+     * Produces the entities of the plan one by one, in the order they are persisted. Only the position in the
+     * current creation order is kept, so memory is bounded by the depth of the hierarchy and not by the number
+     * of entities.
+     */
+    public Iterator<PlanRecord> records() {
+        return new RecordIterator();
     }
 
-    @SuppressWarnings("unchecked")
-    private void add(final List<ClassDepth<?>> order, final Node node, final int index) {
-        if (index >= order.size()) {
-            return;
+    /**
+     * @return number of entities of every type in the plan, without materializing the plan
+     */
+    public Map<Class<?>, Integer> countRecords() {
+        final Map<Class<?>, Integer> counts = new HashMap<>();
+        final Iterator<PlanRecord> records = records();
+        while (records.hasNext()) {
+            counts.merge(records.next().getType(), 1, Integer::sum);
         }
+        return counts;
+    }
 
-        final ClassDepth<?> classDepth = order.get(index);
-        final Class<?> type = classDepth.getType();
-        Integer count = creationCount.get(type);
-        count = count == null ? 1 : count;
-
-        for (int i = 0; i < count; i++) {
-            final Node childNode = Node.newInstance(type, classDepth.getDepth(), getCreatedIndex(type));
+    @SuppressWarnings("unchecked")
+    public static CreationPlan create(final Randomize randomize, final HierarchyGraph hierarchyGraph, final NodeLayout layout) {
+        final CreationPlanImpl creationPlan = new CreationPlanImpl(hierarchyGraph, randomize);
+        final Node[] nodes = new Node[layout.size()];
+        for (int slot = 0; slot < layout.size(); slot++) {
+            final Class<?> type = layout.getType(slot);
+            final Node childNode = Node.newInstance(type, layout.getDepth(slot), layout.getIndex(slot));
 
-            final Object randomObject = createRandomObject(childNode);
-            childNode.setValue(randomObject);
-            node.addChildNode(childNode);
-            addToCreatedNode(type, childNode);
-            add(order, childNode, index + 1);
+            final int parent = layout.getParent(slot);
+            (parent < 0 ? creationPlan.getRoot() : nodes[parent]).addChildNode(childNode);
+            creationPlan.getCreatedNodeMap().computeIfAbsent(type, k -> new ArrayList<>()).add(childNode);
+            nodes[slot] = childNode;
         }
+
+        return creationPlan;
     }
 
-    private void addToCreatedNode(final Class<?> key, final Node node) {
-        List<Node> nodes = creationPlan.getCreatedNodeMap().computeIfAbsent(key, k -> new ArrayList<>());
+    /**
+     * Child {@code c} belongs to parent {@code c * count / childCount}, so the children of parent {@code p}
+     * start at {@code ceil(p * childCount / count)}.
+     */
+    private static int firstChild(final int parent, final int count, final int childCount) {
+        return (int) (((long) parent * childCount + count - 1) / count);
+    }
 
-        nodes.add(node);
+    private int getCount(final Class<?> type) {
+        final Integer count = creationCount.get(type);
+        return count == null ? 1 : count;
     }
 
-    private int getCreatedIndex(final Class<?> key) {
-        final List<Node> nodes = creationPlan.getCreatedNodeMap().get(key);
-        return nodes == null ? 0 : nodes.size();
+    /**
+     * Depth first walk over the creation orders. Every order is split into segments at the distributed types; a
+     * segment starts under the last entity of the level preceding it, so every parent of a distributed type is
+     * produced before its first child.
+     */
+    private final class RecordIterator implements Iterator<PlanRecord> {
+        private final Map<Class<?>, Integer> createdCount = new HashMap<>();
+        private int orderIndex = -1;
+        private List<ClassDepth<?>> order;
+        private int[] next;
+        private int[] end;
+        private int[] indices;
+        private int start;
+        private int stop;
+        private int level = -1;
+        private Class<?> segmentParentType;
+        private int segmentParentIndex;
+        private PlanRecord nextRecord;
+
+        @Override
+        public boolean hasNext() {
+            if (nextRecord == null) {
+                nextRecord = advance();
+            }
+            return nextRecord != null;
+        }
+
+        @Override
+        public PlanRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final PlanRecord record = nextRecord;
+            nextRecord = null;
+            return record;
+        }
+
+        private PlanRecord advance() {
+            while (true) {
+                if (level < start) {
+                    if (!nextSegment()) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                if (next[level] >= end[level]) {
+                    level--;
+                    continue;
+                }
+
+                final int position = next[level]++;
+                final ClassDepth<?> classDepth = order.get(level);
+                final Class<?> type = classDepth.getType();
+                final Integer created = createdCount.get(type);
+                final int index = created == null ? 0 : created;
+                createdCount.put(type, index + 1);
+                indices[level] = index;
+
+                final PlanRecord record = level == start
+                        ? PlanRecord.newInstance(type, classDepth.getDepth(), index, level, segmentParentType, segmentParentIndex)
+                        : PlanRecord.newInstance(type, classDepth.getDepth(), index, level, order.get(level - 1).getType(), indices[level - 1]);
+
+                if (level + 1 < stop) {
+                    level++;
+                    if (sharedParents) {
+                        final int count = getCount(type);
+                        final int childCount = getCount(order.get(level).getType());
+                        next[level] = firstChild(position, count, childCount);
+                        end[level] = firstChild(position + 1, count, childCount);
+                    } else {
+                        next[level] = 0;
+                        end[level] = getCount(order.get(level).getType());
+                    }
+                }
+                return record;
+            }
+        }
+
+        private boolean nextSegment() {
+            if (order != null && stop < order.size()) {
+                segmentParentType = order.get(stop - 1).getType();
+                segmentParentIndex = createdCount.get(segmentParentType) - 1;
+                start = stop;
+            } else {
+                do {
+                    orderIndex++;
+                    if (orderIndex >= creationOrders.size()) {
+                        return false;
+                    }
+                    order = creationOrders.get(orderIndex).getOrder();
+                } while (order.isEmpty());
+
+                next = new int[order.size()];
+                end = new int[order.size()];
+                indices = new int[order.size()];
+                segmentParentType = null;
+                segmentParentIndex = -1;
+                start = 0;
+            }
+
+            stop = start + 1;
+            while (stop < order.size() && !distributedTypes.contains(order.get(stop).getType())) {
+                stop++;
+            }
+
+            level = start;
+            next[start] = 0;
+            end[start] = getCount(order.get(start).getType());
+            return true;
+        }
     }
 
-    private Object createRandomObject(final Node node) {
-        return randomize.createRandom(node.getType());
+    private static final class LayoutBuilder {
+        private final Map<Class<?>, Integer> lastSlots = new HashMap<>();
+        private Class<?>[] types = new Class<?>[16];
+        private int[] depths = new int[16];
+        private int[] indices = new int[16];
+        private int[] parents = new int[16];
+        private int size;
+
+        private void add(final PlanRecord record) {
+            if (size == types.length) {
+                final int capacity = size * 2;
+                types = Arrays.copyOf(types, capacity);
+                depths = Arrays.copyOf(depths, capacity);
+                indices = Arrays.copyOf(indices, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+            }
+
+            types[size] = record.getType();
+            depths[size] = record.getDepth();
+            indices[size] = record.getIndex();
+            parents[size] = record.getParentType() == null ? -1 : lastSlots.get(record.getParentType());
+            lastSlots.put(record.getType(), size);
+            size++;
+        }
+
+        private NodeLayout build() {
+            return NodeLayout.newInstance(types, depths, indices, parents, size);
+        }
     }
 }
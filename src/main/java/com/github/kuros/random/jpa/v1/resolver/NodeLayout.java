@@ -0,0 +1,64 @@
+package com.github.kuros.random.jpa.v1.resolver;
+
+import java.util.Arrays;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Node tree of a creation plan, flattened in creation order. Each slot holds the type, depth and created index of a
+ * node, and the slot of its parent node (-1 for children of the root).
+ */
+public final class NodeLayout {
+
+    private final Class<?>[] types;
+    private final int[] depths;
+    private final int[] indices;
+    private final int[] parents;
+
+    private NodeLayout(final Class<?>[] types, final int[] depths, final int[] indices, final int[] parents) {
+        this.types = types;
+        this.depths = depths;
+        this.indices = indices;
+        this.parents = parents;
+    }
+
+    static NodeLayout newInstance(final Class<?>[] types, final int[] depths, final int[] indices, final int[] parents,
+                                  final int size) {
+        return new NodeLayout(Arrays.copyOf(types, size), Arrays.copyOf(depths, size),
+                Arrays.copyOf(indices, size), Arrays.copyOf(parents, size));
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public Class<?> getType(final int slot) {
+        return types[slot];
+    }
+
+    public int getDepth(final int slot) {
+        return depths[slot];
+    }
+
+    public int getIndex(final int slot) {
+        return indices[slot];
+    }
+
+    public int getParent(final int slot) {
+        return parents[slot];
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.kuros.random.jpa.v1.resolver;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+/**
+ * Single entity of a creation plan, as produced by {@link CreationPlanResolver#records()}.
+ */
+public final class PlanRecord {
+
+    private final Class<?> type;
+    private final int depth;
+    private final int index;
+    private final int level;
+    private final Class<?> parentType;
+    private final int parentIndex;
+
+    private PlanRecord(final Class<?> type, final int depth, final int index, final int level,
+                       final Class<?> parentType, final int parentIndex) {
+        this.type = type;
+        this.depth = depth;
+        this.index = index;
+        this.level = level;
+        this.parentType = parentType;
+        this.parentIndex = parentIndex;
+    }
+
+    static PlanRecord newInstance(final Class<?> type, final int depth, final int index, final int level,
+                                  final Class<?> parentType, final int parentIndex) {
+        return new PlanRecord(type, depth, index, level, parentType, parentIndex);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return position of the type in its creation order
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return type of the parent record, or null for a root record
+     */
+    public Class<?> getParentType() {
+        return parentType;
+    }
+
+    public int getParentIndex() {
+        return parentIndex;
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.kuros.random.jpa;
 
 import com.github.kuros.random.jpa.cache.Cache;
+import com.github.kuros.random.jpa.cache.CompiledSchemaRegistry;
 import com.github.kuros.random.jpa.definition.HierarchyGraph;
 import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.link.Before;
@@ -12,6 +13,7 @@ import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
 import com.github.kuros.random.jpa.testUtil.entity.D;
 import com.github.kuros.random.jpa.testUtil.entity.D_;
 import com.github.kuros.random.jpa.testUtil.entity.P;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
 import com.github.kuros.random.jpa.testUtil.entity.Q;
 import com.github.kuros.random.jpa.testUtil.entity.R;
 import com.github.kuros.random.jpa.testUtil.entity.X;
@@ -19,23 +21,34 @@ import com.github.kuros.random.jpa.testUtil.entity.Y;
 import com.github.kuros.random.jpa.testUtil.entity.Z;
 import com.github.kuros.random.jpa.testUtil.entity.Z_;
 import com.github.kuros.random.jpa.testUtil.hierarchyGraph.DependencyHelper;
+import com.github.kuros.random.jpa.types.Entity;
 import com.github.kuros.random.jpa.types.Trigger;
 import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import javax.persistence.EntityManager;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class JPAContextFactoryTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private EntityManager entityManager;
 
     @org.junit.Before
@@ -183,6 +196,134 @@ public class JPAContextFactoryTest {
 
     }
 
+    @Test
+    public void createJpaContextWithSchemaSnapshot() {
+        final File snapshotFile = new File(temporaryFolder.getRoot(), "random-jpa.snapshot");
+
+        final JPAContextImpl first = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withSchemaSnapshot(snapshotFile, "v1")
+                .generate();
+
+        assertTrue(snapshotFile.isFile());
+
+        final JPAContextImpl second = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withSchemaSnapshot(snapshotFile, "v1")
+                .generate();
+
+        final HierarchyGraph expected = first.getCache().getHierarchyGraph();
+        final HierarchyGraph actual = second.getCache().getHierarchyGraph();
+        assertEquals(expected.getKeySet(), actual.getKeySet());
+        for (Class<?> type : expected.getKeySet()) {
+            assertEquals(expected.getParents(type), actual.getParents(type));
+        }
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldRequireSchemaVersionForSchemaSnapshot() {
+        JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withSchemaSnapshot(new File(temporaryFolder.getRoot(), "random-jpa.snapshot"), null);
+    }
+
+    @Test
+    public void createJpaContextWithParallelInitialization() {
+        final JPAContextImpl expected = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .generate();
+
+        final JPAContextImpl actual = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withParallelInitialization(entityManager.getEntityManagerFactory())
+                .generate();
+
+        assertEquals(entityManager, actual.getCache().getEntityManager());
+        assertEquals(expected.getCache().getHierarchyGraph().getKeySet(), actual.getCache().getHierarchyGraph().getKeySet());
+    }
+
+    @Test
+    public void createJpaContextWithLazyMetadataLoading() {
+        final JPAContextImpl jpaContext = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withLazyMetadataLoading()
+                .generate();
+
+        final Cache cache = jpaContext.getCache();
+        assertNull(cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName"));
+
+        jpaContext.create(Entity.of(Person.class));
+
+        assertNotNull(cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName"));
+    }
+
+    @Test
+    public void refreshSchemaShouldKeepGraphWhenSchemaIsUnchanged() {
+        final JPAContextImpl jpaContext = (JPAContextImpl) JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .generate();
+
+        final Cache cache = jpaContext.getCache();
+        assertNotNull(cache.getSchemaRefresher());
+        final Set<Class<?>> parents = new HashSet<>(cache.getHierarchyGraph().getParents(Z.class));
+
+        jpaContext.refreshSchema();
+
+        assertEquals(parents, cache.getHierarchyGraph().getParents(Z.class));
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void refreshSchemaShouldBeRejectedForSchemaSnapshot() {
+        JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withSchemaSnapshot(new File(temporaryFolder.getRoot(), "random-jpa.snapshot"), "v1")
+                .generate()
+                .refreshSchema();
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void refreshSchemaShouldBeRejectedForSharedSchema() {
+        JPAContextFactory
+                .newInstance(Database.H2, entityManager)
+                .withSharedSchema()
+                .generate()
+                .refreshSchema();
+    }
+
+    @Test
+    public void createJpaContextWithSharedSchema() {
+        final EntityManager otherEntityManager = EntityManagerProvider.getEntityManager();
+        try {
+            final JPAContextImpl first = (JPAContextImpl) JPAContextFactory
+                    .newInstance(Database.NONE, entityManager)
+                    .withPreconditions(Before.of(D.class).create(Z.class))
+                    .withSharedSchema()
+                    .generate();
+
+            final JPAContextImpl second = (JPAContextImpl) JPAContextFactory
+                    .newInstance(Database.NONE, otherEntityManager)
+                    .withPreconditions(Before.of(D.class).create(Z.class))
+                    .withSharedSchema()
+                    .generate();
+
+            final JPAContextImpl withoutPrecondition = (JPAContextImpl) JPAContextFactory
+                    .newInstance(Database.NONE, otherEntityManager)
+                    .withSharedSchema()
+                    .generate();
+
+            assertSame(first.getCache().getHierarchyGraph(), second.getCache().getHierarchyGraph());
+            assertSame(first.getCache().getChildGraph(), second.getCache().getChildGraph());
+            assertSame(first.getCache().getAttributeProvider(), second.getCache().getAttributeProvider());
+            assertEquals(entityManager, first.getCache().getEntityManager());
+            assertEquals(otherEntityManager, second.getCache().getEntityManager());
+            assertNotSame(first.getCache().getHierarchyGraph(), withoutPrecondition.getCache().getHierarchyGraph());
+            assertFalse(withoutPrecondition.getCache().getHierarchyGraph().getParents(D.class).contains(Z.class));
+        } finally {
+            CompiledSchemaRegistry.clear();
+            otherEntityManager.close();
+        }
+    }
+
     @Test
     public void createJpaContextWithSkipTruncation() {
 
@@ -1,11 +1,18 @@
 package com.github.kuros.random.jpa;
 
+import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.link.Dependencies;
+import com.github.kuros.random.jpa.link.Link;
 import com.github.kuros.random.jpa.persistor.model.ResultMap;
+import com.github.kuros.random.jpa.resolver.CreationOrderStrategy;
 import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
 import com.github.kuros.random.jpa.testUtil.RandomFixture;
 import com.github.kuros.random.jpa.testUtil.entity.A;
 import com.github.kuros.random.jpa.testUtil.entity.B;
+import com.github.kuros.random.jpa.testUtil.entity.CascadeChild;
+import com.github.kuros.random.jpa.testUtil.entity.CascadeChild_;
+import com.github.kuros.random.jpa.testUtil.entity.CascadeParent;
+import com.github.kuros.random.jpa.testUtil.entity.CascadeParent_;
 import com.github.kuros.random.jpa.testUtil.entity.C;
 import com.github.kuros.random.jpa.testUtil.entity.D;
 import com.github.kuros.random.jpa.testUtil.entity.D_;
@@ -24,14 +31,19 @@ import com.github.kuros.random.jpa.testUtil.entity.Y;
 import com.github.kuros.random.jpa.testUtil.entity.Z;
 import com.github.kuros.random.jpa.testUtil.entity.Z_;
 import com.github.kuros.random.jpa.testUtil.hierarchyGraph.DependencyHelper;
+import com.github.kuros.random.jpa.types.CompiledPlan;
 import com.github.kuros.random.jpa.types.CreationPlan;
+import com.github.kuros.random.jpa.types.Distribution;
 import com.github.kuros.random.jpa.types.Entity;
+import com.github.kuros.random.jpa.types.Plan;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -96,6 +108,154 @@ public class JPAContextTest {
         assertEquals(z.getyId(), resultMap.get(Y.class).getId());
     }
 
+    @Test
+    public void shouldCreateAndPersistHierarchyWithTopologicalCreationOrder() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .withCreationOrderStrategy(CreationOrderStrategy.TOPOLOGICAL)
+                .generate();
+
+        entityManager.getTransaction().begin();
+        final ResultMap resultMap = jpaContext.createAndPersist(Entity.of(Z.class, 2));
+        entityManager.getTransaction().commit();
+
+        assertEquals(2, resultMap.getAll(Z.class).size());
+        assertEquals(resultMap.get(X.class).getId(), resultMap.get(Z.class, 1).getxId());
+        assertEquals(resultMap.get(Y.class).getId(), resultMap.get(Z.class, 1).getyId());
+    }
+
+    @Test
+    public void shouldCreateEachEntityOnceWithSharedParents() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .withSharedParents()
+                .generate();
+
+        entityManager.getTransaction().begin();
+        final ResultMap resultMap = jpaContext.createAndPersist(Entity.of(X.class, 2), Entity.of(Z.class, 4));
+        entityManager.getTransaction().commit();
+
+        assertEquals(2, resultMap.getAll(X.class).size());
+        assertEquals(1, resultMap.getAll(Y.class).size());
+        assertEquals(4, resultMap.getAll(Z.class).size());
+
+        final List<Long> xIds = Arrays.asList(resultMap.get(X.class, 0).getId(), resultMap.get(X.class, 1).getId());
+        for (Z z : resultMap.getAll(Z.class)) {
+            assertTrue(xIds.contains(z.getxId()));
+            assertEquals(resultMap.get(Y.class).getId(), z.getyId());
+        }
+    }
+
+    @Test
+    public void shouldDistributeChildrenOverParents() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .generate();
+
+        entityManager.getTransaction().begin();
+        final ResultMap resultMap = jpaContext.createAndPersist(Entity.of(Z.class, 40)
+                .distributedOver(X.class, 4, Distribution.zipf(2)));
+        entityManager.getTransaction().commit();
+
+        assertEquals(4, resultMap.getAll(X.class).size());
+        assertEquals(40, resultMap.getAll(Z.class).size());
+
+        final List<Long> xIds = new ArrayList<>();
+        for (X x : resultMap.getAll(X.class)) {
+            xIds.add(x.getId());
+        }
+
+        final int[] counts = new int[4];
+        for (Z z : resultMap.getAll(Z.class)) {
+            assertTrue(xIds.contains(z.getxId()));
+            counts[xIds.indexOf(z.getxId())]++;
+        }
+        assertTrue(counts[0] > counts[3]);
+    }
+
+    @Test
+    public void shouldPersistStreamingAcrossFlushes() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .generate();
+
+        final long rowCount = count(X.class) + count(Y.class) + count(Z.class);
+        final long zCount = count(Z.class);
+        entityManager.getTransaction().begin();
+        final long persisted = jpaContext.createAndPersistStreaming(Entity.of(Z.class, 1200)
+                .distributedOver(X.class, 3, Distribution.uniform()));
+        entityManager.getTransaction().commit();
+
+        assertEquals(zCount + 1200, count(Z.class));
+        assertEquals(count(X.class) + count(Y.class) + count(Z.class) - rowCount, persisted);
+
+        final List<Long> xIds = entityManager
+                .createQuery("select z.xId from Z z where z.id > (select max(z2.id) - 1200 from Z z2)", Long.class)
+                .getResultList();
+        final List<Long> persistedXIds = entityManager
+                .createQuery("select x.id from X x where x.id > (select max(x2.id) - 3 from X x2)", Long.class)
+                .getResultList();
+        assertEquals(1200, xIds.size());
+        assertTrue(persistedXIds.containsAll(xIds));
+    }
+
+    @Test
+    public void shouldReattachRetainedParentsAfterStreamingClear() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(Link.newLink(CascadeChild_.cascadeParent, CascadeParent_.id));
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .generate();
+
+        final long childCount = count(CascadeChild.class);
+        final long parentCount = count(CascadeParent.class);
+        entityManager.getTransaction().begin();
+        jpaContext.createAndPersistStreaming(Entity.of(CascadeChild.class, 1200)
+                .distributedOver(CascadeParent.class, 2, Distribution.uniform()));
+        entityManager.getTransaction().commit();
+
+        assertEquals(childCount + 1200, count(CascadeChild.class));
+        assertEquals(parentCount + 2, count(CascadeParent.class));
+    }
+
+    private long count(final Class<?> type) {
+        return entityManager.createQuery("select count(e) from " + type.getSimpleName() + " e", Long.class).getSingleResult();
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldNotDistributeOverTypeWhichIsNotAParent() {
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .generate();
+
+        jpaContext.create(Entity.of(X.class, 2).distributedOver(Y.class, 2, Distribution.uniform()));
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldNotDistributeOverIndirectParent() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .generate();
+
+        jpaContext.create(Entity.of(E.class, 2).distributedOver(C.class, 2, Distribution.uniform()));
+    }
+
     @Test
     public void shouldCreateAndPersistHierarchyWithSoftLink() {
 
@@ -489,6 +649,33 @@ public class JPAContextTest {
         assertNull(persist.get(Q.class).getpId());
     }
 
+    @Test
+    public void shouldCreateAndPersistFromCompiledPlan() {
+        final Dependencies dependencies = Dependencies.newInstance();
+        dependencies.withLink(DependencyHelper.getLinks());
+        final JPAContext jpaContext = JPAContextFactory
+                .newInstance(Database.NONE, entityManager)
+                .with(dependencies)
+                .generate();
+
+        final Long yId = RandomFixture.create(Long.class);
+        final CompiledPlan compiledPlan = jpaContext.compile(Plan.of(Entity.of(Z.class, 2).with(Z_.yId, yId)));
+
+        entityManager.getTransaction().begin();
+        final ResultMap first = jpaContext.createAndPersist(compiledPlan);
+        final ResultMap second = jpaContext.createAndPersist(compiledPlan);
+        entityManager.getTransaction().commit();
+
+        for (ResultMap resultMap : Arrays.asList(first, second)) {
+            assertEquals(2, resultMap.getAll(Z.class).size());
+            assertEquals(1, resultMap.getAll(X.class).size());
+            assertEquals(yId, resultMap.get(Z.class, 1).getyId());
+            assertEquals(resultMap.get(X.class).getId(), resultMap.get(Z.class, 1).getxId());
+        }
+        assertNotEquals(first.get(Z.class).getId(), second.get(Z.class).getId());
+        assertNotEquals(first.get(X.class).getId(), second.get(X.class).getId());
+    }
+
     private void persistAndVerifyCustomValues(final JPAContext jpaContext) {
         final Long xId = RandomFixture.create(Long.class);
         final Long yId = RandomFixture.create(Long.class);
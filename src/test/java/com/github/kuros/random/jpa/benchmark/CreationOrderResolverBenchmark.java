@@ -0,0 +1,133 @@
+package com.github.kuros.random.jpa.benchmark;
+
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.resolver.CreationOrderStrategy;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CreationOrderResolverBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int tables;
+
+    @Param({"DEPTH_PROPAGATION", "TOPOLOGICAL"})
+    private CreationOrderStrategy strategy;
+
+    private HierarchyGraph hierarchyGraph;
+    private Entity<?> entity;
+
+    @Setup
+    public void setUp() throws IOException {
+        final SyntheticClassLoader classLoader = new SyntheticClassLoader();
+        final Class<?>[] types = new Class<?>[tables];
+        for (int table = 0; table < tables; table++) {
+            types[table] = classLoader.define("Table" + table);
+        }
+
+        // every table references one of the ten tables created just before it, and every fifth table references
+        // one more table anywhere below it, giving a deep graph with shared ancestors
+        final Random random = new Random(tables);
+        hierarchyGraph = HierarchyGraph.newInstance();
+        for (int table = 1; table < tables; table++) {
+            hierarchyGraph.addNode(types[table], types[table - 1 - random.nextInt(Math.min(table, 10))]);
+            if (table % 5 == 0) {
+                hierarchyGraph.addNode(types[table], types[random.nextInt(table)]);
+            }
+        }
+
+        entity = Entity.of(types[tables - 1]);
+    }
+
+    @Benchmark
+    public CreationOrder resolve() {
+        return strategy.newResolver(hierarchyGraph).getCreationOrder(entity);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreationOrderResolverBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static final class SyntheticClassLoader extends ClassLoader {
+
+        private static final String PACKAGE = "com/github/kuros/random/jpa/benchmark/synthetic/";
+
+        private SyntheticClassLoader() {
+            super(CreationOrderResolverBenchmark.class.getClassLoader());
+        }
+
+        /**
+         * Defines an empty public class; its class file only holds the constant pool entries for its own name and
+         * its super class.
+         */
+        private Class<?> define(final String simpleName) throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(50);
+            out.writeShort(5);
+            out.writeByte(1);
+            out.writeUTF(PACKAGE + simpleName);
+            out.writeByte(7);
+            out.writeShort(1);
+            out.writeByte(1);
+            out.writeUTF("java/lang/Object");
+            out.writeByte(7);
+            out.writeShort(3);
+            out.writeShort(0x0021);
+            out.writeShort(2);
+            out.writeShort(4);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(0);
+
+            final byte[] classFile = bytes.toByteArray();
+            return defineClass(PACKAGE.replace('/', '.') + simpleName, classFile, 0, classFile.length);
+        }
+    }
+}
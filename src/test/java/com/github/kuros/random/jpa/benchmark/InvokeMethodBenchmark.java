@@ -0,0 +1,72 @@
+package com.github.kuros.random.jpa.benchmark;
+
+import com.github.kuros.random.jpa.util.Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InvokeMethodBenchmark {
+
+    private final Persister persister = new SingleTablePersister();
+
+    @Benchmark
+    public Object invokeWithoutArguments() {
+        return Util.invokeMethod(persister, "getTableName");
+    }
+
+    @Benchmark
+    public Object invokeWithArgument() {
+        return Util.invokeMethod(persister, "getPropertyColumnNames", "name");
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvokeMethodBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static class Persister {
+        private String getTableName() {
+            return "person";
+        }
+    }
+
+    private static class SingleTablePersister extends Persister {
+        private String[] getPropertyColumnNames(final String propertyName) {
+            return new String[]{propertyName};
+        }
+    }
+}
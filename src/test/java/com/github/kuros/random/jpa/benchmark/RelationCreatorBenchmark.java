@@ -0,0 +1,102 @@
+package com.github.kuros.random.jpa.benchmark;
+
+import com.github.kuros.random.jpa.mapper.Relation;
+import com.github.kuros.random.jpa.mapper.RelationCreator;
+import com.github.kuros.random.jpa.metamodel.MetaModelProvider;
+import com.github.kuros.random.jpa.metamodel.model.FieldWrapper;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RelationCreatorBenchmark {
+
+    @Param({"100", "1000"})
+    private int tables;
+
+    @Param({"50"})
+    private int columns;
+
+    private MetaModelProvider metaModelProvider;
+    private List<ForeignKeyRelation> foreignKeyRelations;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        final Field field = Column.class.getDeclaredField("value");
+        final Map<String, List<FieldWrapper>> fieldsByTableName = new HashMap<>();
+        foreignKeyRelations = new ArrayList<>();
+
+        for (int table = 0; table < tables; table++) {
+            final List<FieldWrapper> fieldWrappers = new ArrayList<>();
+            for (int column = 0; column < columns; column++) {
+                fieldWrappers.add(new FieldWrapper(Column.class, field, "column_" + column));
+            }
+            fieldsByTableName.put("table_" + table, fieldWrappers);
+
+            for (int column = 0; column < columns; column += 5) {
+                foreignKeyRelations.add(ForeignKeyRelation.newInstance("table_" + table, "column_" + column,
+                        "table_" + ((table + 1) % tables), "column_" + (columns - 1)));
+            }
+            foreignKeyRelations.add(ForeignKeyRelation.newInstance("table_" + table, "missing_column", "missing_table", "id"));
+        }
+
+        metaModelProvider = () -> fieldsByTableName;
+    }
+
+    @Benchmark
+    public List<Relation> generate() {
+        return RelationCreator.from(metaModelProvider)
+                .with(() -> foreignKeyRelations)
+                .generate();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RelationCreatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static class Column {
+        private Integer value;
+    }
+}
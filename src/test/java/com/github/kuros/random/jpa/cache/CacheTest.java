@@ -2,6 +2,7 @@ package com.github.kuros.random.jpa.cache;
 
 import com.github.kuros.random.jpa.Database;
 import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
 import com.github.kuros.random.jpa.testUtil.hierarchyGraph.MockedHierarchyGraph;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,9 +10,12 @@ import org.mockito.MockitoAnnotations;
 
 import javax.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 public class CacheTest {
 
@@ -44,4 +48,35 @@ public class CacheTest {
         assertNotNull(cache.getTriggerCache());
         assertNotNull(cache.getUniqueConstraintProvider());
     }
+
+    @Test
+    public void shouldInitializeCacheInParallel() {
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final Cache cache = Cache.createInParallel(Database.H2, entityManager, entityManager.getEntityManagerFactory());
+        final Cache expected = Cache.create(Database.H2, entityManager);
+
+        assertEquals(entityManager, cache.getEntityManager());
+        assertNotNull(cache.getAttributeProvider());
+        assertNotNull(cache.getMultiplePrimaryKeyProvider());
+        assertNotNull(cache.getSqlCharacterLengthProvider());
+        assertNotNull(cache.getUniqueConstraintProvider());
+        assertEquals(expected.getRelationshipProvider().getForeignKeyRelations().size(),
+                cache.getRelationshipProvider().getForeignKeyRelations().size());
+        assertEquals(expected.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength(),
+                cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength());
+    }
+
+    @Test
+    public void shouldLoadMetadataOnlyForRequestedTypes() {
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final Cache cache = Cache.create(Database.H2, entityManager, true);
+        final Cache expected = Cache.create(Database.H2, entityManager);
+
+        assertNull(cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName"));
+
+        cache.loadMetadata(Collections.<Class<?>>singletonList(Person.class));
+
+        assertEquals(expected.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength(),
+                cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength());
+    }
 }
@@ -0,0 +1,124 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.link.Before;
+import com.github.kuros.random.jpa.link.Link;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.D;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.testUtil.hierarchyGraph.DependencyHelper;
+import com.github.kuros.random.jpa.testUtil.hierarchyGraph.MockedHierarchyGraph;
+import com.github.kuros.random.jpa.types.Trigger;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class CompiledSchemaRegistryTest {
+
+    @After
+    public void tearDown() {
+        CompiledSchemaRegistry.clear();
+    }
+
+    @Test
+    public void shouldCompileSchemaOncePerFactoryAndKey() {
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final AtomicInteger compilations = new AtomicInteger();
+        final CompiledSchemaRegistry.Key key = key(Database.NONE, new ArrayList<>());
+
+        final CompiledSchema first = CompiledSchemaRegistry.get(entityManager.getEntityManagerFactory(), key, () -> compile(entityManager, compilations));
+        final CompiledSchema second = CompiledSchemaRegistry.get(entityManager.getEntityManagerFactory(), key, () -> compile(entityManager, compilations));
+
+        assertSame(first, second);
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    public void shouldCompileSchemaAgainForDifferentKey() {
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final AtomicInteger compilations = new AtomicInteger();
+
+        final CompiledSchema first = CompiledSchemaRegistry.get(entityManager.getEntityManagerFactory(),
+                key(Database.NONE, new ArrayList<>()), () -> compile(entityManager, compilations));
+        final CompiledSchema second = CompiledSchemaRegistry.get(entityManager.getEntityManagerFactory(),
+                key(Database.NONE, DependencyHelper.getLinks()), () -> compile(entityManager, compilations));
+
+        assertNotSame(first, second);
+        assertEquals(2, compilations.get());
+    }
+
+    @Test
+    public void shouldGenerateKeyIndependentOfLinkOrder() {
+        final List<Link> links = DependencyHelper.getLinks();
+        final List<Link> reversed = new ArrayList<>(links);
+        Collections.reverse(reversed);
+
+        assertEquals(key(Database.NONE, links), key(Database.NONE, reversed));
+        assertNotEquals(key(Database.NONE, links), key(Database.H2, links));
+        assertNotEquals(key(Database.NONE, links), CompiledSchemaRegistry.key(Database.NONE, links, new ArrayList<>(),
+                new ArrayList<>(), Collections.singletonList(Before.of(D.class).create(Z.class))));
+    }
+
+    @Test
+    public void shouldNotRetainEntityManagerInCompiledSchemaProviders() throws Exception {
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final CompiledSchema schema = CompiledSchema.newInstance(Cache.create(Database.H2, entityManager));
+
+        assertNoEntityManagerField(schema.getAttributeProvider());
+        assertNoEntityManagerField(schema.getMultiplePrimaryKeyProvider());
+        assertNoEntityManagerField(schema.getRelationshipProvider());
+        assertNoEntityManagerField(schema.getSqlCharacterLengthProvider());
+        assertNoEntityManagerField(schema.getUniqueConstraintProvider());
+    }
+
+    private void assertNoEntityManagerField(final Object provider) throws Exception {
+        for (Class<?> type = provider.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                field.setAccessible(true);
+                final Object value = field.get(provider);
+                assertFalse(type.getName() + "." + field.getName(),
+                        value instanceof EntityManager || value instanceof EntityManagerFactory);
+            }
+        }
+    }
+
+    private CompiledSchemaRegistry.Key key(final Database database, final List<Link> links) {
+        return CompiledSchemaRegistry.key(database, links, new ArrayList<>(), new ArrayList<Trigger<?>>(), new ArrayList<>());
+    }
+
+    private CompiledSchema compile(final EntityManager entityManager, final AtomicInteger compilations) {
+        compilations.incrementAndGet();
+        final Cache cache = Cache.create(Database.NONE, entityManager);
+        cache.with(MockedHierarchyGraph.getHierarchyGraph());
+        return CompiledSchema.newInstance(cache);
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.definition.ChildGraph;
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.link.Dependencies;
+import com.github.kuros.random.jpa.link.Link;
+import com.github.kuros.random.jpa.mapper.Relation;
+import com.github.kuros.random.jpa.mapper.RelationCreator;
+import com.github.kuros.random.jpa.metamodel.MetaModelProviderImpl;
+import com.github.kuros.random.jpa.provider.MultiplePrimaryKeyProvider;
+import com.github.kuros.random.jpa.provider.TableScopedProvider;
+import com.github.kuros.random.jpa.provider.model.ForeignKeyRelation;
+import com.github.kuros.random.jpa.provider.snapshot.SnapshotRelationshipProvider;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+public class SchemaRefresherTest {
+
+    private Cache cache;
+    private List<ForeignKeyRelation> foreignKeyRelations;
+
+    @Before
+    public void setUp() {
+        cache = Cache.create(Database.H2, EntityManagerProvider.getEntityManager());
+        foreignKeyRelations = cache.getRelationshipProvider().getForeignKeyRelations();
+    }
+
+    @Test
+    public void shouldPatchGraphsWithAddedForeignKey() {
+        ForeignKeyRelation added = null;
+        List<Relation> addedRelations = null;
+        for (ForeignKeyRelation foreignKeyRelation : foreignKeyRelations) {
+            addedRelations = toRelations(Collections.singletonList(foreignKeyRelation));
+            if (!addedRelations.isEmpty()) {
+                added = foreignKeyRelation;
+                break;
+            }
+        }
+        assertNotNull(added);
+
+        final List<ForeignKeyRelation> baseline = new ArrayList<>(foreignKeyRelations);
+        baseline.remove(added);
+        final HierarchyGraph hierarchyGraph = toHierarchyGraph(toRelations(baseline));
+        cache.with(hierarchyGraph);
+        cache.with(SchemaRefresher.newInstance(baseline, Collections.<Link>emptyList()));
+        final ChildGraph childGraph = cache.getChildGraph();
+
+        final Relation relation = addedRelations.get(0);
+        final Class<?> child = relation.getFrom().getInitializationClass();
+        final Class<?> parent = relation.getTo().getInitializationClass();
+        assertFalse(hierarchyGraph.getTableNode(child) != null
+                && hierarchyGraph.getTableNode(child).getRelations().contains(relation));
+
+        cache.getSchemaRefresher().refresh(cache);
+
+        assertTrue(hierarchyGraph.getTableNode(child).getRelations().contains(relation));
+        assertTrue(hierarchyGraph.getParents(child).contains(parent));
+        assertTrue(childGraph.getChilds(parent).contains(child));
+    }
+
+    @Test
+    public void shouldNotChangeGraphWhenSchemaIsUnchanged() {
+        final List<Relation> relations = toRelations(foreignKeyRelations);
+        final HierarchyGraph hierarchyGraph = toHierarchyGraph(relations);
+        cache.with(hierarchyGraph);
+        cache.with(SchemaRefresher.newInstance(foreignKeyRelations, Collections.<Link>emptyList()));
+
+        cache.getSchemaRefresher().refresh(cache);
+
+        int count = 0;
+        for (Class<?> type : hierarchyGraph.getKeySet()) {
+            count += hierarchyGraph.getTableNode(type).getRelations().size();
+        }
+        assertEquals(relations.size(), count);
+    }
+
+    @Test
+    public void shouldNotReloadTableMetadataWhenNothingChanged() {
+        final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider = mockTableScopedProvider();
+        final Cache refreshedCache = newCache(multiplePrimaryKeyProvider, foreignKeyRelations);
+
+        refreshedCache.getSchemaRefresher().refresh(refreshedCache);
+
+        verify((TableScopedProvider) multiplePrimaryKeyProvider, never()).reloadTables(any(EntityManager.class), any(Collection.class));
+    }
+
+    @Test
+    public void shouldReloadTableMetadataOfGivenTypesOnly() {
+        final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider = mockTableScopedProvider();
+        final Cache refreshedCache = newCache(multiplePrimaryKeyProvider, foreignKeyRelations);
+
+        refreshedCache.getSchemaRefresher().refresh(refreshedCache, Person.class);
+
+        final String personTable = cache.getAttributeProvider().get(Person.class).getTableName();
+        assertEquals(Collections.singleton(personTable), new HashSet<>(reloadedTables(multiplePrimaryKeyProvider)));
+    }
+
+    @Test
+    public void shouldReloadTableMetadataOfChangedForeignKeysOnly() {
+        final ForeignKeyRelation removed = foreignKeyRelations.get(0);
+        final List<ForeignKeyRelation> baseline = new ArrayList<>(foreignKeyRelations);
+        baseline.remove(removed);
+        final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider = mockTableScopedProvider();
+        final Cache refreshedCache = newCache(multiplePrimaryKeyProvider, baseline);
+
+        refreshedCache.getSchemaRefresher().refresh(refreshedCache);
+
+        assertEquals(new HashSet<>(Arrays.asList(removed.getTable(), removed.getReferencedTable())),
+                new HashSet<>(reloadedTables(multiplePrimaryKeyProvider)));
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldRejectTypeWhichIsNotMapped() {
+        cache.with(toHierarchyGraph(toRelations(foreignKeyRelations)));
+        cache.with(SchemaRefresher.newInstance(foreignKeyRelations, Collections.<Link>emptyList()));
+
+        cache.getSchemaRefresher().refresh(cache, String.class);
+    }
+
+    private static MultiplePrimaryKeyProvider mockTableScopedProvider() {
+        return mock(MultiplePrimaryKeyProvider.class, withSettings().extraInterfaces(TableScopedProvider.class));
+    }
+
+    private Cache newCache(final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider, final List<ForeignKeyRelation> relations) {
+        final Cache refreshedCache = new Cache(Database.H2, cache.getEntityManager(), cache.getAttributeProvider(),
+                multiplePrimaryKeyProvider, cache.getRelationshipProvider(), cache.getSqlCharacterLengthProvider(),
+                cache.getUniqueConstraintProvider());
+        refreshedCache.with(toHierarchyGraph(toRelations(relations)));
+        refreshedCache.with(SchemaRefresher.newInstance(relations, Collections.<Link>emptyList()));
+        return refreshedCache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<String> reloadedTables(final MultiplePrimaryKeyProvider multiplePrimaryKeyProvider) {
+        final ArgumentCaptor<Collection> tableNames = ArgumentCaptor.forClass(Collection.class);
+        verify((TableScopedProvider) multiplePrimaryKeyProvider).reloadTables(eq(cache.getEntityManager()), tableNames.capture());
+        return tableNames.getValue();
+    }
+
+    private List<Relation> toRelations(final List<ForeignKeyRelation> relations) {
+        return RelationCreator
+                .from(new MetaModelProviderImpl(cache))
+                .with(Dependencies.newInstance())
+                .with(SnapshotRelationshipProvider.newInstance(relations))
+                .generate();
+    }
+
+    private static HierarchyGraph toHierarchyGraph(final List<Relation> relations) {
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        for (Relation relation : relations) {
+            hierarchyGraph.addRelation(relation);
+        }
+        return hierarchyGraph;
+    }
+}
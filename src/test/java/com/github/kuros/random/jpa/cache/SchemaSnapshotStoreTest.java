@@ -0,0 +1,136 @@
+package com.github.kuros.random.jpa.cache;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.persistence.EntityManager;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class SchemaSnapshotStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private EntityManager entityManager;
+    private File snapshotFile;
+
+    @Before
+    public void setUp() throws Exception {
+        entityManager = EntityManagerProvider.getEntityManager();
+        snapshotFile = new File(temporaryFolder.getRoot(), "schema/random-jpa.snapshot");
+    }
+
+    @Test
+    public void shouldReturnNullWhenSnapshotDoesNotExist() {
+        final SchemaSnapshotStore store = SchemaSnapshotStore.newInstance(snapshotFile);
+
+        assertNull(store.load("fingerprint"));
+    }
+
+    @Test
+    public void shouldSaveAndLoadSnapshot() {
+        final Cache cache = Cache.create(Database.H2, entityManager);
+        final String fingerprint = SchemaSnapshot.fingerprint(Database.H2, entityManager, null);
+        final SchemaSnapshotStore store = SchemaSnapshotStore.newInstance(snapshotFile);
+
+        store.save(SchemaSnapshot.capture(fingerprint, cache));
+        assertTrue(snapshotFile.isFile());
+
+        final SchemaSnapshot snapshot = store.load(fingerprint);
+        assertNotNull(snapshot);
+
+        final Cache snapshotCache = Cache.create(Database.H2, entityManager, snapshot);
+        assertEquals(cache.getRelationshipProvider().getForeignKeyRelations().size(),
+                snapshotCache.getRelationshipProvider().getForeignKeyRelations().size());
+        assertEquals(cache.getAttributeProvider().get(Person.class).getTableName(),
+                snapshotCache.getAttributeProvider().get(Person.class).getTableName());
+        assertEquals(cache.getAttributeProvider().get(Person.class).getColumnName("firstName"),
+                snapshotCache.getAttributeProvider().get(Person.class).getColumnName("firstName"));
+        assertEquals(cache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength(),
+                snapshotCache.getSqlCharacterLengthProvider().getColumnDetail(Person.class.getName(), "firstName").getStringLength());
+    }
+
+    @Test
+    public void shouldReturnNullWhenFingerprintDoesNotMatch() {
+        final Cache cache = Cache.create(Database.H2, entityManager);
+        final SchemaSnapshotStore store = SchemaSnapshotStore.newInstance(snapshotFile);
+
+        store.save(SchemaSnapshot.capture("old", cache));
+
+        assertNull(store.load("new"));
+    }
+
+    @Test
+    public void shouldReturnNullWhenSnapshotIsCorrupt() throws Exception {
+        Files.createDirectories(snapshotFile.getParentFile().toPath());
+        Files.write(snapshotFile.toPath(), "not a snapshot".getBytes());
+
+        final SchemaSnapshotStore store = SchemaSnapshotStore.newInstance(snapshotFile);
+
+        assertNull(store.load("fingerprint"));
+    }
+
+    @Test
+    public void shouldIncludeSchemaVersionInFingerprint() {
+        final String fingerprint = SchemaSnapshot.fingerprint(Database.H2, entityManager, "1");
+
+        assertEquals(fingerprint, SchemaSnapshot.fingerprint(Database.H2, entityManager, "1"));
+        assertNotEquals(fingerprint, SchemaSnapshot.fingerprint(Database.H2, entityManager, "2"));
+        assertNotEquals(fingerprint, SchemaSnapshot.fingerprint(Database.NONE, entityManager, "1"));
+        assertFalse(fingerprint.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepSnapshotReadableWhenSavedConcurrently() throws Exception {
+        final Cache cache = Cache.create(Database.H2, entityManager);
+        final String fingerprint = SchemaSnapshot.fingerprint(Database.H2, entityManager, null);
+        final SchemaSnapshot snapshot = SchemaSnapshot.capture(fingerprint, cache);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> SchemaSnapshotStore.newInstance(snapshotFile).save(snapshot)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertNotNull(SchemaSnapshotStore.newInstance(snapshotFile).load(fingerprint));
+        assertEquals(1, snapshotFile.getParentFile().list().length);
+    }
+}
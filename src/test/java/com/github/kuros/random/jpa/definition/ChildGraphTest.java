@@ -87,6 +87,32 @@ public class ChildGraphTest {
         assertEquals("xId" , relation.getTo().getFieldName());
     }
 
+    @Test
+    public void shouldPatchRelations() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final ChildGraph childGraph = ChildGraph.newInstance(hierarchyGraph);
+        Relation relation = null;
+        for (Relation attributeRelation : hierarchyGraph.getAttributeRelations(Z.class)) {
+            if (attributeRelation.getTo().getInitializationClass() == X.class) {
+                relation = attributeRelation;
+            }
+        }
+
+        hierarchyGraph.removeRelation(relation);
+        childGraph.removeRelation(relation, hierarchyGraph);
+
+        assertTrue(childGraph.getChilds(X.class).isEmpty());
+        assertTrue(childGraph.getChildRelations(X.class).isEmpty());
+
+        hierarchyGraph.addRelation(relation);
+        childGraph.addRelation(relation);
+
+        assertEquals(1, childGraph.getChilds(X.class).size());
+        assertTrue(childGraph.getChilds(X.class).contains(Z.class));
+        assertEquals(1, childGraph.getChildRelations(X.class).size());
+        assertEquals("xId", childGraph.getChildRelations(X.class).iterator().next().getTo().getFieldName());
+    }
+
     @Test
     public void shouldReturnNullIfChildNodeNotFound() {
         final ChildGraph childGraph = ChildGraph.newInstance();
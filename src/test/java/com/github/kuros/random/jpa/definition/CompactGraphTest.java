@@ -0,0 +1,149 @@
+package com.github.kuros.random.jpa.definition;
+
+import com.github.kuros.random.jpa.mapper.Relation;
+import com.github.kuros.random.jpa.testUtil.entity.A;
+import com.github.kuros.random.jpa.testUtil.entity.C;
+import com.github.kuros.random.jpa.testUtil.entity.X;
+import com.github.kuros.random.jpa.testUtil.entity.Y;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.testUtil.hierarchyGraph.MockedHierarchyGraph;
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactGraphTest {
+
+    @Test
+    public void shouldMirrorHierarchyGraph() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final CompactGraph graph = hierarchyGraph.compact();
+
+        assertEquals(hierarchyGraph.getKeySet().size(), graph.size());
+        for (Class<?> type : hierarchyGraph.getKeySet()) {
+            final int id = graph.idOf(type);
+            assertSame(type, graph.typeOf(id));
+
+            final Set<Class<?>> parents = new HashSet<>();
+            int relationCount = 0;
+            for (int i = 0; i < graph.parentCount(id); i++) {
+                final Class<?> parent = graph.typeOf(graph.parent(id, i));
+                parents.add(parent);
+                for (Relation relation : graph.edgeRelations(id, i)) {
+                    assertSame(parent, relation.getTo().getInitializationClass());
+                    relationCount++;
+                }
+            }
+            assertEquals(hierarchyGraph.getParents(type), parents);
+            assertEquals(hierarchyGraph.getTableNode(type).getRelations().size(), relationCount);
+            assertEquals(hierarchyGraph.getTableNode(type).getRelations().size(), graph.relations(id).length);
+        }
+    }
+
+    @Test
+    public void shouldIndexChildren() {
+        final CompactGraph graph = MockedHierarchyGraph.getHierarchyGraph().compact();
+
+        final Set<Class<?>> childrenOfX = children(graph, X.class);
+        assertEquals(1, childrenOfX.size());
+        assertTrue(childrenOfX.contains(Z.class));
+
+        final Set<Class<?>> childrenOfA = children(graph, A.class);
+        assertTrue(childrenOfA.contains(C.class));
+        assertEquals(0, graph.childCount(graph.idOf(Z.class)));
+    }
+
+    @Test
+    public void shouldReturnEmptyAdjacencyForUnknownType() {
+        final CompactGraph graph = MockedHierarchyGraph.getHierarchyGraph().compact();
+
+        final int id = graph.idOf(String.class);
+        assertEquals(-1, id);
+        assertEquals(0, graph.parentCount(id));
+        assertEquals(0, graph.childCount(id));
+        assertEquals(0, graph.relations(id).length);
+    }
+
+    @Test
+    public void shouldRebuildAfterChange() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final CompactGraph graph = hierarchyGraph.compact();
+        assertSame(graph, hierarchyGraph.compact());
+
+        hierarchyGraph.addNode(Y.class, X.class);
+
+        final CompactGraph rebuilt = hierarchyGraph.compact();
+        assertNotSame(graph, rebuilt);
+        assertTrue(children(rebuilt, X.class).contains(Y.class));
+    }
+
+    @Test
+    public void shouldComputeAncestorAndDescendantClosures() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final CompactGraph graph = hierarchyGraph.compact();
+
+        for (Class<?> type : hierarchyGraph.getKeySet()) {
+            final int id = graph.idOf(type);
+            final BitSet expectedAncestors = new BitSet();
+            final BitSet expectedDescendants = new BitSet();
+            walk(graph, id, expectedAncestors, true);
+            walk(graph, id, expectedDescendants, false);
+
+            assertEquals(expectedAncestors, graph.ancestors(id));
+            assertEquals(expectedDescendants, graph.descendants(id));
+        }
+
+        final BitSet ancestorsOfZ = graph.ancestors(graph.idOf(Z.class));
+        assertTrue(ancestorsOfZ.get(graph.idOf(X.class)));
+        assertTrue(ancestorsOfZ.get(graph.idOf(Y.class)));
+        assertFalse(ancestorsOfZ.get(graph.idOf(Z.class)));
+    }
+
+    @Test
+    public void shouldIncludeTypeInItsClosureWhenOnCycle() {
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addNode(X.class, Y.class);
+        hierarchyGraph.addNode(Y.class, X.class);
+        hierarchyGraph.addNode(Z.class, X.class);
+        final CompactGraph graph = hierarchyGraph.compact();
+
+        final BitSet ancestorsOfX = graph.ancestors(graph.idOf(X.class));
+        assertTrue(ancestorsOfX.get(graph.idOf(X.class)));
+        assertTrue(ancestorsOfX.get(graph.idOf(Y.class)));
+        assertFalse(ancestorsOfX.get(graph.idOf(Z.class)));
+
+        final BitSet ancestorsOfZ = graph.ancestors(graph.idOf(Z.class));
+        assertEquals(2, ancestorsOfZ.cardinality());
+        assertFalse(ancestorsOfZ.get(graph.idOf(Z.class)));
+
+        assertEquals(3, graph.descendants(graph.idOf(Y.class)).cardinality());
+        assertEquals(0, graph.ancestors(graph.idOf(String.class)).cardinality());
+    }
+
+    private static void walk(final CompactGraph graph, final int id, final BitSet visited, final boolean upwards) {
+        final int count = upwards ? graph.parentCount(id) : graph.childCount(id);
+        for (int i = 0; i < count; i++) {
+            final int next = upwards ? graph.parent(id, i) : graph.child(id, i);
+            if (!visited.get(next)) {
+                visited.set(next);
+                walk(graph, next, visited, upwards);
+            }
+        }
+    }
+
+    private static Set<Class<?>> children(final CompactGraph graph, final Class<?> type) {
+        final int id = graph.idOf(type);
+        final Set<Class<?>> children = new HashSet<>();
+        for (int i = 0; i < graph.childCount(id); i++) {
+            children.add(graph.typeOf(graph.child(id, i)));
+        }
+        return children;
+    }
+}
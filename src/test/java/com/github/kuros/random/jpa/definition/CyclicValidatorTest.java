@@ -6,6 +6,10 @@ import com.github.kuros.random.jpa.metamodel.model.FieldWrapper;
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -83,6 +87,40 @@ public class CyclicValidatorTest {
         cyclicValidator.validate();
     }
 
+    @Test
+    public void shouldReportFullCyclePath() throws Exception {
+        final Field table1 = TestClass.class.getDeclaredField("attr1");
+        final Field table2 = TestClass2.class.getDeclaredField("attr1");
+        final Field table3 = TestClass3.class.getDeclaredField("attr3");
+
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table1), new FieldWrapper(table2)));
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table2), new FieldWrapper(table3)));
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table3), new FieldWrapper(table1)));
+
+        try {
+            new CyclicValidator(hierarchyGraph).validate(Collections.<Class<?>>singletonList(TestClass.class));
+            fail("Cycle not detected");
+        } catch (final RandomJPAException e) {
+            assertTrue(e.getMessage().endsWith("(" + TestClass.class.getName() + " -> " + TestClass2.class.getName()
+                    + " -> " + TestClass3.class.getName() + " -> " + TestClass.class.getName() + ")"));
+        }
+    }
+
+    @Test
+    public void shouldValidateOnlyFromGivenRoots() throws Exception {
+        final Field table1 = TestClass.class.getDeclaredField("attr1");
+        final Field table2 = TestClass2.class.getDeclaredField("attr1");
+        final Field table3 = TestClass3.class.getDeclaredField("attr3");
+
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table1), new FieldWrapper(table2)));
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table2), new FieldWrapper(table1)));
+        hierarchyGraph.addRelation(Relation.newInstance(new FieldWrapper(table3), new FieldWrapper(table3)));
+
+        new CyclicValidator(hierarchyGraph).validate(Collections.<Class<?>>singletonList(TestClass3.class));
+    }
+
     private class TestClass {
         private Integer attr1;
         private Integer attr2;
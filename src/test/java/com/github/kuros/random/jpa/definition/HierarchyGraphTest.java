@@ -194,6 +194,42 @@ public class HierarchyGraphTest {
         Assert.assertEquals(to, relations.get(0).getTo().getField());
     }
 
+    @Test
+    public void shouldRemoveRelation() throws NoSuchFieldException {
+        final Relation relation1 = Relation.newInstance(new FieldWrapper(TestClass.class.getDeclaredField("attr1")),
+                new FieldWrapper(TestClass2.class.getDeclaredField("attr1")));
+        final Relation relation2 = Relation.newInstance(new FieldWrapper(TestClass.class.getDeclaredField("attr2")),
+                new FieldWrapper(TestClass2.class.getDeclaredField("attr2")));
+
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addRelation(relation1);
+        hierarchyGraph.addRelation(relation2);
+
+        hierarchyGraph.removeRelation(relation1);
+        Assert.assertEquals(1, hierarchyGraph.getTableNode(TestClass.class).getRelations().size());
+        Assert.assertFalse(hierarchyGraph.getAttributeRelations(TestClass.class).contains(relation1));
+        Assert.assertTrue(hierarchyGraph.getParents(TestClass.class).contains(TestClass2.class));
+
+        hierarchyGraph.removeRelation(relation2);
+        Assert.assertEquals(0, hierarchyGraph.getTableNode(TestClass.class).getRelations().size());
+        Assert.assertTrue(hierarchyGraph.getParents(TestClass.class).isEmpty());
+        Assert.assertFalse(hierarchyGraph.isLinked(TestClass.class, TestClass2.class));
+    }
+
+    @Test
+    public void shouldKeepNodeParentWhenRelationIsRemoved() throws NoSuchFieldException {
+        final Relation relation = Relation.newInstance(new FieldWrapper(TestClass.class.getDeclaredField("attr1")),
+                new FieldWrapper(TestClass2.class.getDeclaredField("attr1")));
+
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addRelation(relation);
+        hierarchyGraph.addNode(TestClass.class, TestClass2.class);
+
+        hierarchyGraph.removeRelation(relation);
+        Assert.assertTrue(hierarchyGraph.getParents(TestClass.class).contains(TestClass2.class));
+        Assert.assertTrue(hierarchyGraph.isLinked(TestClass.class, TestClass2.class));
+    }
+
     private class TestClass {
         private Integer attr1;
         private Integer attr2;
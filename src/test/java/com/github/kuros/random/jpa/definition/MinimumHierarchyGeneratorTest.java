@@ -93,4 +93,15 @@ public class MinimumHierarchyGeneratorTest {
 
 
     }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldThrowExceptionWhenCyclicDependencyIsAddedToValidatedGraph() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        new CyclicValidator(hierarchyGraph).validate();
+
+        final List<Entity> entities = new ArrayList<>();
+        entities.add(Entity.of(A.class).createAfter(F.class));
+        entities.add(Entity.of(F.class).createAfter(A.class));
+        MinimumHierarchyGenerator.generate(hierarchyGraph, entities);
+    }
 }
@@ -125,6 +125,23 @@ public class RelationCreatorTest {
 
         assertEquals(0, generate.size());
     }
+
+    @Test
+    public void testOverriddenColumnIsNotMatchedByFieldName() throws Exception {
+        when(metaModelProvider.getFieldsByTableName()).thenReturn(getFieldsByTableName());
+
+        final List<ForeignKeyRelation> foreignKeyRelations = new ArrayList<>();
+        foreignKeyRelations.add(ForeignKeyRelation.newInstance("test_class_table_name", "attr2", "test_class_2_table_name", "attr2"));
+        when(relationshipProvider.getForeignKeyRelations()).thenReturn(foreignKeyRelations);
+
+        final List<Relation> generate = RelationCreator
+                .from(metaModelProvider)
+                .with(relationshipProvider)
+                .generate();
+
+        assertEquals(0, generate.size());
+    }
+
     private void mockRelationshipProvider() {
         final List<ForeignKeyRelation> foreignKeyRelations = new ArrayList<>();
         foreignKeyRelations.add(ForeignKeyRelation.newInstance("test_class_table_name", "attr1", "test_class_2_table_name", "attr1"));
@@ -0,0 +1,70 @@
+package com.github.kuros.random.jpa.metamodel.providers;
+
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.testUtil.entity.X;
+import com.github.kuros.random.jpa.testUtil.entity.Y;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class FallbackAttributeProviderTest {
+
+    @Test
+    public void shouldPreferPrimaryAndFallBackForUnknownTypes() {
+        final EntityTableMapping primaryX = mapping(X.class, "x");
+        final EntityTableMapping fallbackX = mapping(X.class, "x");
+        final EntityTableMapping fallbackY = mapping(Y.class, "y");
+
+        final AttributeProvider provider = FallbackAttributeProvider.newInstance(
+                SnapshotAttributeProvider.newInstance(Collections.singletonList(primaryX)),
+                SnapshotAttributeProvider.newInstance(Arrays.asList(fallbackX, fallbackY)));
+
+        assertSame(primaryX, provider.get(X.class));
+        assertSame(fallbackY, provider.get(Y.class));
+        assertSame(primaryX, provider.get("x").get(0));
+        assertSame(fallbackY, provider.get("y").get(0));
+    }
+
+    @Test
+    public void shouldFallBackWhenPrimaryMissesMappingsOfTable() {
+        final EntityTableMapping primaryX = mapping(X.class, "shared");
+        final EntityTableMapping fallbackX = mapping(X.class, "shared");
+        final EntityTableMapping fallbackY = mapping(Y.class, "shared");
+
+        final AttributeProvider provider = FallbackAttributeProvider.newInstance(
+                SnapshotAttributeProvider.newInstance(Collections.singletonList(primaryX)),
+                SnapshotAttributeProvider.newInstance(Arrays.asList(fallbackX, fallbackY)));
+
+        final List<EntityTableMapping> mappings = provider.get("shared");
+        assertEquals(2, mappings.size());
+        assertSame(fallbackY, mappings.get(1));
+    }
+
+    private EntityTableMapping mapping(final Class<?> type, final String tableName) {
+        final EntityTableMapping entityTableMapping = new EntityTableMapping(type);
+        entityTableMapping.setTableName(tableName);
+        return entityTableMapping;
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.kuros.random.jpa.processor;
+
+import com.github.kuros.random.jpa.metamodel.AttributeProvider;
+import com.github.kuros.random.jpa.metamodel.EntityPopulator;
+import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
+import com.github.kuros.random.jpa.metamodel.providers.HibernateProvider;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.persistence.EntityManager;
+import javax.persistence.metamodel.EntityType;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class EntityMetadataProcessorTest {
+
+    private static final String ENTITY_SOURCES = "src/test/java/com/github/kuros/random/jpa/testUtil/entity/";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        final File output = temporaryFolder.newFolder("generated");
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+        final File[] sources = new File(ENTITY_SOURCES).listFiles((dir, name) -> name.endsWith(".java"));
+
+        final Boolean compiled = compiler.getTask(null, fileManager, null,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                        "-d", output.getAbsolutePath(), "-s", output.getAbsolutePath(),
+                        "-processor", EntityMetadataProcessor.class.getName()),
+                null, fileManager.getJavaFileObjects(sources)).call();
+        fileManager.close();
+
+        assertTrue(compiled);
+        classLoader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void shouldGenerateAttributeProviderMatchingHibernate() {
+        final Iterator<AttributeProvider> providers = ServiceLoader.load(AttributeProvider.class, classLoader).iterator();
+        assertTrue(providers.hasNext());
+
+        final AttributeProvider generated = providers.next();
+        final EntityManager entityManager = EntityManagerProvider.getEntityManager();
+        final HibernateProvider hibernateProvider = new HibernateProvider(entityManager);
+
+        for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+            final Class<?> type = entityType.getJavaType();
+            final EntityTableMapping expected = hibernateProvider.get(type);
+            final EntityTableMapping actual = generated.get(type);
+
+            assertEquals(expected.getTableName(), actual.getTableName());
+            assertEquals(expected.getAttributeIds(), actual.getAttributeIds());
+            assertEquals(expected.getAttributeNames(), actual.getAttributeNames());
+            assertEquals(expected.getColumnNames(), actual.getColumnNames());
+            for (String attributeName : expected.getAttributeNames()) {
+                assertEquals(expected.getColumnName(attributeName), actual.getColumnName(attributeName));
+            }
+            assertEquals(hibernateProvider.get(expected.getTableName()).size(), generated.get(expected.getTableName()).size());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldGeneratePopulatorUsingSetters() throws Exception {
+        final EntityPopulator<Person> populator = (EntityPopulator<Person>) Class
+                .forName(Person.class.getName() + "_Populator", true, classLoader).newInstance();
+
+        final Person person = new Person();
+        assertTrue(populator.set(person, "firstName", "Kumar"));
+        assertTrue(populator.set(person, "personId", 10L));
+        assertFalse(populator.set(person, "unknown", "value"));
+
+        assertEquals("Kumar", person.getFirstName());
+        assertEquals(Long.valueOf(10L), person.getPersonId());
+    }
+
+    @Test
+    public void shouldWarnAndSkipEntityWithEmbeddedField() throws Exception {
+        final File sourceFolder = temporaryFolder.newFolder("embedded");
+        final File output = temporaryFolder.newFolder("embeddedGenerated");
+        final File source = new File(sourceFolder, "Employee.java");
+        Files.write(source.toPath(), Arrays.asList(
+                "import javax.persistence.*;",
+                "@Embeddable class Address { private String city; }",
+                "@Entity public class Employee { @Id private Long id; @Embedded private Address address; }"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        final Boolean compiled = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                        "-d", output.getAbsolutePath(), "-s", output.getAbsolutePath(),
+                        "-processor", EntityMetadataProcessor.class.getName()),
+                null, fileManager.getJavaFileObjects(source)).call();
+        fileManager.close();
+
+        assertTrue(compiled);
+        boolean warned = false;
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            warned |= diagnostic.getKind() == Diagnostic.Kind.WARNING
+                    && diagnostic.getMessage(null).contains("@Embedded is not supported");
+        }
+        assertTrue(warned);
+        assertFalse(new File(output, "Employee_Populator.java").exists());
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.kuros.random.jpa.provider.base;
+
+import com.github.kuros.random.jpa.Database;
+import com.github.kuros.random.jpa.cache.Cache;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
+import com.github.kuros.random.jpa.random.generator.Generator;
+import com.github.kuros.random.jpa.random.generator.RandomGenerator;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.Employee;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class LengthConstraintTest {
+
+    @Test
+    public void shouldApplyLengthPrecisionAndScale() {
+        final LengthConstraint constraint = LengthConstraint.newInstance(new ColumnDetail(5, 3, 2));
+
+        assertEquals("abcde", constraint.apply("abcdefghijkl"));
+        assertEquals("abc", constraint.apply("abc"));
+        assertEquals(789, constraint.apply(123456789));
+        assertEquals(-789L, constraint.apply(-123456789L));
+        assertEquals(345.68, constraint.apply(12345.6789));
+        assertEquals(new BigDecimal("345.68"), constraint.apply(new BigDecimal("12345.6789")));
+        assertEquals(BigInteger.valueOf(789), constraint.apply(BigInteger.valueOf(123456789)));
+    }
+
+    @Test
+    public void shouldReturnValueWhenColumnIsUnknown() {
+        final Object value = 12345.6789;
+        assertSame(value, LengthConstraint.apply(null, value));
+    }
+
+    @Test
+    public void shouldGenerateNumbersWithinPrecisionAndScale() {
+        final LengthConstraint constraint = LengthConstraint.newInstance(new ColumnDetail(null, 3, 2));
+        final SplittableRandom random = new SplittableRandom(1L);
+
+        for (int i = 0; i < 100; i++) {
+            final Integer integer = (Integer) constraint.generateNumber(Integer.class, random);
+            assertTrue(Math.abs(integer) < 1000);
+
+            final Byte aByte = (Byte) constraint.generateNumber(Byte.TYPE, random);
+            assertTrue(Math.abs(aByte) < 128);
+
+            final BigDecimal decimal = (BigDecimal) constraint.generateNumber(BigDecimal.class, random);
+            assertEquals(2, decimal.scale());
+            assertTrue(decimal.abs().compareTo(BigDecimal.TEN) < 0);
+
+            final Double aDouble = (Double) constraint.generateNumber(Double.TYPE, random);
+            assertEquals(aDouble, Math.rint(aDouble * 100) / 100, 0);
+        }
+
+        assertNull(constraint.generateNumber(String.class, random));
+        assertNull(LengthConstraint.newInstance(null).generateNumber(Integer.class, random));
+    }
+
+    @Test
+    public void shouldGenerateWholeNumbersForScaleZero() {
+        final LengthConstraint constraint = LengthConstraint.newInstance(new ColumnDetail(null, 10, 0));
+        final SplittableRandom random = new SplittableRandom(1L);
+
+        boolean nonZero = false;
+        for (int i = 0; i < 20; i++) {
+            final BigDecimal decimal = (BigDecimal) constraint.generateNumber(BigDecimal.class, random);
+            assertEquals(0, decimal.scale());
+            assertTrue(decimal.compareTo(BigDecimal.TEN.pow(10)) < 0);
+            nonZero |= decimal.signum() != 0;
+        }
+        assertTrue(nonZero);
+
+        assertNull(LengthConstraint.newInstance(new ColumnDetail(null, null, 0)).generateNumber(Double.class, random));
+        assertNull(LengthConstraint.newInstance(new ColumnDetail(null, 40, 0)).generateNumber(BigDecimal.class, random));
+    }
+
+    @Test
+    public void shouldGenerateNonZeroValuesForH2DoubleColumn() throws Exception {
+        final Cache cache = Cache.create(Database.H2, EntityManagerProvider.getEntityManager());
+        final ColumnDetail columnDetail = cache.getSqlCharacterLengthProvider().getColumnDetail(Employee.class.getName(), "salary");
+        assertEquals(Integer.valueOf(0), columnDetail.getScale());
+
+        final RandomGenerator randomGenerator = RandomGenerator.newInstance(cache, Generator.newInstance().withSeed(1L));
+        final Field salary = Employee.class.getDeclaredField("salary");
+
+        boolean nonZero = false;
+        for (int i = 0; i < 20; i++) {
+            final Double value = (Double) randomGenerator.generateRandom(salary);
+            assertEquals(value, Math.rint(value), 0);
+            nonZero |= value != 0;
+        }
+        assertTrue(nonZero);
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.kuros.random.jpa.provider.base;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class TableScopedQueryTest {
+
+    @Test
+    public void shouldWrapQueryAndDropTrailingOrderBy() {
+        final String scoped = TableScopedQuery.scope("SELECT table_name, column_name FROM columns ORDER BY table_name;", "table_name");
+
+        assertEquals("SELECT * FROM (SELECT table_name, column_name FROM columns) scoped WHERE LOWER(scoped.table_name) IN (:tables)", scoped);
+    }
+
+    @Test
+    public void shouldReturnOnlyTablesNotYetLoaded() {
+        final HashSet<String> loaded = new HashSet<>(Collections.singletonList("person"));
+
+        assertEquals(Arrays.asList("employee", "department"),
+                TableScopedQuery.pending(loaded, Arrays.asList("PERSON", "Employee", "department", "employee")));
+    }
+}
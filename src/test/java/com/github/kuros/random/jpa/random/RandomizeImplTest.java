@@ -21,8 +21,10 @@ import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 /*
@@ -59,9 +61,9 @@ public class RandomizeImplTest {
     }
 
     private void mockRandomGenerator() {
-        Mockito.when(randomGenerator.generateRandom(Mockito.any(Field.class))).thenAnswer(invocationOnMock -> {
+        Mockito.when(randomGenerator.getFieldGenerator(Mockito.any(Field.class))).thenAnswer(invocationOnMock -> {
             final Field field = (Field) invocationOnMock.getArguments()[0];
-            return RandomFixture.create(field.getType());
+            return (Supplier<Object>) () -> RandomFixture.create(field.getType());
         });
     }
 
@@ -92,7 +94,7 @@ public class RandomizeImplTest {
 
         final ArgumentCaptor<Field> fieldArgumentCaptor = ArgumentCaptor.forClass(Field.class);
 
-        Mockito.verify(randomGenerator, Mockito.times(3)).generateRandom(fieldArgumentCaptor.capture());
+        Mockito.verify(randomGenerator, Mockito.times(3)).getFieldGenerator(fieldArgumentCaptor.capture());
 
         final List<Field> allValues = fieldArgumentCaptor.getAllValues();
         assertEquals(3, allValues.size());
@@ -124,7 +126,7 @@ public class RandomizeImplTest {
         final RandomizeImplTestClass testClass = new RandomizeImplTestClass();
 
         final RandomizeImplTestClass actual = randomize.populateRandomFields(testClass, 0);
-        Mockito.verify(randomGenerator, Mockito.times(0)).generateRandom(Mockito.any(Field.class));
+        Mockito.verify(randomGenerator, Mockito.times(3)).getFieldGenerator(Mockito.any(Field.class));
 
         assertTrue(randomize.isValueProvided(aLongColumn, 0));
         assertEquals(fieldObjectMap.get(aLongColumn), actual.aLongColumn);
@@ -135,11 +137,51 @@ public class RandomizeImplTest {
 
     }
 
+    @Test
+    public void shouldIgnoreProvidedValueOfIncompatibleType() {
+
+        mockRandomGenerator();
+        getMockedEntityTableMapping();
+
+        final Field aLongColumn = Util.getField(RandomizeImplTestClass.class, "aLongColumn");
+        final Field id = Util.getField(RandomizeImplTestClass.class, "id");
+
+        final RandomizeImpl randomize = RandomizeImpl.newInstance(cache, randomGenerator);
+        randomize.addCustomFieldValue(aLongColumn, 1, "not a long");
+        randomize.addCustomFieldValue(id, 1, null);
+        randomize.addCustomFieldValue(aLongColumn, 0, 10L);
+
+        final RandomizeImplTestClass first = randomize.populateRandomFields(new RandomizeImplTestClass(), 0);
+        assertEquals(Long.valueOf(10L), first.aLongColumn);
+
+        final RandomizeImplTestClass second = new RandomizeImplTestClass();
+        second.aLongColumn = 5L;
+        second.id = 3;
+        randomize.populateRandomFields(second, 1);
+        assertEquals(Long.valueOf(5L), second.aLongColumn);
+        assertEquals(3, second.id);
+    }
+
+    @Test
+    public void shouldCompilePopulatorOncePerClass() {
+        mockRandomGenerator();
+        getMockedEntityTableMapping();
+
+        final CompiledPopulators populators = CompiledPopulators.newInstance(cache, randomGenerator);
+        RandomizeImpl.newInstance(populators).populateRandomFields(new RandomizeImplTestClass(), 0);
+        final RandomizeImplTestClass actual = RandomizeImpl.newInstance(populators).populateRandomFields(new RandomizeImplTestClass(), 0);
+
+        Mockito.verify(randomGenerator, Mockito.times(3)).getFieldGenerator(Mockito.any(Field.class));
+        assertNotNull(actual.aStringColumn);
+    }
+
     @Test(expected = RandomJPAException.class)
     public void shouldThrowExceptionErrorIsFoundSettingTheFieldValue() {
         getMockedEntityTableMapping();
 
-        Mockito.when(randomGenerator.generateRandom(Mockito.any(Field.class))).thenThrow(new RuntimeException());
+        Mockito.when(randomGenerator.getFieldGenerator(Mockito.any(Field.class))).thenReturn(() -> {
+            throw new RuntimeException();
+        });
 
         final RandomizeImpl randomize = RandomizeImpl.newInstance(cache, randomGenerator);
 
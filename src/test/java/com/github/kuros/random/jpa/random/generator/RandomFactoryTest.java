@@ -1,5 +1,7 @@
 package com.github.kuros.random.jpa.random.generator;
 
+import com.github.kuros.random.jpa.provider.base.LengthConstraint;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
 import com.github.kuros.random.jpa.testUtil.entity.Person;
 import org.junit.Test;
 
@@ -10,11 +12,14 @@ import java.sql.Clob;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /*
  * Copyright (c) 2015 Kumar Rohit
@@ -73,6 +78,51 @@ public class RandomFactoryTest {
         assertNotNull(randomFactory.generateRandom(ClassAsParameter.class));
     }
 
+    @Test
+    public void shouldGenerateSameValuesForSameSeed() {
+        final RandomFactory first = new RandomFactory(RandomSource.newInstance(7L));
+        final RandomFactory second = new RandomFactory(RandomSource.newInstance(7L));
+
+        assertEquals(first.generateRandom(String.class), second.generateRandom(String.class));
+        assertEquals(first.generateRandom(Long.class), second.generateRandom(Long.class));
+        assertEquals(first.generateRandom(BigDecimal.class), second.generateRandom(BigDecimal.class));
+        assertEquals(first.generateRandom(TestEnum.class), second.generateRandom(TestEnum.class));
+    }
+
+    @Test
+    public void shouldGenerateValuesInBulk() {
+        final RandomFactory randomFactory = new RandomFactory();
+
+        final Object[] strings = new Object[3];
+        randomFactory.generateInto(String.class, strings, 2);
+        assertTrue(strings[0] instanceof String);
+        assertTrue(strings[1] instanceof String);
+        assertNull(strings[2]);
+
+        final Object[] persons = new Object[2];
+        randomFactory.generateInto(Person.class, persons, 2);
+        assertTrue(persons[0] instanceof Person);
+        assertTrue(persons[1] instanceof Person);
+    }
+
+    @Test
+    public void shouldConstrainValuesOfProvidedGenerators() {
+        final RandomFactory randomFactory = new RandomFactory();
+        randomFactory.addRandomGenerator(new RandomClassGenerator() {
+            public Collection<Class<?>> getTypes() {
+                return Collections.<Class<?>>singletonList(Long.class);
+            }
+
+            public Object doGenerate(final Class<?> aClass) {
+                return 123456L;
+            }
+        });
+
+        final LengthConstraint constraint = LengthConstraint.newInstance(new ColumnDetail(null, 3, null));
+        assertEquals(Long.valueOf(456L), randomFactory.generateRandom(Long.class, constraint));
+        assertTrue(Math.abs(randomFactory.generateRandom(Integer.class, constraint)) < 1000);
+    }
+
     @Test
     public void shouldGenerateObjectWithNullOrDefaultValuesOfFields() {
         final RandomFactory randomFactory = new RandomFactory();
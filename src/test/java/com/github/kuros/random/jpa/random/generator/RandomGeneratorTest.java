@@ -2,8 +2,10 @@ package com.github.kuros.random.jpa.random.generator;
 
 import com.github.kuros.random.jpa.cache.Cache;
 import com.github.kuros.random.jpa.provider.SQLCharacterLengthProvider;
+import com.github.kuros.random.jpa.provider.model.ColumnDetail;
 import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
 import com.github.kuros.random.jpa.testUtil.RandomFixture;
+import com.github.kuros.random.jpa.testUtil.entity.Person;
 import com.github.kuros.random.jpa.testUtil.entity.Z;
 import com.github.kuros.random.jpa.testUtil.entity.Z_;
 import com.github.kuros.random.jpa.util.Util;
@@ -39,11 +41,6 @@ public class RandomGeneratorTest {
         MockitoAnnotations.initMocks(this);
         Mockito.when(cache.getSqlCharacterLengthProvider()).thenReturn(sqlCharacterLengthProvider);
 
-        //Apply no constraintForLength
-        Mockito.when(sqlCharacterLengthProvider
-                .applyLengthConstraint(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
-                .thenAnswer(invocationOnMock -> invocationOnMock.getArguments()[2]);
-
         generator = Generator.newInstance();
     }
 
@@ -70,7 +67,37 @@ public class RandomGeneratorTest {
         assertNotNull(randomActual);
         assertTrue(randomActual instanceof Long);
 
-        Mockito.verify(sqlCharacterLengthProvider, Mockito.times(1)).applyLengthConstraint(Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        Mockito.verify(sqlCharacterLengthProvider, Mockito.times(1)).getColumnDetail(Z.class.getName(), "xId");
+    }
+
+    @Test
+    public void shouldGenerateStringWithinColumnLength() {
+        Mockito.when(sqlCharacterLengthProvider.getColumnDetail(Person.class.getName(), "firstName"))
+                .thenReturn(new ColumnDetail(3, null, null));
+
+        final RandomGenerator randomGenerator = RandomGenerator.newInstance(cache);
+        final Object actual = randomGenerator.generateRandom(Util.getField(Person.class, "firstName"));
+
+        assertEquals(3, ((String) actual).length());
+    }
+
+    @Test
+    public void shouldResolveColumnConstraintOncePerField() {
+        Mockito.when(sqlCharacterLengthProvider.getColumnDetail(Z.class.getName(), "xId"))
+                .thenReturn(new ColumnDetail(null, 2, null));
+
+        final RandomGenerator randomGenerator = RandomGenerator.newInstance(cache);
+        final Field xId = Util.getField(Z.class, "xId");
+        for (int i = 0; i < 10; i++) {
+            final Long actual = (Long) randomGenerator.generateRandom(xId);
+            assertTrue(Math.abs(actual) < 100);
+        }
+
+        Mockito.verify(sqlCharacterLengthProvider, Mockito.times(1)).getColumnDetail(Z.class.getName(), "xId");
+
+        randomGenerator.clearLengthConstraints();
+        randomGenerator.generateRandom(xId);
+        Mockito.verify(sqlCharacterLengthProvider, Mockito.times(2)).getColumnDetail(Z.class.getName(), "xId");
     }
 
     @Test
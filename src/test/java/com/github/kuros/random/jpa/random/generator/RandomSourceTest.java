@@ -0,0 +1,67 @@
+package com.github.kuros.random.jpa.random.generator;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class RandomSourceTest {
+
+    @Test
+    public void shouldProduceSameValuesForSameSeed() {
+        final SplittableRandom first = RandomSource.newInstance(42L).current();
+        final SplittableRandom second = RandomSource.newInstance(42L).current();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    public void shouldKeepRandomPerThread() throws Exception {
+        final RandomSource randomSource = RandomSource.newInstance(42L);
+        final SplittableRandom mainRandom = randomSource.current();
+        assertSame(mainRandom, randomSource.current());
+
+        final AtomicReference<SplittableRandom> otherRandom = new AtomicReference<>();
+        final Thread thread = new Thread(() -> otherRandom.set(randomSource.current()));
+        thread.start();
+        thread.join();
+
+        assertNotSame(mainRandom, otherRandom.get());
+        assertNotEquals(mainRandom.nextLong(), otherRandom.get().nextLong());
+    }
+
+    @Test
+    public void shouldFixBaseTimeForSeededSource() {
+        assertEquals(RandomSource.newInstance(42L).getBaseTime(), RandomSource.newInstance(7L).getBaseTime());
+        assertEquals(Instant.EPOCH, RandomSource.newInstance(42L, Instant.EPOCH).getBaseTime());
+    }
+
+    @Test
+    public void shouldKeepSeed() {
+        assertEquals(42L, RandomSource.newInstance(42L).getSeed());
+    }
+}
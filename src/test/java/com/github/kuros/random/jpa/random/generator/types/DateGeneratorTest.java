@@ -1,9 +1,12 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
+import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 import org.junit.Test;
 
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -49,6 +52,28 @@ public class DateGeneratorTest {
         assertEquals(LocalTime.class, classes.get(6));
     }
 
+    @Test
+    public void shouldGenerateSameDatesForSameSeed() {
+        final RandomClassGenerator first = DateGenerator.newInstance(RandomSource.newInstance(42L));
+        final RandomClassGenerator second = DateGenerator.newInstance(RandomSource.newInstance(42L));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first.doGenerate(LocalDateTime.class), second.doGenerate(LocalDateTime.class));
+            assertEquals(first.doGenerate(Date.class), second.doGenerate(Date.class));
+        }
+    }
+
+    @Test
+    public void shouldGenerateDatesAroundBaseTime() {
+        final RandomClassGenerator generator = DateGenerator.newInstance(
+                RandomSource.newInstance(42L, Instant.parse("2000-06-15T00:00:00Z")));
+
+        for (int i = 0; i < 20; i++) {
+            final LocalDate date = (LocalDate) generator.doGenerate(LocalDate.class);
+            assertTrue(date.getYear() >= 1989 && date.getYear() <= 2011);
+        }
+    }
+
     @Test
     public void shouldReturnRandomDateForNullParam() {
         final Object actual = DateGenerator.getInstance().doGenerate(null);
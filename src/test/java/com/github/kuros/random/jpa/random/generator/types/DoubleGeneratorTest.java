@@ -1,11 +1,14 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
+import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -43,4 +46,24 @@ public class DoubleGeneratorTest {
         assertNotNull(actual);
         assertTrue(actual instanceof Double);
     }
+
+    @Test
+    public void testGenerateInto() {
+        final RandomClassGenerator single = DoubleGenerator.newInstance(RandomSource.newInstance(1L));
+        final RandomClassGenerator bulk = DoubleGenerator.newInstance(RandomSource.newInstance(1L));
+
+        final double[] expected = new double[4];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = (Double) single.doGenerate(Double.TYPE);
+        }
+        final double[] actual = new double[4];
+        bulk.generateInto(Double.TYPE, actual, 3);
+        assertArrayEquals(expected, actual, 0);
+
+        final Object[] boxed = new Object[3];
+        bulk.generateInto(Double.class, boxed, 3);
+        for (Object value : boxed) {
+            assertTrue(value instanceof Double);
+        }
+    }
 }
@@ -1,11 +1,14 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
+import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -43,4 +46,24 @@ public class IntegerGeneratorTest {
         assertNotNull(actual);
         assertTrue(actual instanceof Integer);
     }
+
+    @Test
+    public void testGenerateInto() {
+        final RandomClassGenerator single = IntegerGenerator.newInstance(RandomSource.newInstance(1L));
+        final RandomClassGenerator bulk = IntegerGenerator.newInstance(RandomSource.newInstance(1L));
+
+        final int[] expected = new int[4];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = (Integer) single.doGenerate(Integer.TYPE);
+        }
+        final int[] actual = new int[4];
+        bulk.generateInto(Integer.TYPE, actual, 3);
+        assertArrayEquals(expected, actual);
+
+        final Object[] boxed = new Object[3];
+        bulk.generateInto(Integer.class, boxed, 3);
+        for (Object value : boxed) {
+            assertTrue(value instanceof Integer);
+        }
+    }
 }
@@ -1,11 +1,14 @@
 package com.github.kuros.random.jpa.random.generator.types;
 
+import com.github.kuros.random.jpa.random.generator.RandomClassGenerator;
+import com.github.kuros.random.jpa.random.generator.RandomSource;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -44,4 +47,24 @@ public class LongGeneratorTest {
         assertNotNull(actual);
         assertTrue(actual instanceof Long);
     }
+
+    @Test
+    public void testGenerateInto() {
+        final RandomClassGenerator single = LongGenerator.newInstance(RandomSource.newInstance(1L));
+        final RandomClassGenerator bulk = LongGenerator.newInstance(RandomSource.newInstance(1L));
+
+        final long[] expected = new long[4];
+        for (int i = 0; i < 3; i++) {
+            expected[i] = (Long) single.doGenerate(Long.TYPE);
+        }
+        final long[] actual = new long[4];
+        bulk.generateInto(Long.TYPE, actual, 3);
+        assertArrayEquals(expected, actual);
+
+        final Object[] boxed = new Object[3];
+        bulk.generateInto(Long.class, boxed, 3);
+        for (Object value : boxed) {
+            assertTrue(value instanceof Long);
+        }
+    }
 }
@@ -42,4 +42,17 @@ public class StringGeneratorTest {
         assertNotNull(actual);
         assertTrue(actual instanceof String);
     }
+
+    @Test
+    public void testDoGenerateWithMaxLength() {
+        for (int i = 0; i < 100; i++) {
+            final String actual = (String) StringGenerator.getInstance().doGenerate(String.class, 5);
+            assertEquals(5, actual.length());
+        }
+
+        assertEquals("", StringGenerator.getInstance().doGenerate(String.class, 0));
+
+        final String unbounded = (String) StringGenerator.getInstance().doGenerate(String.class, 100);
+        assertTrue(unbounded.length() >= 10 && unbounded.length() < 42);
+    }
 }
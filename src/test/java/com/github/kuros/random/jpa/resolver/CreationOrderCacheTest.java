@@ -0,0 +1,163 @@
+package com.github.kuros.random.jpa.resolver;
+
+import com.github.kuros.random.jpa.definition.CompactGraph;
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.definition.MinimumHierarchyGenerator;
+import com.github.kuros.random.jpa.testUtil.EntityManagerProvider;
+import com.github.kuros.random.jpa.testUtil.entity.A;
+import com.github.kuros.random.jpa.testUtil.entity.B;
+import com.github.kuros.random.jpa.testUtil.entity.D;
+import com.github.kuros.random.jpa.testUtil.entity.D_;
+import com.github.kuros.random.jpa.testUtil.entity.E;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.testUtil.entity.Z_;
+import com.github.kuros.random.jpa.testUtil.hierarchyGraph.MockedHierarchyGraph;
+import com.github.kuros.random.jpa.types.ClassDepth;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.Entity;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class CreationOrderCacheTest {
+
+    private HierarchyGraph hierarchyGraph;
+    private CompactGraph graph;
+    private CreationOrderCache creationOrderCache;
+
+    @Before
+    public void setUp() {
+        hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        graph = hierarchyGraph.compact();
+        creationOrderCache = CreationOrderCache.newInstance(2);
+    }
+
+    @Test
+    public void shouldReturnCopyOfResolvedOrder() {
+        final Entity<E> entity = Entity.of(E.class);
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(Collections.<Entity>singletonList(entity));
+        final CreationOrder resolved = CreationOrderResolverImpl.newInstance(hierarchyGraph).getCreationOrder(entity);
+        creationOrderCache.put(graph, entity, planKey, resolved);
+        resolved.getOrder().get(0).setDepth(100);
+
+        final CreationOrder cached = creationOrderCache.get(graph, Entity.of(E.class, 3), planKey);
+        final CreationOrder expected = CreationOrderResolverImpl.newInstance(hierarchyGraph).getCreationOrder(entity);
+
+        assertEquals(expected.getOrder().size(), cached.getOrder().size());
+        for (int i = 0; i < expected.getOrder().size(); i++) {
+            final ClassDepth<?> expectedDepth = expected.getOrder().get(i);
+            final ClassDepth<?> cachedDepth = cached.getOrder().get(i);
+            assertEquals(expectedDepth.getType(), cachedDepth.getType());
+            assertEquals(expectedDepth.getDepth(), cachedDepth.getDepth());
+        }
+        assertEquals(3, cached.getCreationCount().get(E.class).intValue());
+
+        cached.getOrder().get(0).setDepth(100);
+        final CreationOrder again = creationOrderCache.get(graph, entity, planKey);
+        assertNotSame(cached.getOrder().get(0), again.getOrder().get(0));
+        assertEquals(expected.getOrder().get(0).getDepth(), again.getOrder().get(0).getDepth());
+        assertEquals(1, again.getCreationCount().get(E.class).intValue());
+    }
+
+    @Test
+    public void shouldMissForDifferentExtraEdges() {
+        final Entity<A> entity = Entity.of(A.class);
+        final CreationOrderCache.PlanKey noEdges = CreationOrderCache.getPlanKey(Collections.<Entity>singletonList(entity));
+        creationOrderCache.put(graph, entity, noEdges, resolve(entity));
+
+        final Entity<A> after = Entity.of(A.class).createAfter(B.class);
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(Collections.<Entity>singletonList(after));
+
+        assertNull(creationOrderCache.get(graph, after, planKey));
+    }
+
+    @Test
+    public void shouldDropEntriesWhenGraphChanges() {
+        final Entity<A> entity = Entity.of(A.class);
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(Collections.<Entity>emptyList());
+        creationOrderCache.put(graph, entity, planKey, resolve(entity));
+
+        hierarchyGraph.addNode(A.class, B.class);
+        final CompactGraph changed = hierarchyGraph.compact();
+
+        assertNull(creationOrderCache.get(changed, entity, planKey));
+        creationOrderCache.put(changed, entity, planKey, resolve(entity));
+        assertEquals(1, creationOrderCache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntry() {
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(Collections.<Entity>emptyList());
+        creationOrderCache.put(graph, Entity.of(A.class), planKey, resolve(Entity.of(A.class)));
+        creationOrderCache.put(graph, Entity.of(B.class), planKey, resolve(Entity.of(B.class)));
+        creationOrderCache.get(graph, Entity.of(A.class), planKey);
+        creationOrderCache.put(graph, Entity.of(E.class), planKey, resolve(Entity.of(E.class)));
+
+        assertEquals(2, creationOrderCache.size());
+        assertNull(creationOrderCache.get(graph, Entity.of(B.class), planKey));
+    }
+
+    @Test
+    public void shouldResolveSoftLinkTargetParentsOnlyWhenTargetIsInPlan() {
+        EntityManagerProvider.getEntityManager();
+        creationOrderCache = CreationOrderCache.newInstance();
+        final List<Entity> linkOnly = Collections.<Entity>singletonList(Entity.of(D.class).withSoftLink(D_.zId, Z_.id));
+        final List<Entity> linkWithTarget = Arrays.<Entity>asList(Entity.of(D.class).withSoftLink(D_.zId, Z_.id), Entity.of(Z.class));
+
+        assertSameOrders(resolveUncached(linkOnly), resolveCached(linkOnly));
+        assertSameOrders(resolveUncached(linkWithTarget), resolveCached(linkWithTarget));
+
+        creationOrderCache = CreationOrderCache.newInstance();
+        assertSameOrders(resolveUncached(linkWithTarget), resolveCached(linkWithTarget));
+        assertSameOrders(resolveUncached(linkOnly), resolveCached(linkOnly));
+    }
+
+    private List<CreationOrder> resolveCached(final List<Entity> entities) {
+        final CreationOrderCache.PlanKey planKey = CreationOrderCache.getPlanKey(entities);
+        final CreationOrderResolver resolver = CreationOrderResolverImpl.newInstance(MinimumHierarchyGenerator.generate(hierarchyGraph, entities));
+        final List<CreationOrder> creationOrders = new ArrayList<>();
+        for (Entity<?> entity : entities) {
+            CreationOrder creationOrder = creationOrderCache.get(graph, entity, planKey);
+            if (creationOrder == null) {
+                creationOrder = resolver.getCreationOrder(entity);
+                creationOrderCache.put(graph, entity, planKey, creationOrder);
+            }
+            creationOrders.add(creationOrder);
+        }
+        return creationOrders;
+    }
+
+    private List<CreationOrder> resolveUncached(final List<Entity> entities) {
+        final CreationOrderResolver resolver = CreationOrderResolverImpl.newInstance(MinimumHierarchyGenerator.generate(hierarchyGraph, entities));
+        final List<CreationOrder> creationOrders = new ArrayList<>();
+        for (Entity<?> entity : entities) {
+            creationOrders.add(resolver.getCreationOrder(entity));
+        }
+        return creationOrders;
+    }
+
+    private void assertSameOrders(final List<CreationOrder> expected, final List<CreationOrder> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final List<ClassDepth<?>> expectedOrder = expected.get(i).getOrder();
+            final List<ClassDepth<?>> actualOrder = actual.get(i).getOrder();
+            assertEquals(expectedOrder.size(), actualOrder.size());
+            for (int j = 0; j < expectedOrder.size(); j++) {
+                assertEquals(expectedOrder.get(j).getType(), actualOrder.get(j).getType());
+                assertEquals(expectedOrder.get(j).getDepth(), actualOrder.get(j).getDepth());
+            }
+        }
+    }
+
+    private CreationOrder resolve(final Entity<?> entity) {
+        return CreationOrderResolverImpl.newInstance(hierarchyGraph).getCreationOrder(entity);
+    }
+}
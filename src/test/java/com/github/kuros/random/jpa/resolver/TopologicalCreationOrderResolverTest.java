@@ -0,0 +1,111 @@
+package com.github.kuros.random.jpa.resolver;
+
+import com.github.kuros.random.jpa.definition.HierarchyGraph;
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import com.github.kuros.random.jpa.testUtil.entity.A;
+import com.github.kuros.random.jpa.testUtil.entity.B;
+import com.github.kuros.random.jpa.testUtil.entity.E;
+import com.github.kuros.random.jpa.testUtil.entity.X;
+import com.github.kuros.random.jpa.testUtil.entity.Y;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.testUtil.hierarchyGraph.MockedHierarchyGraph;
+import com.github.kuros.random.jpa.types.ClassDepth;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.Entity;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class TopologicalCreationOrderResolverTest {
+
+    @Test
+    public void shouldMatchDepthPropagationResolverForEveryType() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final CreationOrderResolver expectedResolver = CreationOrderResolverImpl.newInstance(hierarchyGraph);
+        final CreationOrderResolver resolver = TopologicalCreationOrderResolver.newInstance(hierarchyGraph);
+
+        for (Class<?> type : hierarchyGraph.getKeySet()) {
+            final CreationOrder expected = expectedResolver.getCreationOrder(Entity.of(type, 2));
+            final CreationOrder actual = resolver.getCreationOrder(Entity.of(type, 2));
+
+            assertEquals(depths(expected), depths(actual));
+            assertEquals(expected.getCreationCount(), actual.getCreationCount());
+            verifyParentsFirst(hierarchyGraph, actual);
+        }
+    }
+
+    @Test
+    public void shouldUseLongestPathFromAnyRequestedType() {
+        final HierarchyGraph hierarchyGraph = MockedHierarchyGraph.getHierarchyGraph();
+        final Entity[] entities = {Entity.of(A.class), Entity.of(E.class), Entity.of(Z.class)};
+
+        final CreationOrder expected = CreationOrderResolverImpl.newInstance(hierarchyGraph).getCreationOrder(entities);
+        final CreationOrder actual = TopologicalCreationOrderResolver.newInstance(hierarchyGraph).getCreationOrder(entities);
+
+        assertEquals(depths(expected), depths(actual));
+        verifyParentsFirst(hierarchyGraph, actual);
+    }
+
+    @Test
+    public void shouldResolveTypeOutsideGraph() {
+        final CreationOrder creationOrder = TopologicalCreationOrderResolver
+                .newInstance(HierarchyGraph.newInstance())
+                .getCreationOrder(Entity.of(B.class));
+
+        assertEquals(1, creationOrder.getOrder().size());
+        assertEquals(B.class, creationOrder.getOrder().get(0).getType());
+        assertEquals(0, creationOrder.getOrder().get(0).getDepth());
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldFailOnCycle() {
+        final HierarchyGraph hierarchyGraph = HierarchyGraph.newInstance();
+        hierarchyGraph.addNode(Z.class, X.class);
+        hierarchyGraph.addNode(X.class, Y.class);
+        hierarchyGraph.addNode(Y.class, X.class);
+
+        TopologicalCreationOrderResolver.newInstance(hierarchyGraph).getCreationOrder(Entity.of(Z.class));
+    }
+
+    @Test
+    public void shouldNotCompactPlanGraph() {
+        final HierarchyGraph hierarchyGraph = spy(MockedHierarchyGraph.getHierarchyGraph());
+
+        TopologicalCreationOrderResolver.newInstance(hierarchyGraph).getCreationOrder(Entity.of(E.class));
+        CreationOrderResolverImpl.newInstance(hierarchyGraph).getCreationOrder(Entity.of(E.class));
+
+        verify(hierarchyGraph, never()).compact();
+    }
+
+    private static Map<Class<?>, Integer> depths(final CreationOrder creationOrder) {
+        final Map<Class<?>, Integer> depths = new HashMap<>();
+        for (ClassDepth<?> classDepth : creationOrder.getOrder()) {
+            depths.put(classDepth.getType(), classDepth.getDepth());
+        }
+        return depths;
+    }
+
+    private static void verifyParentsFirst(final HierarchyGraph hierarchyGraph, final CreationOrder creationOrder) {
+        final List<ClassDepth<?>> order = creationOrder.getOrder();
+        for (int i = 0; i < order.size(); i++) {
+            for (Class<?> parent : hierarchyGraph.getParents(order.get(i).getType())) {
+                if (parent == order.get(i).getType()) {
+                    continue;
+                }
+                boolean before = false;
+                for (int j = 0; j < i; j++) {
+                    before |= order.get(j).getType() == parent;
+                }
+                assertTrue(parent + " should be created before " + order.get(i).getType(), before);
+            }
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package com.github.kuros.random.jpa.util;
+package com.github.kuros.random.jpa.testUtil;
 
 import com.github.kuros.random.jpa.types.ClassIndex;
 import com.github.kuros.random.jpa.types.Node;
@@ -11,10 +11,10 @@ public final class NodeHelper {
 
     public static List<ClassIndex> getClassIndexInOrder(final Node node, final Class<?> type, final int index) {
         final Stack<ClassIndex> stack = new Stack<>();
-        final Node root = Node.newInstance();
-        root.addChildNode(node);
-
-        find(stack, root, type, index);
+        stack.push(ClassIndex.newInstance(node.getType(), node.getIndex()));
+        if (!find(stack, node, type, index)) {
+            stack.pop();
+        }
 
         final List<ClassIndex> result = new ArrayList<>();
         while (!stack.empty()) {
@@ -38,7 +38,7 @@ public final class NodeHelper {
             if (found) {
                 break;
             } else {
-                stack.remove(ClassIndex.newInstance(childNode.getType(), childNode.getIndex()));
+                stack.pop();
             }
         }
 
@@ -0,0 +1,41 @@
+package com.github.kuros.random.jpa.testUtil.entity;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "cascade_child")
+public class CascadeChild {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "cascade_parent_id")
+    private CascadeParent cascadeParent;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public CascadeParent getCascadeParent() {
+        return cascadeParent;
+    }
+
+    public void setCascadeParent(final CascadeParent cascadeParent) {
+        this.cascadeParent = cascadeParent;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.kuros.random.jpa.types;
+
+import com.github.kuros.random.jpa.testUtil.NodeHelper;
+import com.github.kuros.random.jpa.testUtil.entity.X;
+import com.github.kuros.random.jpa.testUtil.entity.Y;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.v1.resolver.CreationPlanResolver;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class CreationPlanImplTest {
+
+    @Test
+    public void shouldFindAncestorsLikeTreeSearch() {
+        final CreationPlanImpl creationPlan = getCreationPlan();
+
+        for (int index = 0; index < 12; index++) {
+            final List<ClassIndex> expected = NodeHelper.getClassIndexInOrder(creationPlan.getRoot(), Z.class, index);
+            final List<ClassIndex> actual = creationPlan.getClassIndexInOrder(Z.class, index);
+
+            assertEquals(expected.subList(0, expected.size() - 1), actual);
+        }
+
+        final List<ClassIndex> classIndices = creationPlan.getClassIndexInOrder(Z.class, 7);
+        assertEquals(ClassIndex.newInstance(Y.class, 2), classIndices.get(0));
+        assertEquals(ClassIndex.newInstance(X.class, 1), classIndices.get(1));
+    }
+
+    @Test
+    public void shouldReturnEmptyListForUnknownOrDeletedNodes() {
+        final CreationPlanImpl creationPlan = getCreationPlan();
+        creationPlan.deleteItem(Y.class, 0);
+
+        assertTrue(creationPlan.getClassIndexInOrder(Z.class, 12).isEmpty());
+        assertTrue(creationPlan.getClassIndexInOrder(A.class, 0).isEmpty());
+        assertTrue(creationPlan.getClassIndexInOrder(Z.class, 1).isEmpty());
+        assertEquals(1, creationPlan.getClassIndexInOrder(Y.class, 0).size());
+    }
+
+    private CreationPlanImpl getCreationPlan() {
+        final CreationOrder creationOrder = CreationOrder.newInstance();
+        creationOrder.add(ClassDepth.newInstance(X.class, 2));
+        creationOrder.add(ClassDepth.newInstance(Y.class, 1));
+        creationOrder.add(ClassDepth.newInstance(Z.class, 0));
+        creationOrder.addCreationCount(X.class, 2);
+        creationOrder.addCreationCount(Y.class, 2);
+        creationOrder.addCreationCount(Z.class, 3);
+        return (CreationPlanImpl) CreationPlanResolver.newInstance(null, creationOrder).create();
+    }
+
+    private static final class A {
+    }
+}
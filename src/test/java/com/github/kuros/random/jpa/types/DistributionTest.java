@@ -0,0 +1,72 @@
+package com.github.kuros.random.jpa.types;
+
+import com.github.kuros.random.jpa.exception.RandomJPAException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class DistributionTest {
+
+    @Test
+    public void shouldAssignEveryChildToAParentUniformly() {
+        final int[] assignment = Distribution.uniform().assign(1000, 10, new Random(7));
+
+        assertEquals(1000, assignment.length);
+        final int[] counts = countPerParent(assignment, 10);
+        for (int count : counts) {
+            assertTrue(count > 50);
+        }
+    }
+
+    @Test
+    public void shouldFavourLowerRanksWithZipf() {
+        final int[] assignment = Distribution.zipf(1.1).assign(10000, 500, new Random(7));
+
+        assertEquals(10000, assignment.length);
+        final int[] counts = countPerParent(assignment, 500);
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertTrue(counts[0] > 10 * counts[499]);
+    }
+
+    @Test
+    public void shouldBehaveUniformlyWithZeroExponent() {
+        final int[] counts = countPerParent(Distribution.zipf(0).assign(1000, 4, new Random(7)), 4);
+
+        for (int count : counts) {
+            assertTrue(count > 200);
+        }
+    }
+
+    @Test(expected = RandomJPAException.class)
+    public void shouldRejectNegativeExponent() {
+        Distribution.zipf(-1);
+    }
+
+    private int[] countPerParent(final int[] assignment, final int parentCount) {
+        final int[] counts = new int[parentCount];
+        for (int parent : assignment) {
+            counts[parent]++;
+        }
+        return counts;
+    }
+}
@@ -4,16 +4,25 @@ import com.github.kuros.random.jpa.testUtil.entity.A;
 import com.github.kuros.random.jpa.testUtil.entity.B;
 import com.github.kuros.random.jpa.testUtil.entity.C;
 import com.github.kuros.random.jpa.testUtil.entity.D;
+import com.github.kuros.random.jpa.testUtil.entity.E;
+import com.github.kuros.random.jpa.testUtil.entity.F;
+import com.github.kuros.random.jpa.testUtil.entity.P;
+import com.github.kuros.random.jpa.testUtil.entity.Q;
+import com.github.kuros.random.jpa.testUtil.entity.R;
 import com.github.kuros.random.jpa.testUtil.entity.X;
 import com.github.kuros.random.jpa.testUtil.entity.Y;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
 import com.github.kuros.random.jpa.types.ClassDepth;
 import com.github.kuros.random.jpa.types.CreationOrder;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -212,4 +221,87 @@ public class MergeUtilTest {
         assertEquals(C.class, order.get(2).getType());
         assertEquals(4, order.get(2).getDepth());
     }
+
+    @Test
+    public void shouldMatchSequentialMergeForRandomOrders() {
+        final Class<?>[] types = {A.class, B.class, C.class, D.class, E.class, F.class, X.class, Y.class, Z.class,
+                P.class, Q.class, R.class};
+        final Random random = new Random(7);
+
+        for (int run = 0; run < 200; run++) {
+            final List<CreationOrder> input = new ArrayList<>();
+            final List<CreationOrder> referenceInput = new ArrayList<>();
+            final int orders = 1 + random.nextInt(8);
+            for (int i = 0; i < orders; i++) {
+                final CreationOrder creationOrder = CreationOrder.newInstance();
+                final CreationOrder referenceOrder = CreationOrder.newInstance();
+                final List<Class<?>> shuffled = new ArrayList<>(Arrays.asList(types));
+                Collections.shuffle(shuffled, random);
+                for (Class<?> type : shuffled.subList(0, 1 + random.nextInt(4))) {
+                    final int depth = random.nextInt(5);
+                    creationOrder.add(ClassDepth.newInstance(type, depth));
+                    referenceOrder.add(ClassDepth.newInstance(type, depth));
+                }
+                final Class<?> root = creationOrder.getOrder().get(0).getType();
+                final int count = 1 + random.nextInt(3);
+                creationOrder.addCreationCount(root, count);
+                referenceOrder.addCreationCount(root, count);
+                input.add(creationOrder);
+                referenceInput.add(referenceOrder);
+            }
+
+            final List<CreationOrder> expected = sequentialMerge(referenceInput);
+            final List<CreationOrder> actual = MergeUtil.merge(input);
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(describe(expected.get(i)), describe(actual.get(i)));
+                assertEquals(expected.get(i).getCreationCount(), actual.get(i).getCreationCount());
+            }
+        }
+    }
+
+    private static String describe(final CreationOrder creationOrder) {
+        final StringBuilder builder = new StringBuilder();
+        for (ClassDepth<?> classDepth : creationOrder.getOrder()) {
+            builder.append(classDepth.getType().getSimpleName()).append(':').append(classDepth.getDepth()).append(' ');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reference merge: every order absorbs, in encounter order, the earlier merged orders it shares a class with.
+     */
+    private static List<CreationOrder> sequentialMerge(final List<CreationOrder> creationOrders) {
+        final List<CreationOrder> merged = new ArrayList<>();
+        for (CreationOrder creationOrder : creationOrders) {
+            final CreationOrder combined = CreationOrder.newInstance();
+            creationOrder.getOrder().forEach(combined::add);
+            combined.addCreationCount(creationOrder.getCreationCount());
+
+            for (ClassDepth<?> classDepth : creationOrder.getOrder()) {
+                for (int i = 0; i < merged.size(); i++) {
+                    final CreationOrder inner = merged.get(i);
+                    if (inner.containsClass(classDepth.getType())) {
+                        merged.remove(i);
+                        for (ClassDepth<?> innerDepth : inner.getOrder()) {
+                            final int index = combined.getOrder().indexOf(innerDepth);
+                            if (index < 0) {
+                                combined.add(innerDepth);
+                            } else if (combined.getOrder().get(index).getDepth() < innerDepth.getDepth()) {
+                                combined.getOrder().get(index).setDepth(innerDepth.getDepth());
+                            }
+                        }
+                        combined.addCreationCount(inner.getCreationCount());
+                        break;
+                    }
+                }
+            }
+
+            if (!combined.getOrder().isEmpty()) {
+                merged.add(combined);
+            }
+        }
+        return merged;
+    }
 }
@@ -1,6 +1,8 @@
 package com.github.kuros.random.jpa.util;
 
 import com.github.kuros.random.jpa.cache.Cache;
+import com.github.kuros.random.jpa.exception.MethodInvocationException;
+import com.github.kuros.random.jpa.exception.MethodNotFoundException;
 import com.github.kuros.random.jpa.exception.RandomJPAException;
 import com.github.kuros.random.jpa.metamodel.AttributeProvider;
 import com.github.kuros.random.jpa.metamodel.model.EntityTableMapping;
@@ -168,6 +170,25 @@ public class UtilTest {
         assertEquals(testClass.getId(), fieldValue);
     }
 
+    @Test
+    public void shouldInvokeInheritedMethodUsingCachedHandle() {
+        final SubTestClass testClass = new SubTestClass(10, "value");
+
+        assertEquals(10, Util.invokeMethod(testClass, "getId"));
+        assertEquals(10, Util.invokeMethod(testClass, "getId"));
+        assertEquals("prefix-value", Util.invokeMethod(testClass, "describe", "prefix-"));
+    }
+
+    @Test(expected = MethodNotFoundException.class)
+    public void shouldThrowExceptionWhenMethodIsNotFound() {
+        Util.invokeMethod(new SubTestClass(10, "value"), "describe", 10);
+    }
+
+    @Test(expected = MethodInvocationException.class)
+    public void shouldThrowExceptionWhenInvokedMethodFails() {
+        Util.invokeMethod(new SubTestClass(10, "value"), "failure");
+    }
+
     private class TestClass {
         private int id;
         private String value;
@@ -193,6 +214,14 @@ public class UtilTest {
         public String getSomeDifferentSignature() {
             return differentSignature;
         }
+
+        private String describe(final String prefix) {
+            return prefix + value;
+        }
+
+        private void failure() {
+            throw new IllegalStateException();
+        }
     }
 
     private class SubTestClass extends TestClass {
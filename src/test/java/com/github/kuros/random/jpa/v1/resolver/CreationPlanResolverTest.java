@@ -0,0 +1,175 @@
+package com.github.kuros.random.jpa.v1.resolver;
+
+import com.github.kuros.random.jpa.testUtil.entity.X;
+import com.github.kuros.random.jpa.testUtil.entity.Y;
+import com.github.kuros.random.jpa.testUtil.entity.Z;
+import com.github.kuros.random.jpa.types.ClassDepth;
+import com.github.kuros.random.jpa.types.CreationOrder;
+import com.github.kuros.random.jpa.types.CreationPlanImpl;
+import com.github.kuros.random.jpa.types.Node;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * Copyright (c) 2015 Kumar Rohit
+ *
+ *    This program is free software: you can redistribute it and/or modify
+ *    it under the terms of the GNU Lesser General Public License as published by
+ *    the Free Software Foundation, either version 3 of the License or any
+ *    later version.
+ *
+ *    This program is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *    GNU Lesser General Public License for more details.
+ *
+ *    You should have received a copy of the GNU Lesser General Public License
+ *    along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+public class CreationPlanResolverTest {
+
+    @Test
+    public void shouldRepeatEachLevelUnderEveryParentByDefault() {
+        final NodeLayout layout = CreationPlanResolver.newInstance(null, getCreationOrder()).layout();
+
+        assertEquals(2 + 2 + 10, layout.size());
+        assertEquals(10, count(layout, Z.class));
+    }
+
+    @Test
+    public void shouldCreateEachNodeOnceWithSharedParents() {
+        final NodeLayout layout = CreationPlanResolver.newInstance(null, getCreationOrder())
+                .withSharedParents(true)
+                .layout();
+
+        assertEquals(2 + 1 + 5, layout.size());
+        assertEquals(X.class, layout.getType(0));
+        assertEquals(Y.class, layout.getType(1));
+        assertEquals(0, layout.getParent(1));
+        for (int slot = 2; slot < 7; slot++) {
+            assertEquals(Z.class, layout.getType(slot));
+            assertEquals(slot - 2, layout.getIndex(slot));
+            assertEquals(1, layout.getParent(slot));
+        }
+
+        assertEquals(X.class, layout.getType(7));
+        assertEquals(1, layout.getIndex(7));
+        assertEquals(-1, layout.getParent(7));
+    }
+
+    @Test
+    public void shouldSpreadChildrenOverSharedParentsInBlocks() {
+        final CreationOrder creationOrder = CreationOrder.newInstance();
+        creationOrder.add(ClassDepth.newInstance(X.class, 1));
+        creationOrder.add(ClassDepth.newInstance(Z.class, 0));
+        creationOrder.addCreationCount(X.class, 2);
+        creationOrder.addCreationCount(Z.class, 5);
+
+        final NodeLayout layout = CreationPlanResolver.newInstance(null, creationOrder)
+                .withSharedParents(true)
+                .layout();
+
+        assertEquals(7, layout.size());
+        final int[] expectedParents = {-1, 0, 0, 0, -1, 4, 4};
+        for (int slot = 0; slot < layout.size(); slot++) {
+            assertEquals(expectedParents[slot], layout.getParent(slot));
+        }
+    }
+
+    @Test
+    public void shouldCreateDistributedTypeOnceAfterAllParents() {
+        final NodeLayout layout = CreationPlanResolver.newInstance(null, getCreationOrder())
+                .withDistributedTypes(Collections.<Class<?>>singleton(Z.class))
+                .layout();
+
+        assertEquals(2 + 2 + 5, layout.size());
+        assertEquals(Y.class, layout.getType(3));
+        for (int slot = 4; slot < layout.size(); slot++) {
+            assertEquals(Z.class, layout.getType(slot));
+            assertEquals(3, layout.getParent(slot));
+        }
+    }
+
+    @Test
+    public void shouldNotInstantiateEntitiesWhenCreatingPlan() {
+        final NodeLayout layout = CreationPlanResolver.newInstance(null, getCreationOrder()).layout();
+        final CreationPlanImpl creationPlan = (CreationPlanImpl) CreationPlanResolver.create(null, null, layout);
+
+        final List<Node> nodes = creationPlan.getCreatedNodeMap().get(Z.class);
+        assertEquals(10, nodes.size());
+        for (Node node : nodes) {
+            assertNull(node.getValue());
+            assertFalse(node.isDeleted());
+        }
+    }
+
+    @Test
+    public void shouldProduceRecordsWithParentReferences() {
+        final Iterator<PlanRecord> records = CreationPlanResolver.newInstance(null, getCreationOrder())
+                .withSharedParents(true)
+                .records();
+
+        assertTrue(records.hasNext());
+        assertTrue(records.hasNext());
+        final PlanRecord x = records.next();
+        assertEquals(X.class, x.getType());
+        assertEquals(0, x.getLevel());
+        assertNull(x.getParentType());
+
+        final PlanRecord y = records.next();
+        assertEquals(Y.class, y.getType());
+        assertEquals(X.class, y.getParentType());
+        assertEquals(0, y.getParentIndex());
+
+        for (int i = 0; i < 5; i++) {
+            final PlanRecord z = records.next();
+            assertEquals(Z.class, z.getType());
+            assertEquals(i, z.getIndex());
+            assertEquals(2, z.getLevel());
+            assertEquals(Y.class, z.getParentType());
+            assertEquals(0, z.getParentIndex());
+        }
+
+        final PlanRecord lastX = records.next();
+        assertEquals(1, lastX.getIndex());
+        assertFalse(records.hasNext());
+    }
+
+    @Test
+    public void shouldCountRecordsPerType() {
+        final Map<Class<?>, Integer> counts = CreationPlanResolver.newInstance(null, getCreationOrder()).countRecords();
+
+        assertEquals(2, counts.get(X.class).intValue());
+        assertEquals(2, counts.get(Y.class).intValue());
+        assertEquals(10, counts.get(Z.class).intValue());
+    }
+
+    private CreationOrder getCreationOrder() {
+        final CreationOrder creationOrder = CreationOrder.newInstance();
+        creationOrder.add(ClassDepth.newInstance(X.class, 2));
+        creationOrder.add(ClassDepth.newInstance(Y.class, 1));
+        creationOrder.add(ClassDepth.newInstance(Z.class, 0));
+        creationOrder.addCreationCount(X.class, 2);
+        creationOrder.addCreationCount(Z.class, 5);
+        return creationOrder;
+    }
+
+    private int count(final NodeLayout layout, final Class<?> type) {
+        int count = 0;
+        for (int slot = 0; slot < layout.size(); slot++) {
+            if (layout.getType(slot) == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+}